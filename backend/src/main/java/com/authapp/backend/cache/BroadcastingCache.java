@@ -0,0 +1,93 @@
+package com.authapp.backend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache whose evictions are announced to the other nodes. Keys travel
+ * as {@code toString()}, so caches shared across nodes should use string keys.
+ *
+ * <p>{@code put} is not announced: a cache-aside fill must not evict the entry on
+ * every other node. Writes that change data evict instead of putting.
+ */
+public class BroadcastingCache implements Cache {
+
+    private final CaffeineCache local;
+    private final CacheInvalidationBus bus;
+
+    BroadcastingCache(CaffeineCache local, CacheInvalidationBus bus) {
+        this.local = local;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        bus.publish(getName(), String.valueOf(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        bus.publish(getName(), String.valueOf(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        bus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = local.invalidate();
+        bus.publish(getName(), null);
+        return notEmpty;
+    }
+
+    void apply(CacheInvalidation invalidation) {
+        if (invalidation.key() == null) {
+            local.invalidate();
+        } else {
+            local.evict(invalidation.key());
+        }
+    }
+}
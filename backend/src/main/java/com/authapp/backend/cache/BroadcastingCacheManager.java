@@ -0,0 +1,51 @@
+package com.authapp.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fixed set of Caffeine caches, each configured by a {@link CaffeineSpec}
+ * string, kept coherent across nodes through a {@link CacheInvalidationBus}.
+ * Asking for an undeclared cache returns {@code null} rather than creating an
+ * unbounded one.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final Map<String, BroadcastingCache> caches = new LinkedHashMap<>();
+
+    public BroadcastingCacheManager(Map<String, String> specs, CacheInvalidationBus bus) {
+        specs.forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+            caches.put(name, new BroadcastingCache(new CaffeineCache(name, builder.build(), true), bus));
+        });
+        bus.subscribe(this::apply);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        if (invalidation.cacheName() == null) {
+            caches.values().forEach(cache -> cache.apply(new CacheInvalidation(invalidation.origin(), cache.getName(), null)));
+            return;
+        }
+        BroadcastingCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.apply(invalidation);
+        }
+    }
+}
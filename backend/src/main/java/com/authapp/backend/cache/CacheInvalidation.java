@@ -0,0 +1,33 @@
+package com.authapp.backend.cache;
+
+/**
+ * Eviction announced by one node to the others.
+ *
+ * @param origin    node that made the change
+ * @param cacheName cache to evict from, or {@code null} for every cache
+ * @param key       key to evict, or {@code null} to clear the cache
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final char SEPARATOR = '|';
+
+    static CacheInvalidation everything(String origin) {
+        return new CacheInvalidation(origin, null, null);
+    }
+
+    String encode() {
+        StringBuilder payload = new StringBuilder(origin).append(SEPARATOR).append(cacheName);
+        if (key != null) {
+            payload.append(SEPARATOR).append(key);
+        }
+        return payload.toString();
+    }
+
+    static CacheInvalidation decode(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + payload);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.authapp.backend.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries evictions between backend nodes so their local caches stay coherent.
+ * A node never receives its own messages.
+ */
+public interface CacheInvalidationBus {
+
+    /** Tells the other nodes to drop {@code key} ({@code null}: everything) from {@code cacheName}. */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers a handler for evictions made elsewhere. A message with a
+     * {@code null} cache name means messages may have been lost and every cache
+     * should be cleared.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
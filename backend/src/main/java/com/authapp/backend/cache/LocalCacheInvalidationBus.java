@@ -0,0 +1,49 @@
+package com.authapp.backend.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Bus for a single JVM. With one backend there is nobody to notify; several
+ * cache managers sharing one instance (each with its own origin) behave like
+ * separate nodes, which is how the multi-node path is exercised without a database.
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Subscriber> subscribers;
+    private final String origin;
+
+    public LocalCacheInvalidationBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private LocalCacheInvalidationBus(List<Subscriber> subscribers) {
+        this.subscribers = subscribers;
+        this.origin = UUID.randomUUID().toString();
+    }
+
+    /** Another simulated node on the same in-memory channel. */
+    public LocalCacheInvalidationBus peer() {
+        return new LocalCacheInvalidationBus(subscribers);
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        CacheInvalidation invalidation = new CacheInvalidation(origin, cacheName, key);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.origin().equals(origin)) {
+                subscriber.listener().accept(invalidation);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        subscribers.add(new Subscriber(origin, listener));
+    }
+
+    private record Subscriber(String origin, Consumer<CacheInvalidation> listener) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.authapp.backend.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Bus over PostgreSQL {@code LISTEN/NOTIFY}. Messages are sent through the
+ * application pool and received on one dedicated connection outside it. After
+ * that connection drops, subscribers are told to clear everything, because
+ * notifications sent in the meantime are lost.
+ */
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    static final String CHANNEL = "app_cache_invalidation";
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 2_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String origin = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    public PostgresCacheInvalidationBus(DataSource dataSource, String url, String username, String password) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        this.listenerThread.setDaemon(true);
+        this.listenerThread.start();
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        String payload = new CacheInvalidation(origin, cacheName, key).encode();
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CHANNEL, payload);
+        } catch (RuntimeException e) {
+            // Other nodes keep a stale entry until it expires; never fail the caller's request for it.
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    log.info("Cache invalidation listener reconnected; clearing local caches");
+                    deliver(CacheInvalidation.everything(origin));
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return;
+        }
+        if (!origin.equals(invalidation.origin())) {
+            deliver(invalidation);
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation handler failed: {}", e.getMessage());
+            }
+        }
+    }
+}
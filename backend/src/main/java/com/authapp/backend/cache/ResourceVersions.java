@@ -0,0 +1,114 @@
+package com.authapp.backend.cache;
+
+import com.authapp.backend.datasource.ReplicaLagMonitor;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityChangedEvent;
+import com.authapp.backend.event.EntityKind;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-owner version numbers of the data behind read-heavy endpoints, used as
+ * HTTP validators so a conditional GET is answered with 304 before any
+ * repository query runs.
+ *
+ * <p>Versions are bumped after commit from {@link EntityChangedEvent}s, and from
+ * the invalidation bus for writes made on other nodes. Each owner gets a random
+ * tag when first seen here, so a validator issued to another user, by another
+ * node or by an earlier process never matches.
+ *
+ * <p>With read replicas, every write also keeps the owner's reads on the
+ * primary for a while, so a fresh tag is never paired with data a replica has
+ * not caught up with yet.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String CHANNEL = "resource-versions";
+
+    /** Responses may be stored by the browser but must be revalidated on every use. */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ConcurrentMap<String, OwnerVersions> owners = new ConcurrentHashMap<>();
+
+    public ResourceVersions(CacheInvalidationBus cacheInvalidationBus,
+                            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.replicaLagMonitor = replicaLagMonitor.getIfAvailable();
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (invalidation.cacheName() == null) {
+                // Bumps may have been lost; new tags make every outstanding validator stale.
+                owners.clear();
+                if (this.replicaLagMonitor != null) {
+                    this.replicaLagMonitor.wroteAll();
+                }
+            } else if (CHANNEL.equals(invalidation.cacheName()) && invalidation.key() != null) {
+                String[] parts = invalidation.key().split(":", 2);
+                if (parts.length == 2) {
+                    bump(parts[1], EntityKind.valueOf(parts[0]));
+                }
+            }
+        });
+    }
+
+    /** Entity tag for a representation built from the owner's data of the given kinds. */
+    public String etag(String ownerEmail, EntityKind... kinds) {
+        return etag(ownerEmail, null, kinds);
+    }
+
+    /**
+     * Entity tag for a representation that also depends on the current date.
+     * Tags are weak: they identify the data, not the bytes, and Tomcat only
+     * compresses responses whose tag is weak.
+     */
+    public String etag(String ownerEmail, LocalDate day, EntityKind... kinds) {
+        OwnerVersions versions = owners.computeIfAbsent(ownerEmail, owner -> new OwnerVersions());
+        StringBuilder etag = new StringBuilder("W/\"").append(versions.tag);
+        for (EntityKind kind : kinds) {
+            etag.append('-').append(versions.counters.get(kind.ordinal()));
+        }
+        if (day != null) {
+            etag.append('-').append(day);
+        }
+        return etag.append('"').toString();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        bump(event.ownerEmail(), event.kind());
+        cacheInvalidationBus.publish(CHANNEL, event.kind().name() + ":" + event.ownerEmail());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        bump(event.ownerEmail(), event.kind());
+        cacheInvalidationBus.publish(CHANNEL, event.kind().name() + ":" + event.ownerEmail());
+    }
+
+    private void bump(String ownerEmail, EntityKind kind) {
+        if (replicaLagMonitor != null) {
+            replicaLagMonitor.wrote(ownerEmail);
+        }
+        OwnerVersions versions = owners.get(ownerEmail);
+        // Owners without a tag yet have no validators out there to invalidate.
+        if (versions != null) {
+            versions.counters.incrementAndGet(kind.ordinal());
+        }
+    }
+
+    private static final class OwnerVersions {
+
+        private final String tag = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+        private final AtomicLongArray counters = new AtomicLongArray(EntityKind.values().length);
+    }
+}
@@ -0,0 +1,61 @@
+package com.authapp.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for {@code @Async} work. Request threads and the default
+ * {@code applicationTaskExecutor} switch to virtual threads through
+ * {@code spring.threads.virtual.enabled}; the mail pool stays on platform
+ * threads on purpose.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Declared here because Boot backs off its own {@code applicationTaskExecutor}
+     * as soon as any other executor bean exists. It also serves async MVC
+     * handlers and is the default for {@code @Async}.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.virtualThreads(true).build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    /**
+     * SMTP delivery. Jakarta Mail guards the transport connection with
+     * {@code synchronized}, which pins the carrier thread for the whole SMTP
+     * exchange on JDK 21, so notifications run on a small platform pool.
+     */
+    @Bean
+    public TaskExecutor mailTaskExecutor(@Value("${app.async.mail.pool-size:4}") int poolSize,
+                                         @Value("${app.async.mail.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.authapp.backend.config;
+
+import com.authapp.backend.cache.BroadcastingCache;
+import com.authapp.backend.cache.BroadcastingCacheManager;
+import com.authapp.backend.cache.CacheInvalidationBus;
+import com.authapp.backend.cache.LocalCacheInvalidationBus;
+import com.authapp.backend.cache.PostgresCacheInvalidationBus;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Local Caffeine caches declared under {@code app.cache.specs.<name>}, with
+ * evictions broadcast to the other nodes on the bus selected by
+ * {@code app.cache.invalidation-bus}. Hit/miss/eviction counts are published as
+ * {@code cache.*} metrics. The caches endpoint is not exposed over HTTP: it can
+ * clear every tenant's entries, which only the invalidation bus should do.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation-bus", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation-bus", havingValue = "postgres")
+    public CacheInvalidationBus postgresCacheInvalidationBus(DataSource dataSource, DataSourceProperties properties) {
+        return new PostgresCacheInvalidationBus(dataSource, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+    }
+
+    @Bean
+    public CacheManager cacheManager(Environment environment, CacheInvalidationBus cacheInvalidationBus) {
+        Map<String, String> specs = Binder.get(environment)
+                .bind("app.cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        return new BroadcastingCacheManager(specs, cacheInvalidationBus);
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<BroadcastingCache> broadcastingCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+}
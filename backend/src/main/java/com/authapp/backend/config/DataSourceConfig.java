@@ -0,0 +1,147 @@
+package com.authapp.backend.config;
+
+import com.authapp.backend.datasource.ReplicaLagMonitor;
+import com.authapp.backend.datasource.RoutingDataSource;
+import com.authapp.backend.datasource.Workload;
+import com.authapp.backend.datasource.WorkloadPools;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Connection pools. The primary database built from {@code spring.datasource.*}
+ * gets one Hikari pool per {@link Workload}: {@code spring.datasource.hikari.*}
+ * applies to all of them and {@code app.datasource.pools.<workload>.*} on top.
+ * Read replicas listed in {@code app.datasource.replicas.urls} serve read-only
+ * transactions while they keep up. The application {@link DataSource} routes
+ * each transaction to the right pool.
+ *
+ * <p>Every pool reports Hikari's {@code hikaricp.connections.*} meters, with
+ * the time spent waiting for a connection as {@code hikaricp.connections.acquire},
+ * plus {@code app.datasource.pool.saturation}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+    private static final long REPLICA_CONNECTION_TIMEOUT_MS = 5_000;
+
+    @Bean
+    public WorkloadPools workloadPools(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            binder.bind("app.datasource.pools." + workload.poolName(), Bindable.ofInstance(pool));
+            pool.setPoolName(workload.poolName());
+            pools.put(workload, instrument(pool, environment, meterRegistry));
+        }
+        return new WorkloadPools(pools);
+    }
+
+    @Bean
+    @ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isBlank()")
+    public ReplicaLagMonitor replicaLagMonitor(WorkloadPools workloadPools,
+                                               DataSourceProperties properties,
+                                               Environment environment,
+                                               @Value("${app.datasource.replicas.urls}") String urls,
+                                               @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                               @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                               @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+                                               @Value("${app.datasource.replicas.max-lag:PT2S}") Duration maxLag,
+                                               @Value("${app.datasource.replicas.heartbeat:true}") boolean heartbeat,
+                                               @Value("${app.datasource.replicas.check-interval:PT1S}") Duration checkInterval,
+                                               MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // A dead replica must not hold the lag check for 30s while its last verdict goes stale.
+            replica.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MS);
+            replicas.put(name, instrument(replica, environment, meterRegistry));
+        }
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(workloadPools.get(Workload.BACKGROUND), replicas, maxLag,
+                checkInterval, heartbeat, meterRegistry);
+        monitor.start();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadPools workloadPools,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        RoutingDataSource routing = new RoutingDataSource(workloadPools.asMap(), replicaLagMonitor.getIfAvailable(),
+                meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Hibernate would otherwise keep the first connection of an open-in-view
+     * session until the request ends, so every later transaction in the request
+     * would run on that pool and a slow response would hold it while rendering.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource instrument(HikariDataSource pool, Environment environment, MeterRegistry meterRegistry) {
+        if (pool.getJdbcUrl() != null && pool.getJdbcUrl().startsWith(POSTGRES_URL_PREFIX)) {
+            // pgjdbc switches a statement to a server-side prepared one after prepareThreshold
+            // executions and keeps it per connection; H2 rejects these properties.
+            pool.addDataSourceProperty("prepareThreshold",
+                    environment.getProperty("app.datasource.postgres.prepare-threshold", "5"));
+            pool.addDataSourceProperty("preparedStatementCacheQueries",
+                    environment.getProperty("app.datasource.postgres.statement-cache-queries", "256"));
+            pool.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                    environment.getProperty("app.datasource.postgres.statement-cache-size-mib", "5"));
+        }
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        Gauge.builder("app.datasource.pool.saturation", pool, DataSourceConfig::saturation)
+                .description("Share of the pool's connections in use")
+                .tag("pool", pool.getPoolName())
+                .register(meterRegistry);
+        return pool;
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        return bean == null ? 0 : (double) bean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
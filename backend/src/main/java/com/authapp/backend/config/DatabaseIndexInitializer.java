@@ -0,0 +1,73 @@
+package com.authapp.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Creates the vendor specific indexes that JPA annotations cannot describe.
+ * Runs after Hibernate has created/updated the schema, so the tables exist.
+ */
+@Component
+public class DatabaseIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseIndexInitializer.class);
+
+    private static final List<String> POSTGRES_TRIGRAM_INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_service_orders_customer_trgm ON finance_service_orders " +
+                    "USING gin (lower(customer_name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_service_orders_description_trgm ON finance_service_orders " +
+                    "USING gin (lower(description) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_service_orders_technician_trgm ON finance_service_orders " +
+                    "USING gin (lower(assigned_technician) gin_trgm_ops)"
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseIndexInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String product = databaseProduct();
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            // H2 has no trigram support; the composite (owner, status, created_at) index
+            // declared on the entity narrows the scan to a single owner instead.
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (Exception e) {
+            log.warn("pg_trgm extension unavailable, text search will not use trigram indexes: {}", e.getMessage());
+            return;
+        }
+
+        for (String ddl : POSTGRES_TRIGRAM_INDEXES) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                log.warn("Failed to create index: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String databaseProduct() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName();
+        } catch (Exception e) {
+            log.warn("Could not detect database product: {}", e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.authapp.backend.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Boot registers every Jackson {@code Module} bean with its ObjectMapper.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Property access through generated lambdas instead of reflection, for
+     * the response records serialized on every list call.
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,33 @@
+package com.authapp.backend.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * springdoc serves {@code /v3/api-docs} and {@code /swagger-ui.html}, which
+ * nobody opens on most nodes. Its beans are made lazy so the scanners,
+ * customizers and UI handlers are only created on the first request to them.
+ */
+@Configuration
+public class OpenApiConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(name, false);
+                if (type != null && type.getName().startsWith(SPRINGDOC_PACKAGE)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
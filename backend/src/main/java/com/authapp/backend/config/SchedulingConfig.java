@@ -0,0 +1,27 @@
+package com.authapp.backend.config;
+
+import com.authapp.backend.datasource.Workload;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Housekeeping jobs ({@code @Scheduled}) run as the
+ * {@link Workload#BACKGROUND} workload, so they take connections from the
+ * background pool. Declared here because Boot's virtual-thread scheduler runs
+ * fixed-delay jobs without the task decorator; the scheduler stays on
+ * platform threads ({@code spring.task.scheduling.*}) either way.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder threadPoolTaskSchedulerBuilder) {
+        ThreadPoolTaskScheduler scheduler = threadPoolTaskSchedulerBuilder.build();
+        scheduler.setTaskDecorator(Workload.BACKGROUND::wrap);
+        return scheduler;
+    }
+}
@@ -1,8 +1,12 @@
 package com.authapp.backend.config;
 
 import com.authapp.backend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -24,6 +28,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private volatile int managementPort = -1;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
@@ -50,9 +55,18 @@ public class SecurityConfig {
                 })
             )
                 .authorizeHttpRequests(auth -> auth
+                    // Completion of an already authorized async request (live update streams).
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                    // Error page of a request that already passed (or failed) the rules below; without
+                    // this every 4xx/5xx of an authenticated call reached the client as 401.
+                    .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                    // Actuator port: not published, reached by Prometheus and the orchestrator only.
+                    .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
                     .requestMatchers(
                         "/api/auth/**",
-                        "/actuator/health",
+                        "/.well-known/jwks.json",
+                        "/livez",
+                        "/readyz",
                         "/swagger-ui/**",
                         "/swagger-ui.html",
                         "/v3/api-docs/**"
@@ -64,10 +78,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if ("management".equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -77,7 +98,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("*"));
+        // "*" is not honoured for credentialed requests, so paging headers are also listed by name
+        configuration.setExposedHeaders(List.of("*", "X-Total-Count", "X-Total-Pages"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
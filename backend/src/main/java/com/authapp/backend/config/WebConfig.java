@@ -0,0 +1,17 @@
+package com.authapp.backend.config;
+
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.WorkloadInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Applies {@link DatabaseWorkload} to the annotated controller handlers. */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WorkloadInterceptor());
+    }
+}
@@ -4,93 +4,159 @@ import com.authapp.backend.dto.AuthResponse;
 import com.authapp.backend.dto.ForgotPasswordRequest;
 import com.authapp.backend.dto.LoginRequest;
 import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.dto.RefreshTokenRequest;
 import com.authapp.backend.dto.RegisterRequest;
 import com.authapp.backend.dto.ResetPasswordRequest;
 import com.authapp.backend.entity.PasswordResetToken;
 import com.authapp.backend.entity.User;
 import com.authapp.backend.repository.PasswordResetTokenRepository;
 import com.authapp.backend.repository.UserRepository;
+import com.authapp.backend.security.AuthRateLimits;
 import com.authapp.backend.security.JwtService;
+import com.authapp.backend.security.JwtService.VerifiedToken;
+import com.authapp.backend.security.PasswordHashingBusyException;
+import com.authapp.backend.security.PasswordHashingService;
+import com.authapp.backend.security.RefreshTokenService;
+import com.authapp.backend.security.RefreshTokenService.IssuedRefreshToken;
+import com.authapp.backend.security.TokenRevocationList;
 import com.authapp.backend.service.PasswordResetEmailService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.mail.MailException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private static final long TWO_HOURS_SECONDS = 2 * 60 * 60;
-
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final AuthRateLimits authRateLimits;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
     private final PasswordResetEmailService passwordResetEmailService;
     private final String resetBaseUrl;
     private final boolean returnResetTokenForTesting;
 
     public AuthController(UserRepository userRepository,
                           PasswordResetTokenRepository passwordResetTokenRepository,
-                          PasswordEncoder passwordEncoder,
+                          PasswordHashingService passwordHashingService,
+                          AuthRateLimits authRateLimits,
                           JwtService jwtService,
+                          RefreshTokenService refreshTokenService,
+                          TokenRevocationList tokenRevocationList,
                           PasswordResetEmailService passwordResetEmailService,
                           @Value("${app.reset.frontend-url}") String resetBaseUrl,
                           @Value("${app.reset.return-token-for-testing:false}") boolean returnResetTokenForTesting) {
         this.userRepository = userRepository;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.authRateLimits = authRateLimits;
         this.jwtService = jwtService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationList = tokenRevocationList;
         this.passwordResetEmailService = passwordResetEmailService;
         this.resetBaseUrl = resetBaseUrl;
         this.returnResetTokenForTesting = returnResetTokenForTesting;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
-            return ResponseEntity.badRequest().body(new MessageResponse("E-mail já cadastrado"));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(new MessageResponse("E-mail já cadastrado")));
         }
 
-        User user = User.builder()
-                .name(request.name())
-                .email(request.email().toLowerCase())
-                .password(passwordEncoder.encode(request.password()))
-                .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-                .build();
+        return passwordHashingService.encode(request.password())
+                .<ResponseEntity<?>>thenApply(hash -> {
+                    User user = User.builder()
+                            .name(request.name())
+                            .email(request.email().toLowerCase())
+                            .password(hash)
+                            .createdAt(LocalDateTime.now())
+                            .updatedAt(LocalDateTime.now())
+                            .build();
 
-        userRepository.save(user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new MessageResponse("Usuário criado com sucesso"));
+                    userRepository.save(user);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(new MessageResponse("Usuário criado com sucesso"));
+                })
+                .exceptionally(AuthController::hashingBusy);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest request,
+                                                      HttpServletRequest httpRequest) {
+        Duration wait = authRateLimits.checkLogin(httpRequest, request.email());
+        if (!wait.isZero()) {
+            return CompletableFuture.completedFuture(tooManyRequests(wait));
+        }
+
         User user = userRepository.findByEmail(request.email().toLowerCase()).orElse(null);
-        if (user == null || !passwordEncoder.matches(request.password(), user.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Credenciais inválidas"));
+        if (user == null) {
+            return CompletableFuture.completedFuture(invalidCredentials());
         }
 
-        String token = jwtService.generateToken(user.getEmail());
-        AuthResponse response = new AuthResponse(token, "Bearer", TWO_HOURS_SECONDS, user.getName(), user.getEmail());
-        return ResponseEntity.ok(response);
+        return passwordHashingService.matches(request.password(), user.getPassword())
+                .<ResponseEntity<?>>thenApply(matches -> {
+                    if (!matches) {
+                        return invalidCredentials();
+                    }
+                    if (passwordHashingService.needsRehash(user.getPassword())) {
+                        rehash(user, request.password());
+                    }
+                    return ResponseEntity.ok(authResponse(refreshTokenService.issue(user)));
+                })
+                .exceptionally(AuthController::hashingBusy);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return refreshTokenService.rotate(request.refreshToken())
+                .<ResponseEntity<?>>map(issued -> ResponseEntity.ok(authResponse(issued)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new MessageResponse("Sessão expirada. Faça login novamente")));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                    @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        refreshTokenService.revoke(request.refreshToken());
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            VerifiedToken accessToken = jwtService.verify(authorization.substring(7));
+            if (accessToken != null) {
+                tokenRevocationList.revoke(accessToken);
+            }
+        }
+        return ResponseEntity.ok(new MessageResponse("Sessão encerrada"));
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<?> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
+    public ResponseEntity<?> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request,
+                                            HttpServletRequest httpRequest) {
+        Duration wait = authRateLimits.checkForgotPassword(httpRequest, request.email());
+        if (!wait.isZero()) {
+            return tooManyRequests(wait);
+        }
+
         User user = userRepository.findByEmail(request.email().toLowerCase()).orElse(null);
         if (user == null) {
             return ResponseEntity.ok(new MessageResponse("Se o e-mail existir, enviaremos as instruções"));
@@ -129,26 +195,32 @@ public class AuthController {
     }
 
     @PostMapping("/reset-password")
-    public ResponseEntity<?> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
+    public CompletableFuture<ResponseEntity<?>> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
         PasswordResetToken token = passwordResetTokenRepository.findByToken(request.token()).orElse(null);
         if (token == null || token.isUsed() || token.getExpiresAt().isBefore(LocalDateTime.now())) {
-            return ResponseEntity.badRequest().body(new MessageResponse("Token inválido ou expirado"));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(new MessageResponse("Token inválido ou expirado")));
         }
 
-        User user = token.getUser();
-        user.setPassword(passwordEncoder.encode(request.newPassword()));
-        userRepository.save(user);
+        return passwordHashingService.encode(request.newPassword())
+                .<ResponseEntity<?>>thenApply(hash -> {
+                    User user = token.getUser();
+                    user.setPassword(hash);
+                    userRepository.save(user);
 
-        token.setUsed(true);
-        passwordResetTokenRepository.save(token);
+                    token.setUsed(true);
+                    passwordResetTokenRepository.save(token);
+                    refreshTokenService.revokeAll(user);
+                    tokenRevocationList.revokeSubject(user.getEmail());
 
-        return ResponseEntity.ok(new MessageResponse("Senha alterada com sucesso"));
+                    return ResponseEntity.ok(new MessageResponse("Senha alterada com sucesso"));
+                })
+                .exceptionally(AuthController::hashingBusy);
     }
 
     @GetMapping("/me")
     public ResponseEntity<?> me(Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email).orElse(null);
+        User user = authentication == null ? null : userRepository.findByEmail(authentication.getName()).orElse(null);
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Não autenticado"));
         }
@@ -163,4 +235,41 @@ public class AuthController {
                 "logged", true
         ));
     }
+
+    private AuthResponse authResponse(IssuedRefreshToken refreshToken) {
+        User user = refreshToken.user();
+        return new AuthResponse(jwtService.generateToken(user.getEmail()), "Bearer", jwtService.getExpirationSeconds(),
+                refreshToken.token(), refreshTokenService.ttlSeconds(), user.getName(), user.getEmail());
+    }
+
+    /**
+     * Re-hashes with the configured cost after a successful login. Best effort:
+     * if the hashing pool is busy the next login tries again.
+     */
+    private void rehash(User user, String rawPassword) {
+        String oldHash = user.getPassword();
+        passwordHashingService.encode(rawPassword)
+                .thenAccept(newHash -> userRepository.replacePasswordHash(user.getId(), oldHash, newHash))
+                .exceptionally(error -> null);
+    }
+
+    private static ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Credenciais inválidas"));
+    }
+
+    private static ResponseEntity<?> tooManyRequests(Duration wait) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, wait.toSeconds() + 1)))
+                .body(new MessageResponse("Muitas tentativas. Tente novamente em instantes"));
+    }
+
+    private static ResponseEntity<?> hashingBusy(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PasswordHashingBusyException) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new MessageResponse("Servidor ocupado. Tente novamente em instantes"));
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
 }
@@ -1,15 +1,22 @@
 package com.authapp.backend.controller;
 
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.dto.dashboard.DashboardResponseMapper;
+import com.authapp.backend.dto.dashboard.RecentSaleResponse;
+import com.authapp.backend.dto.dashboard.TopProductResponse;
+import com.authapp.backend.entity.finance.Money;
 import com.authapp.backend.entity.finance.ServiceOrderStatus;
 import com.authapp.backend.entity.finance.Sale;
 import com.authapp.backend.entity.finance.SaleStatus;
 import com.authapp.backend.entity.finance.SaleItem;
+import com.authapp.backend.event.EntityKind;
 import com.authapp.backend.repository.finance.*;
 import com.authapp.backend.service.AuditService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.security.Principal;
@@ -30,6 +37,8 @@ public class DashboardController {
     private final CatalogItemRepository catalogItemRepository;
     private final SaleRepository saleRepository;
     private final AuditService auditService;
+    private final ResourceVersions resourceVersions;
+    private final DashboardResponseMapper responseMapper;
 
     public DashboardController(ServiceOrderRepository serviceOrderRepository,
                               QuoteRepository quoteRepository,
@@ -37,7 +46,9 @@ public class DashboardController {
                               FinancialEntryRepository financialEntryRepository,
                               CatalogItemRepository catalogItemRepository,
                               SaleRepository saleRepository,
-                              AuditService auditService) {
+                              AuditService auditService,
+                              ResourceVersions resourceVersions,
+                              DashboardResponseMapper responseMapper) {
         this.serviceOrderRepository = serviceOrderRepository;
         this.quoteRepository = quoteRepository;
         this.customerRepository = customerRepository;
@@ -45,11 +56,19 @@ public class DashboardController {
         this.catalogItemRepository = catalogItemRepository;
         this.saleRepository = saleRepository;
         this.auditService = auditService;
+        this.resourceVersions = resourceVersions;
+        this.responseMapper = responseMapper;
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getDashboardStats(Principal principal) {
+    public ResponseEntity<Map<String, Object>> getDashboardStats(Principal principal, WebRequest webRequest) {
         String ownerEmail = principal.getName();
+        // Month figures also move with the calendar, not only with writes.
+        String etag = resourceVersions.etag(ownerEmail, LocalDate.now(), EntityKind.SERVICE_ORDER, EntityKind.QUOTE,
+                EntityKind.FINANCIAL_ENTRY, EntityKind.AUDIT_LOG, EntityKind.CATALOG_ITEM, EntityKind.CUSTOMER);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Map<String, Object> stats = new HashMap<>();
 
         // Service Orders Stats
@@ -64,16 +83,7 @@ public class DashboardController {
         // Recent Activity
         stats.put("recentActivity", auditService.getRecentActivity(ownerEmail).stream()
                 .limit(10)
-                .map(log -> {
-                    Map<String, Object> activity = new HashMap<>();
-                    activity.put("id", log.getId());
-                    activity.put("entityType", log.getEntityType());
-                    activity.put("entityId", log.getEntityId());
-                    activity.put("action", log.getAction());
-                    activity.put("details", log.getDetails());
-                    activity.put("timestamp", log.getTimestamp());
-                    return activity;
-                })
+                .map(responseMapper::toActivityResponse)
                 .toList());
 
         // Low Stock Items
@@ -85,7 +95,7 @@ public class DashboardController {
         // Customers Count
         stats.put("customersCount", customerRepository.countByOwnerEmail(ownerEmail));
 
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(stats);
     }
 
     private Map<String, Object> getServiceOrdersStats(String ownerEmail) {
@@ -114,8 +124,8 @@ public class DashboardController {
         // Revenue from completed orders
         BigDecimal revenue = allOrders.stream()
                 .filter(o -> o.getStatus() == ServiceOrderStatus.COMPLETED)
-                .map(o -> o.getTotal())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(o -> o.getTotal()))
+                .toBigDecimal();
         
         stats.put("revenue", revenue);
         
@@ -149,8 +159,8 @@ public class DashboardController {
         
         // Total value
         BigDecimal totalValue = allQuotes.stream()
-                .map(q -> q.getTotal())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(q -> q.getTotal()))
+                .toBigDecimal();
         
         stats.put("totalValue", totalValue);
         
@@ -167,31 +177,29 @@ public class DashboardController {
         LocalDate startOfMonth = currentMonth.atDay(1);
         LocalDate endOfMonth = currentMonth.atEndOfMonth();
         
-        BigDecimal monthlyIncome = entries.stream()
+        Money monthlyIncome = entries.stream()
                 .filter(e -> "INCOME".equals(e.getType()) && 
                             e.getDueDate() != null &&
                             !e.getDueDate().isBefore(startOfMonth) && 
                             !e.getDueDate().isAfter(endOfMonth))
-                .map(e -> e.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(e -> e.getAmount()));
         
-        BigDecimal monthlyExpense = entries.stream()
+        Money monthlyExpense = entries.stream()
                 .filter(e -> "EXPENSE".equals(e.getType()) && 
                             e.getDueDate() != null &&
                             !e.getDueDate().isBefore(startOfMonth) && 
                             !e.getDueDate().isAfter(endOfMonth))
-                .map(e -> e.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(e -> e.getAmount()));
         
-        stats.put("monthlyIncome", monthlyIncome);
-        stats.put("monthlyExpense", monthlyExpense);
-        stats.put("monthlyBalance", monthlyIncome.subtract(monthlyExpense));
+        stats.put("monthlyIncome", monthlyIncome.toBigDecimal());
+        stats.put("monthlyExpense", monthlyExpense.toBigDecimal());
+        stats.put("monthlyBalance", monthlyIncome.minus(monthlyExpense).toBigDecimal());
         
         // Pending
         BigDecimal totalPending = entries.stream()
                 .filter(e -> "PENDING".equals(e.getStatus()))
-                .map(e -> e.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(e -> e.getAmount()))
+                .toBigDecimal();
         
         stats.put("totalPending", totalPending);
         
@@ -199,8 +207,12 @@ public class DashboardController {
     }
     
     @GetMapping("/sales-stats")
-    public ResponseEntity<Map<String, Object>> getSalesStats(Principal principal) {
+    public ResponseEntity<Map<String, Object>> getSalesStats(Principal principal, WebRequest webRequest) {
         String ownerEmail = principal.getName();
+        String etag = resourceVersions.etag(ownerEmail, LocalDate.now(), EntityKind.SALE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Map<String, Object> stats = new HashMap<>();
         
         var allSales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail);
@@ -220,14 +232,14 @@ public class DashboardController {
         // Revenue
         BigDecimal totalRevenue = allSales.stream()
                 .filter(s -> s.getStatus() == SaleStatus.PAID)
-                .map(Sale::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(Sale::getTotal))
+                .toBigDecimal();
         stats.put("totalRevenue", totalRevenue);
         
         BigDecimal monthRevenue = thisMonthSales.stream()
                 .filter(s -> s.getStatus() == SaleStatus.PAID)
-                .map(Sale::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(Sale::getTotal))
+                .toBigDecimal();
         stats.put("monthRevenue", monthRevenue);
         
         // Average ticket
@@ -236,12 +248,16 @@ public class DashboardController {
                         .filter(s -> s.getStatus() == SaleStatus.PAID).count()), 2, BigDecimal.ROUND_HALF_UP);
         stats.put("averageTicket", avgTicket);
         
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(stats);
     }
     
     @GetMapping("/sales-chart")
-    public ResponseEntity<Map<String, Object>> getSalesChart(Principal principal) {
+    public ResponseEntity<Map<String, Object>> getSalesChart(Principal principal, WebRequest webRequest) {
         String ownerEmail = principal.getName();
+        String etag = resourceVersions.etag(ownerEmail, LocalDate.now(), EntityKind.SALE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
         var sales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail).stream()
@@ -250,15 +266,15 @@ public class DashboardController {
                 .toList();
         
         // Group by day
-        Map<LocalDate, BigDecimal> salesByDay = new LinkedHashMap<>();
+        Map<LocalDate, Money.Sum> salesByDay = new LinkedHashMap<>();
         for (int i = 29; i >= 0; i--) {
-            salesByDay.put(LocalDate.now().minusDays(i), BigDecimal.ZERO);
+            salesByDay.put(LocalDate.now().minusDays(i), new Money.Sum());
         }
         
         for (Sale sale : sales) {
             if (sale.getStatus() == SaleStatus.PAID) {
                 LocalDate date = sale.getSaleDate().toLocalDate();
-                salesByDay.merge(date, sale.getTotal(), BigDecimal::add);
+                salesByDay.computeIfAbsent(date, day -> new Money.Sum()).add(sale.getTotal());
             }
         }
         
@@ -267,15 +283,19 @@ public class DashboardController {
                 .map(date -> date.toString())
                 .toList());
         chartData.put("values", salesByDay.values().stream()
-                .map(BigDecimal::doubleValue)
+                .map(sum -> sum.total().toBigDecimal().doubleValue())
                 .toList());
         
-        return ResponseEntity.ok(chartData);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(chartData);
     }
     
     @GetMapping("/top-products")
-    public ResponseEntity<List<Map<String, Object>>> getTopProducts(Principal principal) {
+    public ResponseEntity<List<TopProductResponse>> getTopProducts(Principal principal, WebRequest webRequest) {
         String ownerEmail = principal.getName();
+        String etag = resourceVersions.etag(ownerEmail, EntityKind.SALE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         var sales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail);
         
@@ -293,49 +313,40 @@ public class DashboardController {
         }
         
         // Sort by revenue and get top 5
-        List<Map<String, Object>> topProducts = productStatsMap.entrySet().stream()
-                .sorted((a, b) -> b.getValue().revenue.compareTo(a.getValue().revenue))
+        List<TopProductResponse> topProducts = productStatsMap.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().revenueCents, a.getValue().revenueCents))
                 .limit(5)
-                .map(entry -> {
-                    Map<String, Object> product = new HashMap<>();
-                    product.put("name", entry.getKey());
-                    product.put("quantity", entry.getValue().quantity);
-                    product.put("revenue", entry.getValue().revenue);
-                    return product;
-                })
+                .map(entry -> new TopProductResponse(entry.getKey(), entry.getValue().quantity,
+                        BigDecimal.valueOf(entry.getValue().revenueCents, 2)))
                 .toList();
         
-        return ResponseEntity.ok(topProducts);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(topProducts);
     }
     
     @GetMapping("/recent-sales")
-    public ResponseEntity<List<Map<String, Object>>> getRecentSales(Principal principal) {
+    public ResponseEntity<List<RecentSaleResponse>> getRecentSales(Principal principal, WebRequest webRequest) {
         String ownerEmail = principal.getName();
+        String etag = resourceVersions.etag(ownerEmail, EntityKind.SALE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         var sales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail).stream()
                 .limit(5)
-                .map(sale -> {
-                    Map<String, Object> saleData = new HashMap<>();
-                    saleData.put("id", sale.getId());
-                    saleData.put("customerName", sale.getCustomerName());
-                    saleData.put("total", sale.getTotal());
-                    saleData.put("status", sale.getStatus());
-                    saleData.put("saleDate", sale.getSaleDate());
-                    return saleData;
-                })
+                .map(responseMapper::toRecentSaleResponse)
                 .toList();
         
-        return ResponseEntity.ok(sales);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(sales);
     }
     
     // Helper class for product statistics
     private static class ProductStats {
         BigDecimal quantity = BigDecimal.ZERO;
-        BigDecimal revenue = BigDecimal.ZERO;
+        long revenueCents;
         
         void addSale(BigDecimal qty, BigDecimal rev) {
             this.quantity = this.quantity.add(qty);
-            this.revenue = this.revenue.add(rev);
+            this.revenueCents = Math.addExact(revenueCents, Money.toCents(rev));
         }
     }
 }
@@ -0,0 +1,37 @@
+package com.authapp.backend.controller;
+
+import com.authapp.backend.service.live.LiveUpdateBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+@Tag(name = "Live updates", description = "Server-Sent Events with incremental dashboard updates")
+public class LiveUpdateController {
+
+    private final LiveUpdateBus liveUpdateBus;
+
+    public LiveUpdateController(LiveUpdateBus liveUpdateBus) {
+        this.liveUpdateBus = liveUpdateBus;
+    }
+
+    @GetMapping("/dashboard")
+    @Operation(summary = "Stream counters, recent sales and activity of the current user as they change")
+    public ResponseEntity<SseEmitter> dashboard(Authentication authentication) {
+        SseEmitter emitter = liveUpdateBus.subscribe(authentication.getName());
+        if (emitter == null) {
+            // Too many open streams; the client keeps polling and retries later.
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        // Reverse proxies must pass events through as they are written.
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
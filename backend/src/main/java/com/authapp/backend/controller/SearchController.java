@@ -0,0 +1,57 @@
+package com.authapp.backend.controller;
+
+import com.authapp.backend.dto.search.SearchHit;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.service.search.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search", description = "Global search across customers, catalog, sales, quotes and service orders")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchController(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search all indexed records of the current user")
+    public ResponseEntity<List<SearchHit>> search(Authentication authentication,
+                                                  @RequestParam String q,
+                                                  @RequestParam(required = false) List<EntityKind> types,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        Set<EntityKind> kinds = types == null || types.isEmpty() ? Set.of() : EnumSet.copyOf(types);
+        List<SearchHit> hits = searchIndexService.search(authentication.getName(), q, kinds,
+                Math.min(Math.max(limit, 1), MAX_LIMIT));
+        return ResponseEntity.ok(hits);
+    }
+
+    @PostMapping("/reindex")
+    @Operation(summary = "Rebuild the search index of the current user")
+    public ResponseEntity<Map<String, Object>> reindex(Authentication authentication) {
+        long start = System.currentTimeMillis();
+        int documents = searchIndexService.reindex(authentication.getName());
+        return ResponseEntity.ok(Map.of(
+                "message", "Índice de busca reconstruído",
+                "documents", documents,
+                "elapsedMs", System.currentTimeMillis() - start
+        ));
+    }
+}
@@ -3,6 +3,7 @@ package com.authapp.backend.controller;
 import com.authapp.backend.entity.SystemConfig;
 import com.authapp.backend.repository.SystemConfigRepository;
 import com.authapp.backend.service.AuditService;
+import com.authapp.backend.service.SystemConfigService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -18,16 +19,13 @@ public class SystemConfigController {
 
     private final SystemConfigRepository systemConfigRepository;
     private final AuditService auditService;
+    private final SystemConfigService systemConfigService;
 
     @GetMapping
     @Operation(summary = "Get system configuration")
     public ResponseEntity<SystemConfig> getConfig(Authentication authentication) {
         String userEmail = authentication.getName();
-        
-        SystemConfig config = systemConfigRepository.findByOwnerEmail(userEmail)
-                .orElse(createDefaultConfig(userEmail));
-        
-        return ResponseEntity.ok(config);
+        return ResponseEntity.ok(systemConfigService.get(userEmail).config());
     }
 
     @PostMapping
@@ -77,6 +75,7 @@ public class SystemConfigController {
             existingConfig.setNfeEnvironment(config.getNfeEnvironment());
             
             SystemConfig saved = systemConfigRepository.save(existingConfig);
+            systemConfigService.evict(userEmail);
             
             auditService.logAction(
                 userEmail,
@@ -93,6 +92,7 @@ public class SystemConfigController {
             // Create new config
             config.setOwnerEmail(userEmail);
             SystemConfig saved = systemConfigRepository.save(config);
+            systemConfigService.evict(userEmail);
             
             auditService.logAction(
                 userEmail,
@@ -105,20 +105,4 @@ public class SystemConfigController {
             return ResponseEntity.ok(saved);
         }
     }
-
-    private SystemConfig createDefaultConfig(String ownerEmail) {
-        return SystemConfig.builder()
-                .ownerEmail(ownerEmail)
-                .systemName("Negócio")
-                .defaultCurrency("BRL")
-                .dateFormat("DD/MM/YYYY")
-                .timeFormat("24h")
-                .autoPrint(false)
-                .copies(1)
-                .paperWidth(80)
-                .paperHeight(297)
-                .nfeEnabled(false)
-                .nfeEnvironment("HOMOLOGATION")
-                .build();
-    }
 }
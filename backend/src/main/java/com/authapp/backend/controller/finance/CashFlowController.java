@@ -0,0 +1,49 @@
+package com.authapp.backend.controller.finance;
+
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.service.finance.CashFlowProjection;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/finance/cashflow")
+public class CashFlowController extends FinanceBaseController {
+
+    private static final int MAX_DAYS = 366;
+
+    private final CashFlowProjection cashFlowProjection;
+    private final ResourceVersions resourceVersions;
+
+    public CashFlowController(CashFlowProjection cashFlowProjection, ResourceVersions resourceVersions) {
+        this.cashFlowProjection = cashFlowProjection;
+        this.resourceVersions = resourceVersions;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> projection(Authentication authentication,
+                                        @RequestParam(defaultValue = "30") int days,
+                                        WebRequest webRequest) {
+        if (days < 1 || days > MAX_DAYS) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("O período deve ficar entre 1 e " + MAX_DAYS + " dias"));
+        }
+        String ownerEmail = owner(authentication);
+        LocalDate today = LocalDate.now();
+        // Overdue amounts move into the first day as the calendar advances.
+        String etag = resourceVersions.etag(ownerEmail, today, EntityKind.FINANCIAL_ENTRY, EntityKind.SALE, EntityKind.QUOTE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag)
+                .body(cashFlowProjection.project(ownerEmail, today, days));
+    }
+}
@@ -1,13 +1,27 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
 import com.authapp.backend.dto.MessageResponse;
 import com.authapp.backend.dto.finance.CatalogItemRequest;
+import com.authapp.backend.dto.finance.CatalogItemResponse;
+import com.authapp.backend.dto.finance.CatalogLookupRequest;
+import com.authapp.backend.dto.finance.CatalogLookupResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
 import com.authapp.backend.dto.finance.StockAdjustmentRequest;
+import com.authapp.backend.dto.finance.StockMovementResponse;
 import com.authapp.backend.entity.finance.CatalogItem;
 import com.authapp.backend.entity.finance.StockMovement;
 import com.authapp.backend.entity.finance.StockMovementType;
+import com.authapp.backend.event.EntityKind;
 import com.authapp.backend.repository.finance.CatalogItemRepository;
 import com.authapp.backend.repository.finance.StockMovementRepository;
+import com.authapp.backend.service.export.ExportColumn;
+import com.authapp.backend.service.export.ExportFormat;
+import com.authapp.backend.service.export.TabularExportService;
+import com.authapp.backend.service.finance.CatalogLookupIndex;
+import com.authapp.backend.service.importer.BulkImportService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +33,16 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,33 +52,76 @@ public class CatalogController extends FinanceBaseController {
 
     private static final int MAX_IMAGE_BASE64_LENGTH = 2_000_000;
 
+    private static final List<ExportColumn<StockMovement>> MOVEMENT_EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("ID", StockMovement::getId),
+            new ExportColumn<>("Data", StockMovement::getCreatedAt),
+            new ExportColumn<>("ID do item", StockMovement::getCatalogItemId),
+            new ExportColumn<>("Item", StockMovement::getItemName),
+            new ExportColumn<>("Tipo", StockMovement::getType),
+            new ExportColumn<>("Quantidade", StockMovement::getQuantity),
+            new ExportColumn<>("Motivo", StockMovement::getReason)
+    );
+
     private final CatalogItemRepository catalogItemRepository;
     private final StockMovementRepository stockMovementRepository;
+    private final CatalogLookupIndex catalogLookupIndex;
+    private final ResourceVersions resourceVersions;
+    private final TabularExportService tabularExportService;
+    private final BulkImportService bulkImportService;
+    private final FinanceResponseMapper responseMapper;
 
     public CatalogController(CatalogItemRepository catalogItemRepository,
-                             StockMovementRepository stockMovementRepository) {
+                             StockMovementRepository stockMovementRepository,
+                             CatalogLookupIndex catalogLookupIndex,
+                             ResourceVersions resourceVersions,
+                             TabularExportService tabularExportService,
+                             BulkImportService bulkImportService,
+                             FinanceResponseMapper responseMapper) {
         this.catalogItemRepository = catalogItemRepository;
         this.stockMovementRepository = stockMovementRepository;
+        this.catalogLookupIndex = catalogLookupIndex;
+        this.resourceVersions = resourceVersions;
+        this.tabularExportService = tabularExportService;
+        this.bulkImportService = bulkImportService;
+        this.responseMapper = responseMapper;
     }
 
     @GetMapping
-    public ResponseEntity<?> listCatalog(Authentication authentication) {
+    public ResponseEntity<?> listCatalog(Authentication authentication, WebRequest webRequest) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> data = catalogItemRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
+        String etag = resourceVersions.etag(ownerEmail, EntityKind.CATALOG_ITEM);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<CatalogItemResponse> data = catalogItemRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
                 .stream()
-                .map(this::toCatalogResponse)
+                .map(responseMapper::toCatalogResponse)
                 .toList();
-        return ResponseEntity.ok(data);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(data);
     }
 
     @GetMapping("/qrcode/{qrCode}")
     public ResponseEntity<?> findByQrCode(Authentication authentication, @PathVariable String qrCode) {
         String ownerEmail = owner(authentication);
-        CatalogItem item = catalogItemRepository.findByQrCodeAndOwnerEmail(qrCode, ownerEmail).orElse(null);
+        CatalogLookupResponse item = catalogLookupIndex.find(ownerEmail, qrCode);
         if (item == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse("Produto não encontrado"));
         }
-        return ResponseEntity.ok(toCatalogResponse(item));
+        return ResponseEntity.ok(item);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<?> lookupCodes(Authentication authentication, @Valid @RequestBody CatalogLookupRequest request) {
+        String ownerEmail = owner(authentication);
+        Map<String, CatalogLookupResponse> found = catalogLookupIndex.findAll(ownerEmail, request.codes());
+        List<String> missing = request.codes().stream()
+                .filter(code -> !found.containsKey(code))
+                .distinct()
+                .toList();
+        return ResponseEntity.ok(Map.of(
+                "items", found,
+                "missing", missing
+        ));
     }
 
     @PostMapping
@@ -85,7 +147,17 @@ public class CatalogController extends FinanceBaseController {
                 .createdAt(LocalDateTime.now())
                 .build();
         catalogItemRepository.save(item);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toCatalogResponse(item));
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toCatalogResponse(item));
+    }
+
+    @PostMapping("/import")
+    @DatabaseWorkload(Workload.BACKGROUND)
+    public ResponseEntity<?> importCatalogItems(Authentication authentication, @RequestParam("file") MultipartFile file) {
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(bulkImportService.importCatalogItems(owner(authentication), csv));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Erro ao ler o CSV: " + e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
@@ -117,7 +189,7 @@ public class CatalogController extends FinanceBaseController {
             item.setMinStock(scale(request.minStock()));
         }
         catalogItemRepository.save(item);
-        return ResponseEntity.ok(toCatalogResponse(item));
+        return ResponseEntity.ok(responseMapper.toCatalogResponse(item));
     }
 
     @DeleteMapping("/{id}")
@@ -167,17 +239,17 @@ public class CatalogController extends FinanceBaseController {
 
         return ResponseEntity.ok(Map.of(
                 "message", "Estoque atualizado",
-                "item", toCatalogResponse(item)
+                "item", responseMapper.toCatalogResponse(item)
         ));
     }
 
     @GetMapping("/stock/low")
     public ResponseEntity<?> listLowStock(Authentication authentication) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> lowStock = catalogItemRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
+        List<CatalogItemResponse> lowStock = catalogItemRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
                 .stream()
                 .filter(item -> item.getStockQuantity().compareTo(item.getMinStock()) <= 0)
-                .map(this::toCatalogResponse)
+                .map(responseMapper::toCatalogResponse)
                 .toList();
         return ResponseEntity.ok(lowStock);
     }
@@ -185,29 +257,23 @@ public class CatalogController extends FinanceBaseController {
     @GetMapping("/stock/movements")
     public ResponseEntity<?> listStockMovements(Authentication authentication) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> data = stockMovementRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
+        List<StockMovementResponse> data = stockMovementRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
                 .stream()
-                .map(this::toStockMovementResponse)
+                .map(responseMapper::toStockMovementResponse)
                 .toList();
         return ResponseEntity.ok(data);
     }
 
-    private Map<String, Object> toCatalogResponse(CatalogItem item) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("id", item.getId());
-        response.put("name", item.getName());
-        response.put("sku", item.getSku() == null ? "" : item.getSku());
-        response.put("qrCode", item.getQrCode() == null ? "" : item.getQrCode());
-        response.put("type", item.getType());
-        response.put("unit", item.getUnit() == null ? "" : item.getUnit());
-        response.put("unitPrice", item.getUnitPrice());
-        response.put("costPrice", item.getCostPrice() == null ? BigDecimal.ZERO : item.getCostPrice());
-        response.put("description", item.getDescription() == null ? "" : item.getDescription());
-        response.put("productImageBase64", item.getProductImageBase64() == null ? "" : item.getProductImageBase64());
-        response.put("stockQuantity", item.getStockQuantity());
-        response.put("minStock", item.getMinStock());
-        response.put("createdAt", item.getCreatedAt());
-        return response;
+    @GetMapping("/stock/movements/export")
+    public ResponseEntity<StreamingResponseBody> exportStockMovements(Authentication authentication,
+                                                                      @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        String ownerEmail = owner(authentication);
+        return tabularExportService.export("movimentacoes-estoque", exportFormat, MOVEMENT_EXPORT_COLUMNS,
+                () -> stockMovementRepository.streamByOwnerEmailOrderByCreatedAtAsc(ownerEmail));
     }
 
     private String validateImage(String value) {
@@ -223,16 +289,4 @@ public class CatalogController extends FinanceBaseController {
         }
         return null;
     }
-
-    private Map<String, Object> toStockMovementResponse(StockMovement movement) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("id", movement.getId());
-        response.put("catalogItemId", movement.getCatalogItemId());
-        response.put("itemName", movement.getItemName());
-        response.put("type", movement.getType());
-        response.put("quantity", movement.getQuantity());
-        response.put("reason", movement.getReason() == null ? "" : movement.getReason());
-        response.put("createdAt", movement.getCreatedAt());
-        return response;
-    }
 }
@@ -1,9 +1,16 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
 import com.authapp.backend.dto.MessageResponse;
 import com.authapp.backend.dto.finance.CustomerRequest;
+import com.authapp.backend.dto.finance.CustomerResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
 import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.event.EntityKind;
 import com.authapp.backend.repository.finance.CustomerRepository;
+import com.authapp.backend.service.importer.BulkImportService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,31 +22,48 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/finance/customers")
 public class CustomerController extends FinanceBaseController {
 
     private final CustomerRepository customerRepository;
+    private final ResourceVersions resourceVersions;
+    private final BulkImportService bulkImportService;
+    private final FinanceResponseMapper responseMapper;
 
-    public CustomerController(CustomerRepository customerRepository) {
+    public CustomerController(CustomerRepository customerRepository,
+                              ResourceVersions resourceVersions,
+                              BulkImportService bulkImportService,
+                              FinanceResponseMapper responseMapper) {
         this.customerRepository = customerRepository;
+        this.resourceVersions = resourceVersions;
+        this.bulkImportService = bulkImportService;
+        this.responseMapper = responseMapper;
     }
 
     @GetMapping
-    public ResponseEntity<?> listCustomers(Authentication authentication) {
+    public ResponseEntity<?> listCustomers(Authentication authentication, WebRequest webRequest) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> data = customerRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
+        String etag = resourceVersions.etag(ownerEmail, EntityKind.CUSTOMER);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<CustomerResponse> data = customerRepository.findByOwnerEmailOrderByNameAsc(ownerEmail)
                 .stream()
-                .map(this::toCustomerResponse)
+                .map(responseMapper::toCustomerResponse)
                 .toList();
-        return ResponseEntity.ok(data);
+        return ResponseEntity.ok().cacheControl(ResourceVersions.REVALIDATE).eTag(etag).body(data);
     }
 
     @PostMapping
@@ -51,10 +75,21 @@ public class CustomerController extends FinanceBaseController {
                 .email(normalize(request.email()))
                 .phone(normalize(request.phone()))
                 .notes(normalize(request.notes()))
+                .cpfCnpj(normalize(request.cpfCnpj()))
                 .createdAt(LocalDateTime.now())
                 .build();
         customerRepository.save(customer);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toCustomerResponse(customer));
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toCustomerResponse(customer));
+    }
+
+    @PostMapping("/import")
+    @DatabaseWorkload(Workload.BACKGROUND)
+    public ResponseEntity<?> importCustomers(Authentication authentication, @RequestParam("file") MultipartFile file) {
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(bulkImportService.importCustomers(owner(authentication), csv));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Erro ao ler o CSV: " + e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
@@ -70,8 +105,11 @@ public class CustomerController extends FinanceBaseController {
         customer.setEmail(normalize(request.email()));
         customer.setPhone(normalize(request.phone()));
         customer.setNotes(normalize(request.notes()));
+        if (request.cpfCnpj() != null) {
+            customer.setCpfCnpj(normalize(request.cpfCnpj()));
+        }
         customerRepository.save(customer);
-        return ResponseEntity.ok(toCustomerResponse(customer));
+        return ResponseEntity.ok(responseMapper.toCustomerResponse(customer));
     }
 
     @DeleteMapping("/{id}")
@@ -84,15 +122,4 @@ public class CustomerController extends FinanceBaseController {
         customerRepository.delete(customer);
         return ResponseEntity.ok(new MessageResponse("Cliente removido"));
     }
-
-    private Map<String, Object> toCustomerResponse(Customer customer) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("id", customer.getId());
-        response.put("name", customer.getName());
-        response.put("email", customer.getEmail() == null ? "" : customer.getEmail());
-        response.put("phone", customer.getPhone() == null ? "" : customer.getPhone());
-        response.put("notes", customer.getNotes() == null ? "" : customer.getNotes());
-        response.put("createdAt", customer.getCreatedAt());
-        return response;
-    }
 }
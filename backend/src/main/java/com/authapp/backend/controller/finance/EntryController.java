@@ -1,9 +1,14 @@
 package com.authapp.backend.controller.finance;
 
 import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
 import com.authapp.backend.dto.finance.FinancialEntryRequest;
+import com.authapp.backend.dto.finance.FinancialEntryResponse;
 import com.authapp.backend.entity.finance.FinancialEntry;
 import com.authapp.backend.repository.finance.FinancialEntryRepository;
+import com.authapp.backend.service.export.ExportColumn;
+import com.authapp.backend.service.export.ExportFormat;
+import com.authapp.backend.service.export.TabularExportService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,33 +20,63 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/finance/entries")
 public class EntryController extends FinanceBaseController {
 
+    private static final List<ExportColumn<FinancialEntry>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("ID", FinancialEntry::getId),
+            new ExportColumn<>("Tipo", FinancialEntry::getType),
+            new ExportColumn<>("Status", FinancialEntry::getStatus),
+            new ExportColumn<>("Valor", FinancialEntry::getAmount),
+            new ExportColumn<>("Categoria", FinancialEntry::getCategory),
+            new ExportColumn<>("Descrição", FinancialEntry::getDescription),
+            new ExportColumn<>("Vencimento", FinancialEntry::getDueDate),
+            new ExportColumn<>("Pagamento", FinancialEntry::getPaidDate),
+            new ExportColumn<>("Criado em", FinancialEntry::getCreatedAt)
+    );
+
     private final FinancialEntryRepository financialEntryRepository;
+    private final TabularExportService tabularExportService;
+    private final FinanceResponseMapper responseMapper;
 
-    public EntryController(FinancialEntryRepository financialEntryRepository) {
+    public EntryController(FinancialEntryRepository financialEntryRepository,
+                           TabularExportService tabularExportService,
+                           FinanceResponseMapper responseMapper) {
         this.financialEntryRepository = financialEntryRepository;
+        this.tabularExportService = tabularExportService;
+        this.responseMapper = responseMapper;
     }
 
     @GetMapping
     public ResponseEntity<?> listEntries(Authentication authentication) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> data = financialEntryRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
+        List<FinancialEntryResponse> data = financialEntryRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
                 .stream()
-                .map(this::toEntryResponse)
+                .map(responseMapper::toEntryResponse)
                 .toList();
         return ResponseEntity.ok(data);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEntries(Authentication authentication,
+                                                               @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        String ownerEmail = owner(authentication);
+        return tabularExportService.export("lancamentos", exportFormat, EXPORT_COLUMNS,
+                () -> financialEntryRepository.streamByOwnerEmailOrderByCreatedAtAsc(ownerEmail));
+    }
+
     @PostMapping
     public ResponseEntity<?> createEntry(Authentication authentication, @Valid @RequestBody FinancialEntryRequest request) {
         String ownerEmail = owner(authentication);
@@ -57,7 +92,7 @@ public class EntryController extends FinanceBaseController {
                 .createdAt(LocalDateTime.now())
                 .build();
         financialEntryRepository.save(entry);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toEntryResponse(entry));
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toEntryResponse(entry));
     }
 
     @PutMapping("/{id}")
@@ -77,7 +112,7 @@ public class EntryController extends FinanceBaseController {
         entry.setDueDate(request.dueDate());
         entry.setPaidDate(request.paidDate());
         financialEntryRepository.save(entry);
-        return ResponseEntity.ok(toEntryResponse(entry));
+        return ResponseEntity.ok(responseMapper.toEntryResponse(entry));
     }
 
     @DeleteMapping("/{id}")
@@ -90,18 +125,4 @@ public class EntryController extends FinanceBaseController {
         financialEntryRepository.delete(entry);
         return ResponseEntity.ok(new MessageResponse("Lançamento removido"));
     }
-
-    private Map<String, Object> toEntryResponse(FinancialEntry entry) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("id", entry.getId());
-        response.put("type", entry.getType());
-        response.put("status", entry.getStatus());
-        response.put("amount", entry.getAmount());
-        response.put("category", entry.getCategory());
-        response.put("description", entry.getDescription());
-        response.put("dueDate", entry.getDueDate());
-        response.put("paidDate", entry.getPaidDate());
-        response.put("createdAt", entry.getCreatedAt());
-        return response;
-    }
 }
@@ -1,9 +1,15 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
 import com.authapp.backend.entity.finance.*;
 import com.authapp.backend.repository.finance.CatalogItemRepository;
 import com.authapp.backend.repository.finance.StockMovementRepository;
 import com.authapp.backend.service.AuditService;
+import com.authapp.backend.service.finance.NFeXmlParser;
+import com.authapp.backend.service.finance.NFeXmlParser.NFeDocument;
+import com.authapp.backend.service.finance.NFeXmlParser.NFeItem;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,13 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -31,8 +31,11 @@ public class NFeImportController {
     private final CatalogItemRepository catalogItemRepository;
     private final StockMovementRepository stockMovementRepository;
     private final AuditService auditService;
+    private final NFeXmlParser nfeXmlParser;
+    private final MeterRegistry meterRegistry;
 
     @PostMapping("/upload")
+    @DatabaseWorkload(Workload.BACKGROUND)
     @Operation(summary = "Upload NFe XML and import stock")
     public ResponseEntity<?> uploadNFeXml(
             Authentication authentication,
@@ -41,41 +44,24 @@ public class NFeImportController {
         String userEmail = authentication.getName();
         
         try {
-            // Parse XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(file.getBytes()));
-            doc.getDocumentElement().normalize();
-            
-            // Extract NFe info
-            String nfeNumber = extractValue(doc, "nNF");
-            String nfeKey = extractValue(doc, "chNFe");
-            String issuer = extractValueFromPath(doc, "emit", "xNome");
-            
-            // Extract items
-            NodeList itemNodes = doc.getElementsByTagName("det");
+            NFeDocument nfe = nfeXmlParser.parse(file.getInputStream());
+            String nfeNumber = nfe.number();
+            String nfeKey = nfe.key();
+            String issuer = nfe.issuer();
+
             List<Map<String, Object>> importedItems = new ArrayList<>();
             int itemsImported = 0;
             int itemsUpdated = 0;
             
-            for (int i = 0; i < itemNodes.getLength(); i++) {
-                Element detElement = (Element) itemNodes.item(i);
-                
-                // Extract product info
-                Element prodElement = (Element) detElement.getElementsByTagName("prod").item(0);
-                
-                String code = getElementText(prodElement, "cProd");
-                String ean = getElementText(prodElement, "cEAN");
-                String name = getElementText(prodElement, "xProd");
-                String ncm = getElementText(prodElement, "NCM");
-                String cfop = getElementText(prodElement, "CFOP");
-                String unit = getElementText(prodElement, "uCom");
-                String qComStr = getElementText(prodElement, "qCom");
-                String vUnComStr = getElementText(prodElement, "vUnCom");
-                
-                // Parse numeric values
-                BigDecimal quantity = new BigDecimal(qComStr.replace(",", "."));
-                BigDecimal unitPrice = new BigDecimal(vUnComStr.replace(",", "."));
+            for (NFeItem nfeItem : nfe.items()) {
+                String code = nfeItem.code();
+                String ean = nfeItem.ean();
+                String name = nfeItem.name();
+                String ncm = nfeItem.ncm();
+                String cfop = nfeItem.cfop();
+                String unit = nfeItem.unit();
+                BigDecimal quantity = nfeItem.quantity();
+                BigDecimal unitPrice = nfeItem.unitPrice();
                 
                 // Check if product exists in catalog (by EAN/code)
                 Optional<CatalogItem> existingItem = Optional.empty();
@@ -87,10 +73,7 @@ public class NFeImportController {
                 
                 // Try to find by SKU (code)
                 if (existingItem.isEmpty()) {
-                    List<CatalogItem> items = catalogItemRepository.findByOwnerEmailOrderByNameAsc(userEmail);
-                    existingItem = items.stream()
-                            .filter(item -> code.equals(item.getSku()))
-                            .findFirst();
+                    existingItem = catalogItemRepository.findFirstBySkuAndOwnerEmailOrderByIdAsc(code, userEmail);
                 }
                 
                 if (existingItem.isPresent()) {
@@ -179,6 +162,9 @@ public class NFeImportController {
                 }
             }
             
+            meterRegistry.counter("app.nfe.items.imported", "status", "created").increment(itemsImported);
+            meterRegistry.counter("app.nfe.items.imported", "status", "updated").increment(itemsUpdated);
+
             // Log audit
             auditService.logAction(
                     userEmail,
@@ -194,7 +180,7 @@ public class NFeImportController {
             response.put("nfeNumber", nfeNumber);
             response.put("nfeKey", nfeKey);
             response.put("issuer", issuer);
-            response.put("totalItems", itemNodes.getLength());
+            response.put("totalItems", nfe.items().size());
             response.put("itemsImported", itemsImported);
             response.put("itemsUpdated", itemsUpdated);
             response.put("items", importedItems);
@@ -207,32 +193,4 @@ public class NFeImportController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-    
-    private String extractValue(Document doc, String tagName) {
-        NodeList nodes = doc.getElementsByTagName(tagName);
-        if (nodes.getLength() > 0) {
-            return nodes.item(0).getTextContent();
-        }
-        return "";
-    }
-    
-    private String extractValueFromPath(Document doc, String parentTag, String childTag) {
-        NodeList parentNodes = doc.getElementsByTagName(parentTag);
-        if (parentNodes.getLength() > 0) {
-            Element parent = (Element) parentNodes.item(0);
-            NodeList childNodes = parent.getElementsByTagName(childTag);
-            if (childNodes.getLength() > 0) {
-                return childNodes.item(0).getTextContent();
-            }
-        }
-        return "";
-    }
-    
-    private String getElementText(Element parent, String tagName) {
-        NodeList nodes = parent.getElementsByTagName(tagName);
-        if (nodes.getLength() > 0) {
-            return nodes.item(0).getTextContent();
-        }
-        return "";
-    }
 }
@@ -1,14 +1,19 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
 import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
 import com.authapp.backend.dto.finance.QuoteItemRequest;
 import com.authapp.backend.dto.finance.QuoteRequest;
+import com.authapp.backend.dto.finance.QuoteResponse;
 import com.authapp.backend.entity.finance.Quote;
 import com.authapp.backend.entity.finance.QuoteItem;
 import com.authapp.backend.repository.finance.QuoteRepository;
 import com.authapp.backend.service.AuditService;
 import com.authapp.backend.service.PdfService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,9 +24,7 @@ import org.springframework.web.bind.annotation.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/finance/quotes")
@@ -30,19 +33,22 @@ public class QuoteController extends FinanceBaseController {
     private final QuoteRepository quoteRepository;
     private final AuditService auditService;
     private final PdfService pdfService;
+    private final FinanceResponseMapper responseMapper;
 
-    public QuoteController(QuoteRepository quoteRepository, AuditService auditService, PdfService pdfService) {
+    public QuoteController(QuoteRepository quoteRepository, AuditService auditService, @Lazy PdfService pdfService,
+                           FinanceResponseMapper responseMapper) {
         this.quoteRepository = quoteRepository;
         this.auditService = auditService;
         this.pdfService = pdfService;
+        this.responseMapper = responseMapper;
     }
 
     @GetMapping
     public ResponseEntity<?> listQuotes(Authentication authentication) {
         String ownerEmail = owner(authentication);
-        List<Map<String, Object>> data = quoteRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
+        List<QuoteResponse> data = quoteRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail)
                 .stream()
-                .map(this::toQuoteResponse)
+                .map(responseMapper::toQuoteResponse)
                 .toList();
         return ResponseEntity.ok(data);
     }
@@ -53,7 +59,7 @@ public class QuoteController extends FinanceBaseController {
         Quote quote = buildQuote(ownerEmail, request, Quote.builder().build());
         quote.setCreatedAt(LocalDateTime.now());
         quoteRepository.save(quote);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toQuoteResponse(quote));
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toQuoteResponse(quote));
     }
 
     @PutMapping("/{id}")
@@ -67,7 +73,7 @@ public class QuoteController extends FinanceBaseController {
         }
         buildQuote(ownerEmail, request, quote);
         quoteRepository.save(quote);
-        return ResponseEntity.ok(toQuoteResponse(quote));
+        return ResponseEntity.ok(responseMapper.toQuoteResponse(quote));
     }
 
     @DeleteMapping("/{id}")
@@ -117,33 +123,8 @@ public class QuoteController extends FinanceBaseController {
         return quote;
     }
 
-    private Map<String, Object> toQuoteResponse(Quote quote) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("id", quote.getId());
-        response.put("customerId", quote.getCustomerId());
-        response.put("customerName", quote.getCustomerName());
-        response.put("status", quote.getStatus());
-        response.put("issueDate", quote.getIssueDate());
-        response.put("validUntil", quote.getValidUntil());
-        response.put("notes", quote.getNotes() == null ? "" : quote.getNotes());
-        response.put("subtotal", quote.getSubtotal());
-        response.put("total", quote.getTotal());
-        response.put("createdAt", quote.getCreatedAt());
-        response.put("items", quote.getItems().stream().map(item -> {
-            Map<String, Object> itemResponse = new LinkedHashMap<>();
-            itemResponse.put("id", item.getId());
-            itemResponse.put("catalogItemId", item.getCatalogItemId());
-            itemResponse.put("description", item.getDescription());
-            itemResponse.put("unit", item.getUnit() == null ? "" : item.getUnit());
-            itemResponse.put("quantity", item.getQuantity());
-            itemResponse.put("unitPrice", item.getUnitPrice());
-            itemResponse.put("total", item.getTotal());
-            return itemResponse;
-        }).toList());
-        return response;
-    }
-
     @GetMapping("/{id}/pdf")
+    @DatabaseWorkload(Workload.REPORTING)
     public ResponseEntity<byte[]> generatePdf(@PathVariable Long id, Authentication authentication) {
         String ownerEmail = owner(authentication);
         
@@ -0,0 +1,53 @@
+package com.authapp.backend.controller.finance;
+
+import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.dto.finance.ReconciliationConfirmRequest;
+import com.authapp.backend.service.finance.reconciliation.ReconciliationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/finance/reconciliation")
+public class ReconciliationController extends FinanceBaseController {
+
+    private static final int MAX_WINDOW_DAYS = 60;
+
+    private final ReconciliationService reconciliationService;
+
+    public ReconciliationController(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @PostMapping("/statement")
+    public ResponseEntity<?> analyzeStatement(Authentication authentication,
+                                              @RequestParam("file") MultipartFile file,
+                                              @RequestParam(defaultValue = "5") int windowDays) {
+        if (windowDays < 0 || windowDays > MAX_WINDOW_DAYS) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("A janela de datas deve ficar entre 0 e " + MAX_WINDOW_DAYS + " dias"));
+        }
+        try (InputStream statement = file.getInputStream()) {
+            return ResponseEntity.ok(reconciliationService.analyze(owner(authentication), statement, windowDays));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Erro ao ler o extrato: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/confirm")
+    public ResponseEntity<?> confirmMatches(Authentication authentication,
+                                            @Valid @RequestBody ReconciliationConfirmRequest request) {
+        int updated = reconciliationService.confirm(owner(authentication), request.matches());
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+}
@@ -0,0 +1,86 @@
+package com.authapp.backend.controller.finance;
+
+import com.authapp.backend.dto.MessageResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
+import com.authapp.backend.dto.finance.RecurrenceRequest;
+import com.authapp.backend.dto.finance.RecurrenceResponse;
+import com.authapp.backend.entity.finance.RecurrenceKind;
+import com.authapp.backend.entity.finance.RecurrenceRule;
+import com.authapp.backend.repository.finance.RecurrenceRuleRepository;
+import com.authapp.backend.service.finance.RecurrenceService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/finance/recurrences")
+public class RecurrenceController extends FinanceBaseController {
+
+    private final RecurrenceRuleRepository recurrenceRuleRepository;
+    private final RecurrenceService recurrenceService;
+    private final FinanceResponseMapper responseMapper;
+
+    public RecurrenceController(RecurrenceRuleRepository recurrenceRuleRepository,
+                                RecurrenceService recurrenceService,
+                                FinanceResponseMapper responseMapper) {
+        this.recurrenceRuleRepository = recurrenceRuleRepository;
+        this.recurrenceService = recurrenceService;
+        this.responseMapper = responseMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> listRecurrences(Authentication authentication) {
+        List<RecurrenceResponse> data = recurrenceRuleRepository.findByOwnerEmailOrderByCreatedAtDesc(owner(authentication))
+                .stream()
+                .map(responseMapper::toRecurrenceResponse)
+                .toList();
+        return ResponseEntity.ok(data);
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createRecurrence(Authentication authentication, @Valid @RequestBody RecurrenceRequest request) {
+        if (request.kind() == RecurrenceKind.INSTALLMENTS && (request.occurrences() == null || request.occurrences() < 2)) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Informe ao menos 2 parcelas"));
+        }
+        if (request.endDate() != null && request.endDate().isBefore(request.startDate())) {
+            return ResponseEntity.badRequest().body(new MessageResponse("A data final deve ser posterior à data inicial"));
+        }
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .ownerEmail(owner(authentication))
+                .kind(request.kind())
+                .type(request.type())
+                .amount(scale(request.amount()))
+                .category(request.category().trim())
+                .description(request.description().trim())
+                .frequency(request.frequency())
+                .interval(request.interval() == null ? 1 : request.interval())
+                .startDate(request.startDate())
+                .endDate(request.kind() == RecurrenceKind.INSTALLMENTS ? null : request.endDate())
+                .occurrences(request.occurrences())
+                .createdAt(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMapper.toRecurrenceResponse(recurrenceService.create(rule)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteRecurrence(Authentication authentication, @PathVariable Long id) {
+        String ownerEmail = owner(authentication);
+        RecurrenceRule rule = recurrenceRuleRepository.findByIdAndOwnerEmail(id, ownerEmail).orElse(null);
+        if (rule == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse("Recorrência não encontrada"));
+        }
+        int removed = recurrenceService.delete(rule);
+        return ResponseEntity.ok(new MessageResponse("Recorrência removida com " + removed + " lançamentos futuros"));
+    }
+}
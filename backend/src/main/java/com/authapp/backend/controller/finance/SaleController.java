@@ -1,20 +1,29 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
+import com.authapp.backend.dto.finance.SaleResponse;
 import com.authapp.backend.entity.finance.*;
 import com.authapp.backend.repository.finance.CatalogItemRepository;
 import com.authapp.backend.repository.finance.SaleRepository;
 import com.authapp.backend.repository.finance.StockMovementRepository;
 import com.authapp.backend.service.AuditService;
 import com.authapp.backend.service.PdfService;
+import com.authapp.backend.service.export.ExportColumn;
+import com.authapp.backend.service.export.ExportFormat;
+import com.authapp.backend.service.export.TabularExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -29,15 +38,34 @@ import java.util.Optional;
 @Tag(name = "Sales", description = "Sales management endpoints")
 public class SaleController {
 
+    private static final List<ExportColumn<Sale>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("ID", Sale::getId),
+            new ExportColumn<>("Data", Sale::getSaleDate),
+            new ExportColumn<>("Cliente", Sale::getCustomerName),
+            new ExportColumn<>("Status", Sale::getStatus),
+            new ExportColumn<>("Forma de pagamento", Sale::getPaymentMethod),
+            new ExportColumn<>("Subtotal", Sale::getSubtotal),
+            new ExportColumn<>("Desconto", Sale::getDiscount),
+            new ExportColumn<>("Desconto (%)", Sale::getDiscountPercent),
+            new ExportColumn<>("Frete", Sale::getShipping),
+            new ExportColumn<>("Impostos", Sale::getTax),
+            new ExportColumn<>("Total", Sale::getTotal),
+            new ExportColumn<>("Observações", Sale::getNotes),
+            new ExportColumn<>("Criado em", Sale::getCreatedAt)
+    );
+
     private final SaleRepository saleRepository;
     private final CatalogItemRepository catalogItemRepository;
     private final StockMovementRepository stockMovementRepository;
     private final AuditService auditService;
+    @Lazy
     private final PdfService pdfService;
+    private final TabularExportService tabularExportService;
+    private final FinanceResponseMapper responseMapper;
 
     @GetMapping
     @Operation(summary = "Get all sales")
-    public ResponseEntity<List<Sale>> getAllSales(
+    public ResponseEntity<List<SaleResponse>> getAllSales(
             Authentication authentication,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search) {
@@ -54,12 +82,27 @@ public class SaleController {
             sales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(userEmail);
         }
         
-        return ResponseEntity.ok(sales);
+        return ResponseEntity.ok(sales.stream().map(responseMapper::toSaleResponse).toList());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all sales as CSV or XLSX")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+            Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        String userEmail = authentication.getName();
+        return tabularExportService.export("vendas", exportFormat, EXPORT_COLUMNS,
+                () -> saleRepository.streamByOwnerEmailOrderByCreatedAtAsc(userEmail));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get sale by ID")
-    public ResponseEntity<Sale> getSaleById(
+    public ResponseEntity<SaleResponse> getSaleById(
             Authentication authentication,
             @PathVariable Long id) {
         
@@ -67,7 +110,7 @@ public class SaleController {
         
         return saleRepository.findById(id)
                 .filter(sale -> sale.getOwnerEmail().equals(userEmail))
-                .map(ResponseEntity::ok)
+                .map(sale -> ResponseEntity.ok(responseMapper.toSaleResponse(sale)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -117,12 +160,12 @@ public class SaleController {
             savedSale.toString()
         );
         
-        return ResponseEntity.ok(savedSale);
+        return ResponseEntity.ok(responseMapper.toSaleResponse(savedSale));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update sale")
-    public ResponseEntity<Sale> updateSale(
+    public ResponseEntity<SaleResponse> updateSale(
             Authentication authentication,
             @PathVariable Long id,
             @RequestBody Sale updatedSale) {
@@ -165,14 +208,14 @@ public class SaleController {
                         saved.toString()
                     );
                     
-                    return ResponseEntity.ok(saved);
+                    return ResponseEntity.ok(responseMapper.toSaleResponse(saved));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Update sale status")
-    public ResponseEntity<Sale> updateStatus(
+    public ResponseEntity<SaleResponse> updateStatus(
             Authentication authentication,
             @PathVariable Long id,
             @RequestParam SaleStatus status) {
@@ -196,7 +239,7 @@ public class SaleController {
                         status.toString()
                     );
                     
-                    return ResponseEntity.ok(saved);
+                    return ResponseEntity.ok(responseMapper.toSaleResponse(saved));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -229,6 +272,7 @@ public class SaleController {
     }
 
     @GetMapping("/{id}/pdf")
+    @DatabaseWorkload(Workload.REPORTING)
     @Operation(summary = "Generate sale PDF")
     public ResponseEntity<byte[]> generatePdf(
             Authentication authentication,
@@ -290,13 +334,13 @@ public class SaleController {
         List<Sale> allSales = saleRepository.findByOwnerEmailOrderByCreatedAtDesc(userEmail);
         BigDecimal totalRevenue = allSales.stream()
                 .filter(s -> s.getStatus() == SaleStatus.PAID)
-                .map(Sale::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(Sale::getTotal))
+                .toBigDecimal();
         
         BigDecimal pendingRevenue = allSales.stream()
                 .filter(s -> s.getStatus() == SaleStatus.PENDING)
-                .map(Sale::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(Sale::getTotal))
+                .toBigDecimal();
         
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalSales", totalSales);
@@ -1,7 +1,11 @@
 package com.authapp.backend.controller.finance;
 
+import com.authapp.backend.datasource.DatabaseWorkload;
+import com.authapp.backend.datasource.Workload;
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
 import com.authapp.backend.dto.finance.ServiceOrderItemRequest;
 import com.authapp.backend.dto.finance.ServiceOrderRequest;
+import com.authapp.backend.dto.finance.ServiceOrderResponse;
 import com.authapp.backend.entity.finance.ServiceOrder;
 import com.authapp.backend.entity.finance.ServiceOrderItem;
 import com.authapp.backend.entity.finance.ServiceOrderStatus;
@@ -9,6 +13,9 @@ import com.authapp.backend.repository.finance.ServiceOrderRepository;
 import com.authapp.backend.service.AuditService;
 import com.authapp.backend.service.EmailService;
 import com.authapp.backend.service.PdfService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,19 +32,24 @@ import java.util.Map;
 @RequestMapping("/api/finance/service-orders")
 public class ServiceOrderController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ServiceOrderRepository serviceOrderRepository;
     private final AuditService auditService;
     private final EmailService emailService;
     private final PdfService pdfService;
+    private final FinanceResponseMapper responseMapper;
 
     public ServiceOrderController(ServiceOrderRepository serviceOrderRepository,
                                  AuditService auditService,
                                  EmailService emailService,
-                                 PdfService pdfService) {
+                                 @Lazy PdfService pdfService,
+                                 FinanceResponseMapper responseMapper) {
         this.serviceOrderRepository = serviceOrderRepository;
         this.auditService = auditService;
         this.emailService = emailService;
         this.pdfService = pdfService;
+        this.responseMapper = responseMapper;
     }
 
     @PostMapping
@@ -102,7 +114,7 @@ public class ServiceOrderController {
             auditService.logAction(ownerEmail, "SERVICE_ORDER", saved.getId(), "CREATED", 
                 "Ordem de serviço criada para " + saved.getCustomerName());
             
-            return ResponseEntity.ok(saved);
+            return ResponseEntity.ok(responseMapper.toServiceOrderResponse(saved));
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Erro ao criar ordem de serviço: " + e.getMessage());
@@ -111,32 +123,22 @@ public class ServiceOrderController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ServiceOrder>> getAll(
+    public ResponseEntity<List<ServiceOrderResponse>> getAll(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
             Principal principal) {
         String ownerEmail = principal.getName();
-        List<ServiceOrder> orders = serviceOrderRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail);
-        
-        // Filter by status if provided
-        if (status != null && !status.isEmpty()) {
-            ServiceOrderStatus statusEnum = ServiceOrderStatus.valueOf(status);
-            orders = orders.stream()
-                .filter(o -> o.getStatus() == statusEnum)
-                .toList();
-        }
-        
-        // Search filter
-        if (search != null && !search.isEmpty()) {
-            String searchLower = search.toLowerCase();
-            orders = orders.stream()
-                .filter(o -> o.getCustomerName().toLowerCase().contains(searchLower) ||
-                            o.getDescription().toLowerCase().contains(searchLower) ||
-                            (o.getAssignedTechnician() != null && o.getAssignedTechnician().toLowerCase().contains(searchLower)))
-                .toList();
-        }
-        
-        return ResponseEntity.ok(orders);
+
+        ServiceOrderStatus statusEnum = status != null && !status.isEmpty() ? ServiceOrderStatus.valueOf(status) : null;
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Page<ServiceOrder> orders = serviceOrderRepository.search(ownerEmail, statusEnum, toLikePattern(search), pageRequest);
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(orders.getTotalElements()))
+                .header("X-Total-Pages", String.valueOf(orders.getTotalPages()))
+                .body(orders.getContent().stream().map(responseMapper::toServiceOrderResponse).toList());
     }
 
     @GetMapping("/{id}")
@@ -144,7 +146,7 @@ public class ServiceOrderController {
         String ownerEmail = principal.getName();
         return serviceOrderRepository.findById(id)
                 .filter(order -> order.getOwnerEmail().equals(ownerEmail))
-                .map(ResponseEntity::ok)
+                .map(order -> ResponseEntity.ok(responseMapper.toServiceOrderResponse(order)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -180,12 +182,13 @@ public class ServiceOrderController {
                         System.err.println("Failed to send notification: " + e.getMessage());
                     }
                     
-                    return ResponseEntity.ok(updated);
+                    return ResponseEntity.ok(responseMapper.toServiceOrderResponse(updated));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}/pdf")
+    @DatabaseWorkload(Workload.REPORTING)
     public ResponseEntity<byte[]> generatePdf(@PathVariable Long id, Principal principal) {
         String ownerEmail = principal.getName();
         
@@ -234,7 +237,7 @@ public class ServiceOrderController {
         stats.put("pending", serviceOrderRepository.countByOwnerEmailAndStatus(ownerEmail, ServiceOrderStatus.PENDING));
         stats.put("inProgress", serviceOrderRepository.countByOwnerEmailAndStatus(ownerEmail, ServiceOrderStatus.IN_PROGRESS));
         stats.put("completed", serviceOrderRepository.countByOwnerEmailAndStatus(ownerEmail, ServiceOrderStatus.COMPLETED));
-        stats.put("total", serviceOrderRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail).size());
+        stats.put("total", serviceOrderRepository.countByOwnerEmail(ownerEmail));
         
         return ResponseEntity.ok(stats);
     }
@@ -251,4 +254,15 @@ public class ServiceOrderController {
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    private String toLikePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String escaped = search.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
@@ -3,6 +3,7 @@ package com.authapp.backend.controller.finance;
 import com.authapp.backend.entity.finance.EntryStatus;
 import com.authapp.backend.entity.finance.EntryType;
 import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Money;
 import com.authapp.backend.entity.finance.Quote;
 import com.authapp.backend.entity.finance.QuoteStatus;
 import com.authapp.backend.repository.finance.CatalogItemRepository;
@@ -16,7 +17,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.LinkedHashMap;
@@ -49,11 +49,11 @@ public class SummaryController extends FinanceBaseController {
         YearMonth yearMonth = month == null || month.isBlank() ? YearMonth.now() : YearMonth.parse(month);
 
         List<FinancialEntry> allEntries = financialEntryRepository.findByOwnerEmailOrderByCreatedAtDesc(ownerEmail);
-        BigDecimal monthlyIncome = BigDecimal.ZERO;
-        BigDecimal monthlyExpense = BigDecimal.ZERO;
-        BigDecimal totalPending = BigDecimal.ZERO;
-        BigDecimal paidIncome = BigDecimal.ZERO;
-        BigDecimal paidExpense = BigDecimal.ZERO;
+        Money.Sum monthlyIncome = new Money.Sum();
+        Money.Sum monthlyExpense = new Money.Sum();
+        Money.Sum totalPending = new Money.Sum();
+        Money.Sum paidIncome = new Money.Sum();
+        Money.Sum paidExpense = new Money.Sum();
 
         for (FinancialEntry entry : allEntries) {
             LocalDate referenceDate = entry.getPaidDate() != null ? entry.getPaidDate() : entry.getDueDate();
@@ -62,22 +62,22 @@ public class SummaryController extends FinanceBaseController {
             }
 
             if (entry.getStatus() == EntryStatus.PENDING) {
-                totalPending = totalPending.add(entry.getAmount());
+                totalPending.add(entry.getAmount());
             }
 
             if (entry.getStatus() == EntryStatus.PAID) {
                 if (entry.getType() == EntryType.INCOME) {
-                    paidIncome = paidIncome.add(entry.getAmount());
+                    paidIncome.add(entry.getAmount());
                 } else {
-                    paidExpense = paidExpense.add(entry.getAmount());
+                    paidExpense.add(entry.getAmount());
                 }
             }
 
             if (YearMonth.from(referenceDate).equals(yearMonth)) {
                 if (entry.getType() == EntryType.INCOME) {
-                    monthlyIncome = monthlyIncome.add(entry.getAmount());
+                    monthlyIncome.add(entry.getAmount());
                 } else {
-                    monthlyExpense = monthlyExpense.add(entry.getAmount());
+                    monthlyExpense.add(entry.getAmount());
                 }
             }
         }
@@ -92,11 +92,11 @@ public class SummaryController extends FinanceBaseController {
 
         Map<String, Object> response = new LinkedHashMap<>();
         response.put("month", yearMonth.toString());
-        response.put("monthlyIncome", scale(monthlyIncome));
-        response.put("monthlyExpense", scale(monthlyExpense));
-        response.put("monthlyBalance", scale(monthlyIncome.subtract(monthlyExpense)));
-        response.put("totalPending", scale(totalPending));
-        response.put("paidBalance", scale(paidIncome.subtract(paidExpense)));
+        response.put("monthlyIncome", monthlyIncome.total().toBigDecimal());
+        response.put("monthlyExpense", monthlyExpense.total().toBigDecimal());
+        response.put("monthlyBalance", monthlyIncome.total().minus(monthlyExpense.total()).toBigDecimal());
+        response.put("totalPending", totalPending.total().toBigDecimal());
+        response.put("paidBalance", paidIncome.total().minus(paidExpense.total()).toBigDecimal());
         response.put("approvedQuotes", approvedQuotes);
         response.put("openQuotes", openQuotes);
         response.put("customers", customerRepository.findByOwnerEmailOrderByNameAsc(ownerEmail).size());
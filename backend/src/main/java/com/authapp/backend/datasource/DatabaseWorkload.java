@@ -0,0 +1,20 @@
+package com.authapp.backend.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a controller handler as the given {@link Workload}, so its queries use
+ * that workload's pool. Work the handler hands to other threads, such as a
+ * streamed response body, has to be marked where it runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DatabaseWorkload {
+
+    Workload value();
+}
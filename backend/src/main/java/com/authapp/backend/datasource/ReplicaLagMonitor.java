@@ -0,0 +1,237 @@
+package com.authapp.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of which read replicas are close enough to the primary to serve
+ * reads. Every node writes the current time to a heartbeat row on the primary;
+ * a replica's lag is how far its copy of that row trails the primary's. A
+ * replica that cannot be reached, or trails by more than {@code maxLag}, is
+ * left out until it catches up. No replica is used before this node has
+ * written its first beat, as the one found on the primary may be stale.
+ * Checks run on their own thread so other scheduled jobs cannot delay them,
+ * and a verdict older than {@code maxLag} is not trusted: reads then go to
+ * the primary until the next check.
+ *
+ * <p>A replica can thus serve data up to {@code 2 * maxLag + checkInterval}
+ * old: lag is measured against a beat written one interval earlier, and the
+ * verdict holds for another {@code maxLag}. For that long after an owner's
+ * last write, {@link #pick(String)} keeps the owner on the primary, so the
+ * validators issued from its reads never describe data a replica lacks.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String CREATE_SQL =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    private static final String SELECT_SQL = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+    private static final String UPDATE_SQL = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final Duration checkInterval;
+    private final boolean heartbeat;
+    /** Owners that wrote within the staleness bound. */
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile List<Replica> available = List.of();
+    /** {@link System#nanoTime()} at which {@link #available} was measured. */
+    private volatile long checkedAt;
+    /** {@link System#nanoTime()} until which every owner stays on the primary. */
+    private volatile long allPinnedUntil = System.nanoTime();
+    private boolean beating;
+
+    public ReplicaLagMonitor(DataSource primary,
+                             Map<String, HikariDataSource> replicas,
+                             Duration maxLag,
+                             Duration checkInterval,
+                             boolean heartbeat,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkInterval = checkInterval;
+        this.heartbeat = heartbeat;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stalenessBound())
+                .build();
+        for (Replica replica : this.replicas) {
+            Gauge.builder("app.datasource.replica.lag", replica, r -> r.lagMillis < 0 ? Double.NaN : r.lagMillis / 1000.0)
+                    .description("How far the replica trails the primary; NaN while unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+        if (heartbeat) {
+            this.primary.execute(CREATE_SQL);
+        }
+    }
+
+    /** Replica pools by name, for the routing data source. */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    /** Starts checking every {@code checkInterval}, the first time right away. */
+    public void start() {
+        checker.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (RuntimeException e) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** How old the data a replica serves can be. */
+    public Duration stalenessBound() {
+        return Duration.ofMillis(2 * maxLagMillis).plus(checkInterval);
+    }
+
+    /** Keeps the owner's reads on the primary until replicas must have its write. */
+    public void wrote(String ownerEmail) {
+        recentWriters.put(ownerEmail, Boolean.TRUE);
+    }
+
+    /** Same for every owner, when writes may have gone unnoticed. */
+    public void wroteAll() {
+        allPinnedUntil = System.nanoTime() + stalenessBound().toNanos();
+    }
+
+    /**
+     * Next replica fit for reads, round robin, or {@code null} if none is or
+     * the owner, when known, wrote too recently.
+     */
+    public String pick(String ownerEmail) {
+        List<Replica> current = available;
+        long now = System.nanoTime();
+        if (current.isEmpty() || now - checkedAt > TimeUnit.MILLISECONDS.toNanos(maxLagMillis)
+                || now - allPinnedUntil < 0
+                || ownerEmail != null && recentWriters.getIfPresent(ownerEmail) != null) {
+            return null;
+        }
+        return current.get(Math.floorMod(next.getAndIncrement(), current.size())).name;
+    }
+
+    /**
+     * Compares each replica with the beat already on the primary, then writes a
+     * new one; a replica thus has a full interval to apply the previous beat.
+     */
+    private void check() {
+        long startedAt = System.nanoTime();
+        Long primaryBeat = null;
+        if (heartbeat && beating) {
+            try {
+                primaryBeat = beat(primary);
+            } catch (RuntimeException e) {
+                log.warn("Failed to read the replica heartbeat on the primary: {}", e.getMessage());
+            }
+        }
+        for (Replica replica : replicas) {
+            replica.lagMillis = lag(replica, primaryBeat);
+            boolean fit = replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis;
+            if (fit != replica.fit) {
+                if (fit) {
+                    log.info("Replica {} is serving reads", replica.name);
+                } else {
+                    log.warn("Replica {} left out of reads, lag {} ms", replica.name, replica.lagMillis);
+                }
+                replica.fit = fit;
+            }
+        }
+        available = replicas.stream().filter(replica -> replica.fit).toList();
+        checkedAt = startedAt;
+        if (heartbeat) {
+            writeBeat();
+        }
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    /** Milliseconds behind the primary, or -1 if unknown. */
+    private long lag(Replica replica, Long primaryBeat) {
+        try {
+            if (!heartbeat) {
+                replica.jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                return 0;
+            }
+            Long replicaBeat = beat(replica.jdbcTemplate);
+            if (primaryBeat == null || replicaBeat == null) {
+                return -1;
+            }
+            return Math.max(0, primaryBeat - replicaBeat);
+        } catch (RuntimeException e) {
+            log.debug("Replica {} check failed: {}", replica.name, e.getMessage());
+            return -1;
+        }
+    }
+
+    private void writeBeat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update(UPDATE_SQL, now) == 0) {
+                primary.update(INSERT_SQL, now);
+            }
+            beating = true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted the row first; its beat is just as good.
+            beating = true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write the replica heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private static Long beat(JdbcTemplate jdbcTemplate) {
+        List<Long> beats = jdbcTemplate.queryForList(SELECT_SQL, Long.class);
+        return beats.isEmpty() ? null : beats.get(0);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long lagMillis = -1;
+        private boolean fit;
+
+        Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.authapp.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends read-only transactions to a replica picked by the
+ * {@link ReplicaLagMonitor}, if there is one, and everything else to the
+ * primary pool of the current {@link Workload}. Has to sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the transaction is only marked
+ * read-only after it has asked for its connection.
+ *
+ * <p>Within an HTTP request, reads see the request's own writes: requests
+ * other than GET/HEAD/OPTIONS, which usually read what they are about to
+ * change, stay on the primary, and so does the rest of any request once it
+ * has opened a read-write transaction. Across requests, an owner's reads stay
+ * on the primary for a while after each of its writes, see
+ * {@link ReplicaLagMonitor#pick(String)}.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WROTE_ATTRIBUTE = RoutingDataSource.class.getName() + ".WROTE";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaLagMonitor monitor;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    /**
+     * @param pools   one primary pool per workload
+     * @param monitor replicas to read from, or {@code null} for none
+     */
+    public RoutingDataSource(Map<Workload, DataSource> pools, ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+        Map<Object, Object> targets = new HashMap<>(pools);
+        if (monitor != null) {
+            targets.putAll(monitor.dataSources());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.get(Workload.OLTP));
+        setLenientFallback(false);
+        this.primaryReads = reads(meterRegistry, "primary");
+        this.replicaReads = reads(meterRegistry, "replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (monitor == null) {
+            return Workload.current();
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (request != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            return Workload.current();
+        }
+        String replica = pinnedToPrimary(request) ? null : monitor.pick(currentOwner());
+        if (replica == null) {
+            primaryReads.increment();
+            return Workload.current();
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private static boolean pinnedToPrimary(RequestAttributes request) {
+        if (request == null) {
+            return false;
+        }
+        if (request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        HttpServletRequest servletRequest = request instanceof ServletRequestAttributes attributes ? attributes.getRequest() : null;
+        return servletRequest != null && !SAFE_METHODS.contains(servletRequest.getMethod());
+    }
+
+    private static String currentOwner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("app.datasource.reads")
+                .description("Read-only transactions by the database that served them")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
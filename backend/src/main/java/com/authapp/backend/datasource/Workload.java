@@ -0,0 +1,76 @@
+package com.authapp.backend.datasource;
+
+import java.util.Locale;
+
+/**
+ * Kind of work running on the current thread, which decides the primary pool
+ * its connections come from. Unmarked work is {@link #OLTP}: logins, sales
+ * and the rest of the interactive requests. Long reads and bulk jobs are
+ * marked so they queue on their own pools instead of taking those
+ * connections.
+ */
+public enum Workload {
+
+    OLTP,
+    /** Exports, PDFs and search index rebuilds. */
+    REPORTING,
+    /** Scheduled jobs and bulk imports. */
+    BACKGROUND;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? OLTP : workload;
+    }
+
+    /** Pool name, also used as the {@code pool} metric tag. */
+    public String poolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Runs {@code work} as this workload, restoring the previous one afterwards. */
+    public <T, E extends Exception> T call(Work<T, E> work) throws E {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public Runnable wrap(Runnable work) {
+        return () -> {
+            Workload previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                work.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /** Marks the current thread until {@link #clear()}; for callbacks that span two calls. */
+    public void enter() {
+        CURRENT.set(this);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    private static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
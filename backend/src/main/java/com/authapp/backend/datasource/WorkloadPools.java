@@ -0,0 +1,30 @@
+package com.authapp.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** The primary database's connection pools, one per {@link Workload}. */
+public class WorkloadPools implements AutoCloseable {
+
+    private final Map<Workload, HikariDataSource> pools;
+
+    public WorkloadPools(Map<Workload, HikariDataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+    }
+
+    public HikariDataSource get(Workload workload) {
+        return pools.get(workload);
+    }
+
+    public Map<Workload, DataSource> asMap() {
+        return new EnumMap<>(pools);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -4,6 +4,8 @@ public record AuthResponse(
         String token,
         String tokenType,
         long expiresIn,
+        String refreshToken,
+        long refreshExpiresIn,
         String name,
         String email
 ) {
@@ -0,0 +1,8 @@
+package com.authapp.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank String refreshToken
+) {
+}
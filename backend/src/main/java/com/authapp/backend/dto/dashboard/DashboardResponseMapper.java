@@ -0,0 +1,15 @@
+package com.authapp.backend.dto.dashboard;
+
+import com.authapp.backend.entity.audit.AuditLog;
+import com.authapp.backend.entity.finance.Sale;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface DashboardResponseMapper {
+
+    RecentActivityResponse toActivityResponse(AuditLog log);
+
+    RecentSaleResponse toRecentSaleResponse(Sale sale);
+}
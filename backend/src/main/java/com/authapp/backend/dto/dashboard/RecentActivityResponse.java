@@ -0,0 +1,13 @@
+package com.authapp.backend.dto.dashboard;
+
+import java.time.LocalDateTime;
+
+public record RecentActivityResponse(
+        Long id,
+        String entityType,
+        Long entityId,
+        String action,
+        String details,
+        LocalDateTime timestamp
+) {
+}
@@ -0,0 +1,15 @@
+package com.authapp.backend.dto.dashboard;
+
+import com.authapp.backend.entity.finance.SaleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record RecentSaleResponse(
+        Long id,
+        String customerName,
+        BigDecimal total,
+        SaleStatus status,
+        LocalDateTime saleDate
+) {
+}
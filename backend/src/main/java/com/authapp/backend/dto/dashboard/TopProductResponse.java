@@ -0,0 +1,10 @@
+package com.authapp.backend.dto.dashboard;
+
+import java.math.BigDecimal;
+
+public record TopProductResponse(
+        String name,
+        BigDecimal quantity,
+        BigDecimal revenue
+) {
+}
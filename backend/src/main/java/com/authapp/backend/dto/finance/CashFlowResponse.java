@@ -0,0 +1,30 @@
+package com.authapp.backend.dto.finance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Projected daily balances. {@code openingBalance} is what has been paid so
+ * far; overdue amounts are included in the first day.
+ */
+public record CashFlowResponse(
+        LocalDate from,
+        int days,
+        BigDecimal openingBalance,
+        BigDecimal overdueInflow,
+        BigDecimal overdueOutflow,
+        BigDecimal closingBalance,
+        LocalDate lowestBalanceDate,
+        BigDecimal lowestBalance,
+        List<Day> series
+) {
+
+    public record Day(
+            LocalDate date,
+            BigDecimal inflow,
+            BigDecimal outflow,
+            BigDecimal balance
+    ) {
+    }
+}
@@ -2,6 +2,7 @@ package com.authapp.backend.dto.finance;
 
 import com.authapp.backend.entity.finance.ItemType;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -14,11 +15,11 @@ public record CatalogItemRequest(
         @Size(max = 500) String qrCode,
         @NotNull ItemType type,
         @Size(max = 20) String unit,
-        @NotNull @DecimalMin(value = "0.01") BigDecimal unitPrice,
-        BigDecimal costPrice,
+        @NotNull @DecimalMin(value = "0.01") @Digits(integer = 10, fraction = 2) BigDecimal unitPrice,
+        @Digits(integer = 10, fraction = 2) BigDecimal costPrice,
         @Size(max = 300) String description,
         String productImageBase64,
-        @DecimalMin(value = "0.00") BigDecimal stockQuantity,
-        @DecimalMin(value = "0.00") BigDecimal minStock
+        @DecimalMin(value = "0.00") @Digits(integer = 10, fraction = 2) BigDecimal stockQuantity,
+        @DecimalMin(value = "0.00") @Digits(integer = 10, fraction = 2) BigDecimal minStock
 ) {
 }
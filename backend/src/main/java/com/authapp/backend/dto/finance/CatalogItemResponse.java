@@ -0,0 +1,32 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.ItemType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CatalogItemResponse(
+        Long id,
+        String name,
+        String sku,
+        String qrCode,
+        ItemType type,
+        String unit,
+        BigDecimal unitPrice,
+        BigDecimal costPrice,
+        String description,
+        String productImageBase64,
+        BigDecimal stockQuantity,
+        BigDecimal minStock,
+        LocalDateTime createdAt
+) {
+
+    public CatalogItemResponse {
+        sku = sku == null ? "" : sku;
+        qrCode = qrCode == null ? "" : qrCode;
+        unit = unit == null ? "" : unit;
+        costPrice = costPrice == null ? BigDecimal.ZERO : costPrice;
+        description = description == null ? "" : description;
+        productImageBase64 = productImageBase64 == null ? "" : productImageBase64;
+    }
+}
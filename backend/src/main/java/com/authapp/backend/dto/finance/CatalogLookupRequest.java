@@ -0,0 +1,11 @@
+package com.authapp.backend.dto.finance;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CatalogLookupRequest(
+        @NotEmpty @Size(max = 500) List<String> codes
+) {
+}
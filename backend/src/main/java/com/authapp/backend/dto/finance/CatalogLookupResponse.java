@@ -0,0 +1,26 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.ItemType;
+
+import java.math.BigDecimal;
+
+/**
+ * Compact catalog projection served to point-of-sale scans.
+ */
+public record CatalogLookupResponse(
+        Long id,
+        String name,
+        String sku,
+        String qrCode,
+        ItemType type,
+        String unit,
+        BigDecimal unitPrice,
+        BigDecimal stockQuantity
+) {
+
+    public CatalogLookupResponse {
+        sku = sku == null ? "" : sku;
+        qrCode = qrCode == null ? "" : qrCode;
+        unit = unit == null ? "" : unit;
+    }
+}
@@ -7,6 +7,7 @@ public record CustomerRequest(
         @NotBlank @Size(max = 120) String name,
         @Size(max = 120) String email,
         @Size(max = 30) String phone,
-        @Size(max = 500) String notes
+        @Size(max = 500) String notes,
+        @Size(max = 20) String cpfCnpj
 ) {
 }
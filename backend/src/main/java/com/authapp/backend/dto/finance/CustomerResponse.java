@@ -0,0 +1,21 @@
+package com.authapp.backend.dto.finance;
+
+import java.time.LocalDateTime;
+
+public record CustomerResponse(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        String notes,
+        String cpfCnpj,
+        LocalDateTime createdAt
+) {
+
+    public CustomerResponse {
+        email = email == null ? "" : email;
+        phone = phone == null ? "" : phone;
+        notes = notes == null ? "" : notes;
+        cpfCnpj = cpfCnpj == null ? "" : cpfCnpj;
+    }
+}
@@ -0,0 +1,49 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.QuoteItem;
+import com.authapp.backend.entity.finance.RecurrenceRule;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.SaleItem;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.entity.finance.ServiceOrderItem;
+import com.authapp.backend.entity.finance.StockMovement;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Entity to response conversions, generated at compile time. Responses are
+ * records, so serialization never reaches a lazy association the mapping did
+ * not copy.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface FinanceResponseMapper {
+
+    CatalogItemResponse toCatalogResponse(CatalogItem item);
+
+    StockMovementResponse toStockMovementResponse(StockMovement movement);
+
+    CustomerResponse toCustomerResponse(Customer customer);
+
+    FinancialEntryResponse toEntryResponse(FinancialEntry entry);
+
+    QuoteResponse toQuoteResponse(Quote quote);
+
+    QuoteResponse.Item toQuoteItemResponse(QuoteItem item);
+
+    SaleResponse toSaleResponse(Sale sale);
+
+    SaleResponse.Item toSaleItemResponse(SaleItem item);
+
+    ServiceOrderResponse toServiceOrderResponse(ServiceOrder serviceOrder);
+
+    ServiceOrderResponse.Item toServiceOrderItemResponse(ServiceOrderItem item);
+
+    @Mapping(target = "generated", source = "nextOccurrence")
+    RecurrenceResponse toRecurrenceResponse(RecurrenceRule rule);
+}
@@ -0,0 +1,22 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.EntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record FinancialEntryResponse(
+        Long id,
+        EntryType type,
+        EntryStatus status,
+        BigDecimal amount,
+        String category,
+        String description,
+        LocalDate dueDate,
+        LocalDate paidDate,
+        LocalDateTime createdAt,
+        Long recurrenceId
+) {
+}
@@ -0,0 +1,42 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.QuoteStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record QuoteResponse(
+        Long id,
+        Long customerId,
+        String customerName,
+        QuoteStatus status,
+        LocalDate issueDate,
+        LocalDate validUntil,
+        String notes,
+        BigDecimal subtotal,
+        BigDecimal total,
+        LocalDateTime createdAt,
+        List<Item> items
+) {
+
+    public QuoteResponse {
+        notes = notes == null ? "" : notes;
+    }
+
+    public record Item(
+            Long id,
+            Long catalogItemId,
+            String description,
+            String unit,
+            BigDecimal quantity,
+            BigDecimal unitPrice,
+            BigDecimal total
+    ) {
+
+        public Item {
+            unit = unit == null ? "" : unit;
+        }
+    }
+}
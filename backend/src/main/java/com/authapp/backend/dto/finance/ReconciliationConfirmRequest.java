@@ -0,0 +1,20 @@
+package com.authapp.backend.dto.finance;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReconciliationConfirmRequest(
+        @NotEmpty @Size(max = 50000) List<@Valid @NotNull Item> matches
+) {
+
+    public record Item(
+            @NotNull Long entryId,
+            @NotNull LocalDate paidDate
+    ) {
+    }
+}
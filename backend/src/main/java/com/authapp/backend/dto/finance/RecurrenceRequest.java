@@ -0,0 +1,28 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.RecurrenceFrequency;
+import com.authapp.backend.entity.finance.RecurrenceKind;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RecurrenceRequest(
+        @NotNull RecurrenceKind kind,
+        @NotNull EntryType type,
+        @NotNull @DecimalMin(value = "0.01") BigDecimal amount,
+        @NotBlank @Size(max = 80) String category,
+        @NotBlank @Size(max = 150) String description,
+        @NotNull RecurrenceFrequency frequency,
+        @Min(1) @Max(60) Integer interval,
+        @NotNull LocalDate startDate,
+        LocalDate endDate,
+        @Min(1) @Max(360) Integer occurrences
+) {
+}
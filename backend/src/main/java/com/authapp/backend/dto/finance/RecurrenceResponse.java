@@ -0,0 +1,31 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.RecurrenceFrequency;
+import com.authapp.backend.entity.finance.RecurrenceKind;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A recurrence rule; {@code generated} is how many of its occurrences already
+ * exist as entries.
+ */
+public record RecurrenceResponse(
+        Long id,
+        RecurrenceKind kind,
+        EntryType type,
+        BigDecimal amount,
+        String category,
+        String description,
+        RecurrenceFrequency frequency,
+        int interval,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer occurrences,
+        int generated,
+        LocalDate nextDueDate,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,39 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.PaymentMethod;
+import com.authapp.backend.entity.finance.SaleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SaleResponse(
+        Long id,
+        String customerId,
+        String customerName,
+        LocalDateTime saleDate,
+        SaleStatus status,
+        List<Item> items,
+        BigDecimal subtotal,
+        BigDecimal discount,
+        BigDecimal discountPercent,
+        BigDecimal shipping,
+        BigDecimal tax,
+        BigDecimal total,
+        PaymentMethod paymentMethod,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public record Item(
+            Long id,
+            String description,
+            BigDecimal quantity,
+            String unit,
+            BigDecimal unitPrice,
+            BigDecimal total,
+            Long productId
+    ) {
+    }
+}
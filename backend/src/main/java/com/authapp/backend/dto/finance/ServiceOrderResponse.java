@@ -0,0 +1,42 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.ServiceOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ServiceOrderResponse(
+        Long id,
+        Long customerId,
+        String customerName,
+        String customerPhone,
+        String customerAddress,
+        ServiceOrderStatus status,
+        LocalDate startDate,
+        LocalDate estimatedEndDate,
+        LocalDate completedDate,
+        String description,
+        String technicianNotes,
+        String assignedTechnician,
+        BigDecimal laborCost,
+        BigDecimal partsCost,
+        BigDecimal total,
+        List<Item> items,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public record Item(
+            Long id,
+            Long catalogId,
+            String itemName,
+            String description,
+            Integer quantity,
+            BigDecimal unitPrice,
+            BigDecimal total,
+            Boolean isService
+    ) {
+    }
+}
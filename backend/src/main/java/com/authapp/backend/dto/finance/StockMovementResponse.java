@@ -0,0 +1,21 @@
+package com.authapp.backend.dto.finance;
+
+import com.authapp.backend.entity.finance.StockMovementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record StockMovementResponse(
+        Long id,
+        Long catalogItemId,
+        String itemName,
+        StockMovementType type,
+        BigDecimal quantity,
+        String reason,
+        LocalDateTime createdAt
+) {
+
+    public StockMovementResponse {
+        reason = reason == null ? "" : reason;
+    }
+}
@@ -0,0 +1,12 @@
+package com.authapp.backend.dto.search;
+
+import com.authapp.backend.event.EntityKind;
+
+public record SearchHit(
+        EntityKind type,
+        Long id,
+        String title,
+        String subtitle,
+        float score
+) {
+}
@@ -0,0 +1,54 @@
+package com.authapp.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Key pair used to sign access tokens. The private key is stored encrypted with
+ * {@code app.jwt.secret}; the public key is published through the JWKS endpoint.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtSigningKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String kid;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    /** X.509 SubjectPublicKeyInfo, base64. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    /** AES-GCM encrypted PKCS#8, base64 of IV followed by ciphertext. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /** Signing starts here; other nodes must have loaded the public key by then. */
+    @Column(nullable = false)
+    private Instant activatesAt;
+}
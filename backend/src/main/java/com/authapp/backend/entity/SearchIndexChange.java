@@ -0,0 +1,53 @@
+package com.authapp.backend.entity;
+
+import com.authapp.backend.event.EntityKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A searchable entity that changed, so every node can bring its copy of the
+ * owner's search index up to date, including changes made while it was down.
+ * A row without {@code entityId} stands for a bulk change of the whole kind.
+ */
+@Entity
+@Table(name = "search_index_changes", indexes = {
+        @Index(name = "idx_search_index_changes_owner", columnList = "owner_email, id"),
+        @Index(name = "idx_search_index_changes_changed", columnList = "changed_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String ownerEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityKind kind;
+
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
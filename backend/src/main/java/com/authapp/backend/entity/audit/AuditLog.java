@@ -1,11 +1,13 @@
 package com.authapp.backend.entity.audit;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "audit_logs")
 @Getter
 @Setter
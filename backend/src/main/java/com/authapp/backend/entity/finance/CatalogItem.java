@@ -1,12 +1,15 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +21,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "finance_catalog_items")
+@EntityListeners(EntityChangeListener.class)
+@Table(name = "finance_catalog_items", indexes = {
+        @Index(name = "idx_catalog_items_owner_qr_code", columnList = "owner_email, qr_code"),
+        @Index(name = "idx_catalog_items_owner_sku", columnList = "owner_email, sku")
+})
 @Getter
 @Setter
 @Builder
@@ -1,7 +1,9 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,6 +17,7 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "finance_customers")
 @Getter
 @Setter
@@ -1,13 +1,17 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +23,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "finance_entries")
+@EntityListeners(EntityChangeListener.class)
+@Table(name = "finance_entries", indexes = {
+        @Index(name = "idx_finance_entries_owner_created", columnList = "owner_email, created_at"),
+        @Index(name = "idx_finance_entries_owner_status", columnList = "owner_email, status")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_finance_entries_recurrence", columnNames = {"recurrence_id", "occurrence"}))
 @Getter
 @Setter
 @Builder
@@ -59,4 +67,11 @@ public class FinancialEntry {
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
+
+    /** Set on entries generated from a {@link RecurrenceRule}, together with the occurrence number. */
+    @Column
+    private Long recurrenceId;
+
+    @Column
+    private Integer occurrence;
 }
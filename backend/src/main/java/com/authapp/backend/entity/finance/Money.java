@@ -0,0 +1,87 @@
+package com.authapp.backend.entity.finance;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * An amount in whole cents, for sums over many rows. The money columns have
+ * scale 2, so every stored value converts exactly; finer values computed in
+ * memory are rounded half-up, as the column would on write.
+ *
+ * <p>{@code BigDecimal.add} allocates a new object per addition. Running
+ * totals should go through {@link Sum} or {@link #summing}, which add plain
+ * longs and only build a {@code Money} at the end.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money of(BigDecimal amount) {
+        return new Money(toCents(amount));
+    }
+
+    /** Cents in {@code amount}; {@code null} counts as zero. */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        // setScale returns the same instance for stored values, and the one BigDecimal
+        // left is short-lived enough for the JIT to drop; reassigning it conditionally
+        // would stop that.
+        return amount.setScale(2, RoundingMode.HALF_UP).scaleByPowerOfTen(2).longValueExact();
+    }
+
+    /** Sum of {@code amount} over a stream, with no allocation per element. */
+    public static <T> Collector<T, Sum, Money> summing(Function<? super T, BigDecimal> amount) {
+        return Collector.of(Sum::new,
+                (sum, element) -> sum.add(amount.apply(element)),
+                Sum::add,
+                Sum::total,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(cents, other.cents));
+    }
+
+    /** Scale 2, as stored in the money columns. */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /** Mutable running total; adding never allocates. */
+    public static final class Sum {
+
+        private long cents;
+
+        public Sum add(BigDecimal amount) {
+            cents = Math.addExact(cents, toCents(amount));
+            return this;
+        }
+
+        public Sum add(Sum other) {
+            cents = Math.addExact(cents, other.cents);
+            return this;
+        }
+
+        public Money total() {
+            return new Money(cents);
+        }
+    }
+}
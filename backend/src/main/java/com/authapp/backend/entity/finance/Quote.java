@@ -1,8 +1,10 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -24,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "finance_quotes")
 @Getter
 @Setter
@@ -0,0 +1,7 @@
+package com.authapp.backend.entity.finance;
+
+public enum RecurrenceFrequency {
+    WEEKLY,
+    MONTHLY,
+    YEARLY
+}
@@ -0,0 +1,8 @@
+package com.authapp.backend.entity.finance;
+
+public enum RecurrenceKind {
+    /** The same amount every period, optionally until an end date or a number of occurrences. */
+    RECURRING,
+    /** A total amount split into a fixed number of installments. */
+    INSTALLMENTS
+}
@@ -0,0 +1,122 @@
+package com.authapp.backend.entity.finance;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Template for financial entries that repeat. Occurrences are numbered from
+ * zero; {@code nextOccurrence} and {@code nextDueDate} point at the first one
+ * not generated yet, and {@code nextDueDate} is {@code null} once the rule has
+ * run out.
+ */
+@Entity
+@Table(name = "finance_recurrences", indexes = @Index(name = "idx_finance_recurrences_next_due", columnList = "next_due_date"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String ownerEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntryType type;
+
+    /** Per occurrence for recurring rules, the whole plan for installments. */
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "repeat_interval", nullable = false)
+    private int interval;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column
+    private LocalDate endDate;
+
+    /** Required for installments; caps recurring rules when set. */
+    @Column
+    private Integer occurrences;
+
+    @Column(nullable = false)
+    private int nextOccurrence;
+
+    @Column
+    private LocalDate nextDueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Due date of the given occurrence, or {@code null} if the rule has no such occurrence. */
+    public LocalDate dueDate(int occurrence) {
+        if (occurrences != null && occurrence >= occurrences) {
+            return null;
+        }
+        long periods = (long) occurrence * interval;
+        // Always counted from the start date, so the 31st becomes the 30th or 28th without drifting.
+        LocalDate date = switch (frequency) {
+            case WEEKLY -> startDate.plusWeeks(periods);
+            case MONTHLY -> startDate.plusMonths(periods);
+            case YEARLY -> startDate.plusYears(periods);
+        };
+        return endDate != null && date.isAfter(endDate) ? null : date;
+    }
+
+    /** Installments share the total; the cents that do not divide evenly go to the first one. */
+    public BigDecimal amount(int occurrence) {
+        if (kind != RecurrenceKind.INSTALLMENTS) {
+            return amount;
+        }
+        BigDecimal share = amount.divide(BigDecimal.valueOf(occurrences), 2, RoundingMode.DOWN);
+        if (occurrence > 0) {
+            return share;
+        }
+        return amount.subtract(share.multiply(BigDecimal.valueOf(occurrences - 1L)));
+    }
+
+    public String description(int occurrence) {
+        if (kind != RecurrenceKind.INSTALLMENTS) {
+            return description;
+        }
+        return description + " (" + (occurrence + 1) + "/" + occurrences + ")";
+    }
+}
@@ -1,5 +1,6 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,7 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "sales")
+@EntityListeners(EntityChangeListener.class)
+@Table(name = "sales", indexes = @Index(name = "idx_sales_owner_created", columnList = "owner_email, created_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -86,24 +88,28 @@ public class Sale {
     }
 
     public void calculateTotal() {
-        // Calculate subtotal (sum of all items)
-        this.subtotal = items.stream()
-                .map(SaleItem::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Calculate subtotal (sum of all items, each in cents as it is stored)
+        Money.Sum itemsTotal = new Money.Sum();
+        for (SaleItem item : items) {
+            itemsTotal.add(item.getTotal());
+        }
+        Money subtotalCents = itemsTotal.total();
+        this.subtotal = subtotalCents.toBigDecimal();
         
         // Calculate discount
-        BigDecimal discountValue = BigDecimal.ZERO;
+        Money discountValue = Money.ZERO;
         if (discount != null) {
-            discountValue = discount;
+            discountValue = Money.of(discount);
         } else if (discountPercent != null) {
-            discountValue = subtotal.multiply(discountPercent).divide(new BigDecimal("100"));
+            discountValue = Money.of(subtotal.multiply(discountPercent).divide(new BigDecimal("100")));
         }
         
         // Calculate total: subtotal - discount + shipping + tax
-        this.total = subtotal
-                .subtract(discountValue)
-                .add(shipping != null ? shipping : BigDecimal.ZERO)
-                .add(tax != null ? tax : BigDecimal.ZERO);
+        this.total = subtotalCents
+                .minus(discountValue)
+                .plus(Money.of(shipping))
+                .plus(Money.of(tax))
+                .toBigDecimal();
     }
 
     public void addItem(SaleItem item) {
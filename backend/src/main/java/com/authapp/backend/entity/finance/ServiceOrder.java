@@ -1,5 +1,6 @@
 package com.authapp.backend.entity.finance;
 
+import com.authapp.backend.event.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,7 +11,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "finance_service_orders")
+@EntityListeners(EntityChangeListener.class)
+@Table(name = "finance_service_orders", indexes = {
+        @Index(name = "idx_service_orders_owner_status_created", columnList = "owner_email, status, created_at"),
+        @Index(name = "idx_service_orders_owner_created", columnList = "owner_email, created_at")
+})
 @Getter
 @Setter
 @Builder
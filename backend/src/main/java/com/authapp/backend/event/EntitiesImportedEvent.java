@@ -0,0 +1,13 @@
+package com.authapp.backend.event;
+
+/**
+ * Published after a bulk write that went straight through JDBC, so no
+ * {@link EntityChangedEvent} was fired for the individual rows. Consumers
+ * should drop or rebuild whatever they derived from the owner's entities of
+ * that kind.
+ */
+public record EntitiesImportedEvent(
+        EntityKind kind,
+        String ownerEmail
+) {
+}
@@ -0,0 +1,66 @@
+package com.authapp.backend.event;
+
+import com.authapp.backend.entity.audit.AuditLog;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns entity lifecycle callbacks into
+ * {@link EntityChangedEvent}s. Hibernate obtains it from the Spring context,
+ * so constructor injection works as for any other bean.
+ */
+@Component
+public class EntityChangeListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public EntityChangeListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        publish(entity, EntityChangedEvent.Action.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        publish(entity, EntityChangedEvent.Action.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Object entity) {
+        publish(entity, EntityChangedEvent.Action.DELETED);
+    }
+
+    private void publish(Object entity, EntityChangedEvent.Action action) {
+        EntityChangedEvent event = null;
+        if (entity instanceof Customer c) {
+            event = new EntityChangedEvent(EntityKind.CUSTOMER, c.getOwnerEmail(), c.getId(), action, c);
+        } else if (entity instanceof CatalogItem i) {
+            event = new EntityChangedEvent(EntityKind.CATALOG_ITEM, i.getOwnerEmail(), i.getId(), action, i);
+        } else if (entity instanceof Sale s) {
+            event = new EntityChangedEvent(EntityKind.SALE, s.getOwnerEmail(), s.getId(), action, s);
+        } else if (entity instanceof Quote q) {
+            event = new EntityChangedEvent(EntityKind.QUOTE, q.getOwnerEmail(), q.getId(), action, q);
+        } else if (entity instanceof ServiceOrder o) {
+            event = new EntityChangedEvent(EntityKind.SERVICE_ORDER, o.getOwnerEmail(), o.getId(), action, o);
+        } else if (entity instanceof FinancialEntry e) {
+            event = new EntityChangedEvent(EntityKind.FINANCIAL_ENTRY, e.getOwnerEmail(), e.getId(), action, e);
+        } else if (entity instanceof AuditLog l) {
+            event = new EntityChangedEvent(EntityKind.AUDIT_LOG, l.getOwnerEmail(), l.getId(), action, l);
+        }
+        if (event != null) {
+            publisher.publishEvent(event);
+        }
+    }
+}
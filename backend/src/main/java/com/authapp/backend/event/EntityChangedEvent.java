@@ -0,0 +1,21 @@
+package com.authapp.backend.event;
+
+/**
+ * Published by {@link EntityChangeListener} whenever a tenant owned entity is
+ * inserted, updated or removed. Consumers that keep derived state (indexes,
+ * caches) should listen after commit so rolled back writes are never seen.
+ */
+public record EntityChangedEvent(
+        EntityKind kind,
+        String ownerEmail,
+        Long entityId,
+        Action action,
+        Object entity
+) {
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,11 @@
+package com.authapp.backend.event;
+
+public enum EntityKind {
+    CUSTOMER,
+    CATALOG_ITEM,
+    SALE,
+    QUOTE,
+    SERVICE_ORDER,
+    FINANCIAL_ENTRY,
+    AUDIT_LOG
+}
@@ -0,0 +1,11 @@
+package com.authapp.backend.repository;
+
+import com.authapp.backend.entity.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, Long> {
+
+    List<JwtSigningKey> findAllByOrderByActivatesAtAsc();
+}
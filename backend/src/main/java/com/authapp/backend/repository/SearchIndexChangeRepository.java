@@ -0,0 +1,26 @@
+package com.authapp.backend.repository;
+
+import com.authapp.backend.entity.SearchIndexChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SearchIndexChangeRepository extends JpaRepository<SearchIndexChange, Long> {
+
+    List<SearchIndexChange> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<SearchIndexChange> findByOwnerEmailAndIdGreaterThanOrderByIdAsc(String ownerEmail, Long id, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM SearchIndexChange c")
+    long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SearchIndexChange c WHERE c.changedAt < :before")
+    int deleteOlderThan(Instant before);
+}
@@ -3,10 +3,12 @@ package com.authapp.backend.repository.audit;
 import com.authapp.backend.entity.audit.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
+@Transactional(readOnly = true)
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     
     List<AuditLog> findByEntityTypeAndEntityIdOrderByTimestampDesc(String entityType, Long entityId);
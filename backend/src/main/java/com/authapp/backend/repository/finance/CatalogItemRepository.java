@@ -1,13 +1,30 @@
 package com.authapp.backend.repository.finance;
 
+import com.authapp.backend.dto.finance.CatalogLookupResponse;
 import com.authapp.backend.entity.finance.CatalogItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface CatalogItemRepository extends JpaRepository<CatalogItem, Long> {
     List<CatalogItem> findByOwnerEmailOrderByNameAsc(String ownerEmail);
     Optional<CatalogItem> findByIdAndOwnerEmail(Long id, String ownerEmail);
     Optional<CatalogItem> findByQrCodeAndOwnerEmail(String qrCode, String ownerEmail);
+    Optional<CatalogItem> findFirstBySkuAndOwnerEmailOrderByIdAsc(String sku, String ownerEmail);
+
+    @Query("SELECT new com.authapp.backend.dto.finance.CatalogLookupResponse(" +
+           "i.id, i.name, i.sku, i.qrCode, i.type, i.unit, i.unitPrice, i.stockQuantity) " +
+           "FROM CatalogItem i WHERE i.ownerEmail = :ownerEmail ORDER BY i.id")
+    List<CatalogLookupResponse> findLookupByOwnerEmail(String ownerEmail);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<CatalogItem> streamByOwnerEmail(String ownerEmail);
 }
@@ -1,13 +1,22 @@
 package com.authapp.backend.repository.finance;
 
 import com.authapp.backend.entity.finance.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     List<Customer> findByOwnerEmailOrderByNameAsc(String ownerEmail);
     Optional<Customer> findByIdAndOwnerEmail(Long id, String ownerEmail);
     long countByOwnerEmail(String ownerEmail);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Customer> streamByOwnerEmail(String ownerEmail);
 }
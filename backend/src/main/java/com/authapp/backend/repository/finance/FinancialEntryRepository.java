@@ -1,12 +1,26 @@
 package com.authapp.backend.repository.finance;
 
+import com.authapp.backend.entity.finance.EntryStatus;
 import com.authapp.backend.entity.finance.FinancialEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface FinancialEntryRepository extends JpaRepository<FinancialEntry, Long> {
     List<FinancialEntry> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
     Optional<FinancialEntry> findByIdAndOwnerEmail(Long id, String ownerEmail);
+    List<FinancialEntry> findByOwnerEmailAndStatus(String ownerEmail, EntryStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<FinancialEntry> streamByOwnerEmailOrderByCreatedAtAsc(String ownerEmail);
 }
@@ -1,12 +1,21 @@
 package com.authapp.backend.repository.finance;
 
 import com.authapp.backend.entity.finance.Quote;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
     List<Quote> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
     Optional<Quote> findByIdAndOwnerEmail(Long id, String ownerEmail);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Quote> streamByOwnerEmail(String ownerEmail);
 }
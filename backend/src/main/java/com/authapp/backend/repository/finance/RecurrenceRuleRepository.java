@@ -0,0 +1,31 @@
+package com.authapp.backend.repository.finance;
+
+import com.authapp.backend.entity.finance.RecurrenceRule;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRule, Long> {
+    List<RecurrenceRule> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
+    Optional<RecurrenceRule> findByIdAndOwnerEmail(Long id, String ownerEmail);
+
+    /**
+     * Rules with occurrences due up to {@code horizon}, locked for the current
+     * transaction. Rows another node has already locked are skipped rather than
+     * waited for, so concurrent generators split the work.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM RecurrenceRule r WHERE r.nextDueDate IS NOT NULL AND r.nextDueDate <= :horizon ORDER BY r.id")
+    List<RecurrenceRule> claimDue(LocalDate horizon, Limit limit);
+}
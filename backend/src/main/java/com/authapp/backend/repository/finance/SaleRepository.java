@@ -2,14 +2,20 @@ package com.authapp.backend.repository.finance;
 
 import com.authapp.backend.entity.finance.Sale;
 import com.authapp.backend.entity.finance.SaleStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
+@Transactional(readOnly = true)
 public interface SaleRepository extends JpaRepository<Sale, Long> {
     
     List<Sale> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
@@ -28,4 +34,13 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
     @Query("SELECT s FROM Sale s WHERE s.ownerEmail = :ownerEmail AND " +
            "s.saleDate BETWEEN :startDate AND :endDate ORDER BY s.saleDate DESC")
     List<Sale> findByOwnerEmailAndDateRange(String ownerEmail, LocalDateTime startDate, LocalDateTime endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Sale> streamByOwnerEmail(String ownerEmail);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Sale> streamByOwnerEmailOrderByCreatedAtAsc(String ownerEmail);
 }
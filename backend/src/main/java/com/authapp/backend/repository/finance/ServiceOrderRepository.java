@@ -2,13 +2,21 @@ package com.authapp.backend.repository.finance;
 
 import com.authapp.backend.entity.finance.ServiceOrder;
 import com.authapp.backend.entity.finance.ServiceOrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ServiceOrderRepository extends JpaRepository<ServiceOrder, Long> {
     
     List<ServiceOrder> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
@@ -17,4 +25,28 @@ public interface ServiceOrderRepository extends JpaRepository<ServiceOrder, Long
     
     @Query("SELECT COUNT(so) FROM ServiceOrder so WHERE so.ownerEmail = :ownerEmail AND so.status = :status")
     long countByOwnerEmailAndStatus(String ownerEmail, ServiceOrderStatus status);
+
+    long countByOwnerEmail(String ownerEmail);
+
+    /**
+     * Paginated search with status and free text resolved in the database.
+     * The pattern must already be lower-cased, escaped with '\' and wrapped in '%';
+     * on PostgreSQL the LOWER(...) LIKE predicates are served by the pg_trgm indexes
+     * created by {@link com.authapp.backend.config.DatabaseIndexInitializer}.
+     */
+    @Query(value = "SELECT so FROM ServiceOrder so WHERE so.ownerEmail = :ownerEmail " +
+                   "AND (:status IS NULL OR so.status = :status) " +
+                   "AND (:pattern IS NULL OR LOWER(so.customerName) LIKE :pattern ESCAPE '\\' " +
+                   "OR LOWER(so.description) LIKE :pattern ESCAPE '\\' " +
+                   "OR LOWER(so.assignedTechnician) LIKE :pattern ESCAPE '\\') " +
+                   "ORDER BY so.createdAt DESC",
+           countQuery = "SELECT COUNT(so) FROM ServiceOrder so WHERE so.ownerEmail = :ownerEmail " +
+                        "AND (:status IS NULL OR so.status = :status) " +
+                        "AND (:pattern IS NULL OR LOWER(so.customerName) LIKE :pattern ESCAPE '\\' " +
+                        "OR LOWER(so.description) LIKE :pattern ESCAPE '\\' " +
+                        "OR LOWER(so.assignedTechnician) LIKE :pattern ESCAPE '\\')")
+    Page<ServiceOrder> search(String ownerEmail, ServiceOrderStatus status, String pattern, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ServiceOrder> streamByOwnerEmail(String ownerEmail);
 }
@@ -1,10 +1,22 @@
 package com.authapp.backend.repository.finance;
 
 import com.authapp.backend.entity.finance.StockMovement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
     List<StockMovement> findByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<StockMovement> streamByOwnerEmailOrderByCreatedAtAsc(String ownerEmail);
 }
@@ -0,0 +1,55 @@
+package com.authapp.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-IP and per-e-mail throttling for the unauthenticated auth endpoints
+ * that are worth brute forcing or abusing to send mail.
+ */
+@Component
+public class AuthRateLimits {
+
+    private final boolean enabled;
+    private final RateLimiter loginPerIp;
+    private final RateLimiter loginPerEmail;
+    private final RateLimiter forgotPasswordPerIp;
+    private final RateLimiter forgotPasswordPerEmail;
+
+    public AuthRateLimits(@Value("${app.security.rate-limit.enabled:true}") boolean enabled,
+                          @Value("${app.security.rate-limit.login.per-ip:30/1m}") String loginPerIp,
+                          @Value("${app.security.rate-limit.login.per-email:10/1m}") String loginPerEmail,
+                          @Value("${app.security.rate-limit.forgot-password.per-ip:10/15m}") String forgotPasswordPerIp,
+                          @Value("${app.security.rate-limit.forgot-password.per-email:3/15m}") String forgotPasswordPerEmail) {
+        this.enabled = enabled;
+        this.loginPerIp = RateLimiter.parse(loginPerIp);
+        this.loginPerEmail = RateLimiter.parse(loginPerEmail);
+        this.forgotPasswordPerIp = RateLimiter.parse(forgotPasswordPerIp);
+        this.forgotPasswordPerEmail = RateLimiter.parse(forgotPasswordPerEmail);
+    }
+
+    /**
+     * @return {@link Duration#ZERO} when allowed, otherwise the suggested wait
+     */
+    public Duration checkLogin(HttpServletRequest request, String email) {
+        return check(loginPerIp, loginPerEmail, request, email);
+    }
+
+    public Duration checkForgotPassword(HttpServletRequest request, String email) {
+        return check(forgotPasswordPerIp, forgotPasswordPerEmail, request, email);
+    }
+
+    private Duration check(RateLimiter perIp, RateLimiter perEmail, HttpServletRequest request, String email) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        Duration ipWait = perIp.tryAcquire(request.getRemoteAddr());
+        if (!ipWait.isZero()) {
+            return ipWait;
+        }
+        return perEmail.tryAcquire(email.toLowerCase());
+    }
+}
@@ -0,0 +1,70 @@
+package com.authapp.backend.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over strings. Lock-free for readers and
+ * writers; it never forgets, so callers rebuild it to drop entries.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bits;
+    private final int hashes;
+
+    BloomFilter(int expectedEntries, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 63));
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedEntries * Math.log(2)));
+        this.words = new AtomicLongArray((bits + 63) >>> 6);
+    }
+
+    void add(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashes; i++) {
+            int bit = index(hash1 + i * hash2);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashes; i++) {
+            int bit = index(hash1 + i * hash2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long combined) {
+        return (int) ((combined & Long.MAX_VALUE) % bits);
+    }
+
+    // 64-bit FNV-1a finished with a murmur3 mix; the second hash is derived from the first.
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
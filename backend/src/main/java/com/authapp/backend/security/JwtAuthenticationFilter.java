@@ -1,7 +1,6 @@
 package com.authapp.backend.security;
 
-import com.authapp.backend.entity.User;
-import com.authapp.backend.repository.UserRepository;
+import com.authapp.backend.security.JwtService.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,11 +18,11 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationList tokenRevocationList) {
         this.jwtService = jwtService;
-        this.userRepository = userRepository;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Override
@@ -37,21 +36,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = authHeader.substring(7);
-        if (!jwtService.isTokenValid(token)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        String email = jwtService.extractEmail(token);
-        User user = userRepository.findByEmail(email).orElse(null);
-        if (user == null) {
+        VerifiedToken token = jwtService.verify(authHeader.substring(7));
+        if (token == null || tokenRevocationList.isRevoked(token)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                email,
+                token.subject(),
                 null,
                 List.of(new SimpleGrantedAuthority("ROLE_USER"))
         );
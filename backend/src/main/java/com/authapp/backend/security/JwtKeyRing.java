@@ -0,0 +1,250 @@
+package com.authapp.backend.security;
+
+import com.authapp.backend.entity.JwtSigningKey;
+import com.authapp.backend.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * ES256 key pairs for access tokens, shared by all nodes through
+ * {@code jwt_signing_keys}.
+ *
+ * <p>A new key is created every {@code rotation-period} and only starts signing
+ * after {@code activation-delay}, by which time every node has reloaded the ring
+ * and can verify it. A superseded key keeps verifying until the last token it
+ * signed has expired and is then deleted, so rotation never logs anyone out.
+ */
+@Service
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String ALGORITHM = "ES256";
+    private static final int GCM_IV_BYTES = 12;
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final Duration UNKNOWN_KID_RELOAD_INTERVAL = Duration.ofSeconds(5);
+
+    private final JwtSigningKeyRepository signingKeyRepository;
+    private final SecretKeySpec keyEncryptionKey;
+    private final Duration rotationPeriod;
+    private final Duration activationDelay;
+    private final Duration accessTokenTtl;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong nextUnknownKidReload = new AtomicLong(System.nanoTime());
+    private volatile List<LoadedKey> keys = List.of();
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+
+    public JwtKeyRing(JwtSigningKeyRepository signingKeyRepository,
+                      @Value("${app.jwt.secret}") String secret,
+                      @Value("${app.jwt.keys.rotation-period:P1D}") Duration rotationPeriod,
+                      @Value("${app.jwt.keys.activation-delay:PT5M}") Duration activationDelay,
+                      @Value("${app.jwt.expiration-ms}") long accessTokenTtlMs) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.keyEncryptionKey = new SecretKeySpec(sha256(secret), "AES");
+        this.rotationPeriod = rotationPeriod;
+        this.activationDelay = activationDelay;
+        this.accessTokenTtl = Duration.ofMillis(accessTokenTtlMs);
+    }
+
+    /** Newest key whose activation time has passed. */
+    public SigningKey signingKey() {
+        Instant now = Instant.now();
+        for (LoadedKey key : keys) {
+            if (!key.activatesAt().isAfter(now)) {
+                return key.signing();
+            }
+        }
+        throw new IllegalStateException("No active JWT signing key");
+    }
+
+    /**
+     * An unknown {@code kid} reloads the ring first, at most every few seconds:
+     * nodes starting together on an empty table each create a first key that
+     * signs right away, before the others have loaded it.
+     *
+     * @return the public key for {@code kid}, or {@code null} if it is unknown or retired
+     */
+    public PublicKey verificationKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null && reloadForUnknownKid()) {
+            key = verificationKeys.get(kid);
+        }
+        return key;
+    }
+
+    /** Public keys in JWK form, including the next key before it starts signing. */
+    public List<Map<String, ?>> publicJwks() {
+        return keys.stream()
+                .<Map<String, ?>>map(key -> Jwks.builder()
+                        .key((ECPublicKey) key.publicKey())
+                        .id(key.signing().kid())
+                        .publicKeyUse("sig")
+                        .algorithm(ALGORITHM)
+                        .build())
+                .toList();
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Reloads keys written by other nodes, creates the next key when the newest
+     * one is older than the rotation period and deletes keys nobody can still hold
+     * a token for.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.keys.check-interval:PT1M}",
+            initialDelayString = "${app.jwt.keys.check-interval:PT1M}")
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        List<JwtSigningKey> stored = new ArrayList<>(signingKeyRepository.findAllByOrderByActivatesAtAsc());
+
+        JwtSigningKey newest = stored.stream().max(Comparator.comparing(JwtSigningKey::getCreatedAt)).orElse(null);
+        if (newest == null) {
+            // First start: no node can hold a token yet, so the key may sign right away.
+            stored.add(create(now, now));
+        } else if (!newest.getCreatedAt().plus(rotationPeriod).isAfter(now)) {
+            stored.add(create(now, now.plus(activationDelay)));
+        }
+
+        List<JwtSigningKey> retired = retired(stored, now);
+        if (!retired.isEmpty()) {
+            signingKeyRepository.deleteAll(retired);
+            stored.removeAll(retired);
+            log.info("Deleted {} retired JWT signing keys", retired.size());
+        }
+
+        List<LoadedKey> loaded = stored.stream()
+                .sorted(Comparator.comparing(JwtSigningKey::getActivatesAt).reversed())
+                .map(this::load)
+                .toList();
+        verificationKeys = loaded.stream()
+                .collect(Collectors.toUnmodifiableMap(key -> key.signing().kid(), LoadedKey::publicKey));
+        keys = loaded;
+    }
+
+    private boolean reloadForUnknownKid() {
+        long now = System.nanoTime();
+        long next = nextUnknownKidReload.get();
+        if (now - next < 0 || !nextUnknownKidReload.compareAndSet(next, now + UNKNOWN_KID_RELOAD_INTERVAL.toNanos())) {
+            return false;
+        }
+        try {
+            refresh();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload JWT signing keys: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /** Keys superseded by an active successor for longer than a token lives. */
+    private List<JwtSigningKey> retired(List<JwtSigningKey> stored, Instant now) {
+        List<JwtSigningKey> sorted = stored.stream().sorted(Comparator.comparing(JwtSigningKey::getActivatesAt)).toList();
+        List<JwtSigningKey> retired = new ArrayList<>();
+        for (int i = 0; i + 1 < sorted.size(); i++) {
+            Instant supersededAt = sorted.get(i + 1).getActivatesAt();
+            if (supersededAt.plus(accessTokenTtl).plus(CLOCK_SKEW).isBefore(now)) {
+                retired.add(sorted.get(i));
+            }
+        }
+        return retired;
+    }
+
+    private JwtSigningKey create(Instant now, Instant activatesAt) {
+        KeyPair pair = Jwts.SIG.ES256.keyPair().build();
+        JwtSigningKey key = signingKeyRepository.save(JwtSigningKey.builder()
+                .kid(UUID.randomUUID().toString())
+                .algorithm(ALGORITHM)
+                .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                .privateKey(encrypt(pair.getPrivate().getEncoded()))
+                .createdAt(now)
+                .activatesAt(activatesAt)
+                .build());
+        log.info("Created JWT signing key {} active from {}", key.getKid(), activatesAt);
+        return key;
+    }
+
+    private LoadedKey load(JwtSigningKey key) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            PublicKey publicKey = factory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+            PrivateKey privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(decrypt(key.getPrivateKey())));
+            return new LoadedKey(new SigningKey(key.getKid(), privateKey), publicKey, key.getActivatesAt());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load JWT signing key " + key.getKid()
+                    + "; was app.jwt.secret changed?", e);
+        }
+    }
+
+    private String encrypt(byte[] plain) {
+        try {
+            byte[] iv = new byte[GCM_IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(128, iv));
+            byte[] encrypted = cipher.doFinal(plain);
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + encrypted.length)
+                    .put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] decrypt(String stored) throws GeneralSecurityException {
+        byte[] data = Base64.getDecoder().decode(stored);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(128, data, 0, GCM_IV_BYTES));
+        return cipher.doFinal(data, GCM_IV_BYTES, data.length - GCM_IV_BYTES);
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record LoadedKey(SigningKey signing, PublicKey publicKey, Instant activatesAt) {
+    }
+}
@@ -1,63 +1,141 @@
 package com.authapp.backend.security;
 
+import com.authapp.backend.security.JwtKeyRing.SigningKey;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import java.security.PublicKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Issues and verifies ES256 access tokens. The {@code kid} header names the
+ * {@link JwtKeyRing} key that signed the token, so other services can verify it
+ * against the published JWKS.
+ *
+ * <p>An ECDSA verification costs around a millisecond, and a client sends the
+ * same token for its whole lifetime, so verified tokens are remembered until
+ * they expire.
+ */
 @Service
 public class JwtService {
 
-    private final String secret;
+    private final JwtKeyRing keyRing;
     private final long expirationMs;
+    private final JwtParser parser;
+    private final int verifiedCacheSize;
+    private final ConcurrentMap<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final Counter validTokens;
+    private final Counter expiredTokens;
+    private final Counter invalidTokens;
 
-    public JwtService(@Value("${app.jwt.secret}") String secret,
-                      @Value("${app.jwt.expiration-ms}") long expirationMs) {
-        this.secret = secret;
+    public JwtService(JwtKeyRing keyRing,
+                      @Value("${app.jwt.expiration-ms}") long expirationMs,
+                      @Value("${app.jwt.verified-cache-size:10000}") int verifiedCacheSize,
+                      MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
         this.expirationMs = expirationMs;
+        this.verifiedCacheSize = verifiedCacheSize;
+        this.parser = Jwts.parser()
+                .keyLocator(header -> {
+                    PublicKey key = header instanceof ProtectedHeader protectedHeader
+                            ? keyRing.verificationKey(protectedHeader.getKeyId())
+                            : null;
+                    if (key == null) {
+                        throw new UnsupportedJwtException("Unknown signing key");
+                    }
+                    return key;
+                })
+                .build();
+        this.validTokens = verificationCounter(meterRegistry, "valid");
+        this.expiredTokens = verificationCounter(meterRegistry, "expired");
+        this.invalidTokens = verificationCounter(meterRegistry, "invalid");
     }
 
     public String generateToken(String email) {
+        SigningKey key = keyRing.signingKey();
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .header().keyId(key.kid()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(key.privateKey(), Jwts.SIG.ES256)
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    public boolean isTokenValid(String token) {
+    /**
+     * Checks signature and expiry in memory; no lookup is made, so a token stays
+     * usable until it expires even if the account changes meanwhile.
+     *
+     * @return the token's claims, or {@code null} if the token is not valid
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verified.get(token);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                validTokens.increment();
+                return cached;
+            }
+            verified.remove(token);
+            expiredTokens.increment();
+            return null;
+        }
         try {
-            Claims claims = parseClaims(token);
-            return claims.getExpiration().after(new Date());
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            validTokens.increment();
+            VerifiedToken result = new VerifiedToken(claims.getSubject(), claims.getId(),
+                    claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
+            remember(token, result);
+            return result;
+        } catch (ExpiredJwtException e) {
+            expiredTokens.increment();
+            return null;
         } catch (Exception e) {
-            return false;
+            invalidTokens.increment();
+            return null;
+        }
+    }
+
+    public long getExpirationSeconds() {
+        return expirationMs / 1000;
+    }
+
+    private void remember(String token, VerifiedToken result) {
+        if (verifiedCacheSize <= 0) {
+            return;
+        }
+        if (verified.size() >= verifiedCacheSize) {
+            Instant now = Instant.now();
+            verified.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (verified.size() >= verifiedCacheSize) {
+                verified.clear();
+            }
         }
+        verified.put(token, result);
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static Counter verificationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.jwt.verifications")
+                .description("Bearer tokens checked by the authentication filter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public record VerifiedToken(String subject, String id, Instant issuedAt, Instant expiresAt) {
     }
 }
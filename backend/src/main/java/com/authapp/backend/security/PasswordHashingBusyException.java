@@ -0,0 +1,11 @@
+package com.authapp.backend.security;
+
+/**
+ * Thrown when the password hashing pool and its queue are full.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Password hashing capacity exhausted");
+    }
+}
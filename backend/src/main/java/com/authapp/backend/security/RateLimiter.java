@@ -0,0 +1,72 @@
+package com.authapp.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * In-memory token bucket per key: {@code permits} requests per {@code window},
+ * refilled continuously. A bucket left alone for a whole window is full again,
+ * so it is dropped and recreated on the next request.
+ */
+public class RateLimiter {
+
+    private final int permits;
+    private final long windowNanos;
+    private final Cache<String, Bucket> buckets;
+
+    public RateLimiter(int permits, Duration window) {
+        this.permits = permits;
+        this.windowNanos = window.toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    /**
+     * Parses {@code "<permits>/<window>"}, e.g. {@code "10/1m"} or {@code "3/15m"}.
+     */
+    public static RateLimiter parse(String spec) {
+        String[] parts = spec.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected <permits>/<window>, got " + spec);
+        }
+        return new RateLimiter(Integer.parseInt(parts[0].trim()), DurationStyle.detectAndParse(parts[1].trim()));
+    }
+
+    /**
+     * Takes one permit for {@code key}.
+     *
+     * @return {@link Duration#ZERO} when allowed, otherwise how long until the next permit
+     */
+    public Duration tryAcquire(String key) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new Bucket(now)).take(now);
+    }
+
+    private final class Bucket {
+
+        private double tokens = permits;
+        private long updatedAt;
+
+        Bucket(long now) {
+            this.updatedAt = now;
+        }
+
+        synchronized Duration take(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) ((1 - tokens) * windowNanos / permits));
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(permits, tokens + (double) (now - updatedAt) * permits / windowNanos);
+            updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.authapp.backend.security;
+
+import com.authapp.backend.entity.RefreshToken;
+import com.authapp.backend.entity.User;
+import com.authapp.backend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens. Each exchange consumes the presented token
+ * and issues its successor in the same family; presenting a token that was
+ * already exchanged means it leaked, so the whole family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+    private final MeterRegistry meterRegistry;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${app.jwt.refresh-expiration-ms}") long ttlMs,
+                               MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public IssuedRefreshToken issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor.
+     *
+     * @return empty if the token is unknown, expired, revoked or was already used
+     */
+    public Optional<IssuedRefreshToken> rotate(String rawToken) {
+        RefreshToken current = find(rawToken).orElse(null);
+        if (current == null) {
+            count("invalid");
+            return Optional.empty();
+        }
+        if (current.getRevokedAt() != null) {
+            count("revoked");
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRotatedAt() == null && current.getExpiresAt().isBefore(now)) {
+            count("expired");
+            return Optional.empty();
+        }
+        if (current.getRotatedAt() != null || refreshTokenRepository.markRotated(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}; session family revoked", current.getUser().getId());
+            count("reused");
+            return Optional.empty();
+        }
+        count("rotated");
+        return Optional.of(issue(current.getUser(), current.getFamilyId()));
+    }
+
+    /** Ends the session the token belongs to. Unknown tokens are ignored. */
+    public void revoke(String rawToken) {
+        find(rawToken).ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /** Ends every session of the user, e.g. after a password change. */
+    public void revokeAll(User user) {
+        refreshTokenRepository.revokeAllForUser(user.getId(), LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    public long ttlSeconds() {
+        return ttl.toSeconds();
+    }
+
+    private IssuedRefreshToken issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+        return new IssuedRefreshToken(user, rawToken);
+    }
+
+    private Optional<RefreshToken> find(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken));
+    }
+
+    private void count(String outcome) {
+        Counter.builder("app.auth.refreshes")
+                .description("Refresh token exchanges")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record IssuedRefreshToken(User user, String token) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.authapp.backend.security;
+
+import com.authapp.backend.entity.RevokedToken;
+import com.authapp.backend.repository.RevokedTokenRepository;
+import com.authapp.backend.security.JwtService.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deny-list for access tokens that must stop working before they expire.
+ *
+ * <p>Single tokens are kept by {@code jti} in an exact map fronted by a Bloom
+ * filter, so the common case (token not revoked) is answered by a few bit
+ * probes. Whole subjects (password reset) are kept as a not-before instant.
+ * Entries live only as long as the tokens they cover. Changes are written to
+ * {@code revoked_tokens} in the background and rows written by other instances
+ * are picked up on the same schedule; the filter never touches the database.
+ * Identity ids are handed out before commit, so a row can become visible after
+ * a higher id has already been read: every pull re-reads the last
+ * {@code pull-overlap} ids, and applying a row twice changes nothing.
+ */
+@Service
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long accessTokenTtlSeconds;
+    private final int expectedEntries;
+    private final long pullOverlap;
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> revokedSubjects = new ConcurrentHashMap<>();
+    private final Queue<RevokedToken> unsaved = new ConcurrentLinkedQueue<>();
+    private final Counter rejections;
+    private volatile BloomFilter filter;
+    private long lastSeenId;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${app.jwt.expiration-ms}") long accessTokenTtlMs,
+                               @Value("${app.jwt.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${app.jwt.revocation.pull-overlap:1000}") long pullOverlap,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.accessTokenTtlSeconds = Math.max(1, accessTokenTtlMs / 1000);
+        this.expectedEntries = expectedEntries;
+        this.pullOverlap = pullOverlap;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+        this.rejections = Counter.builder("app.jwt.revocation.rejections")
+                .description("Valid access tokens refused because they were revoked")
+                .register(meterRegistry);
+        Gauge.builder("app.jwt.revocation.entries", this, list -> list.revokedTokens.size() + list.revokedSubjects.size())
+                .description("Revoked tokens and subjects currently held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        boolean revoked = isTokenRevoked(token.id()) || isSubjectRevoked(token.subject(), token.issuedAt());
+        if (revoked) {
+            rejections.increment();
+        }
+        return revoked;
+    }
+
+    /** Revokes one access token until it expires on its own. */
+    public void revoke(VerifiedToken token) {
+        if (token.id() == null) {
+            return;
+        }
+        long expiresAt = token.expiresAt().getEpochSecond();
+        addToken(token.id(), expiresAt);
+        unsaved.add(RevokedToken.builder()
+                .jti(token.id())
+                .expiresAt(Instant.ofEpochSecond(expiresAt))
+                .build());
+    }
+
+    /**
+     * Revokes every access token of the subject issued before now. Token
+     * timestamps have one-second resolution, so a token issued within the same
+     * second as the revocation stays valid.
+     */
+    public void revokeSubject(String subject) {
+        long notBefore = Instant.now().getEpochSecond();
+        revokedSubjects.merge(subject, notBefore, Math::max);
+        unsaved.add(RevokedToken.builder()
+                .subject(subject)
+                .notBefore(Instant.ofEpochSecond(notBefore))
+                .expiresAt(Instant.ofEpochSecond(notBefore + accessTokenTtlSeconds))
+                .build());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int loaded = pull();
+        if (loaded > 0) {
+            log.info("Loaded {} token revocations", loaded);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:PT10S}",
+            initialDelayString = "${app.jwt.revocation.sync-interval:PT10S}")
+    public void sync() {
+        try {
+            flush();
+            pull();
+            revokedTokenRepository.deleteExpired(Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("Failed to sync token revocations: {}", e.getMessage());
+        }
+        prune();
+    }
+
+    @PreDestroy
+    public void flush() {
+        List<RevokedToken> batch = new ArrayList<>();
+        for (RevokedToken entry; (entry = unsaved.poll()) != null; ) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            revokedTokenRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            unsaved.addAll(batch);
+            throw e;
+        }
+    }
+
+    private synchronized int pull() {
+        List<RevokedToken> rows = revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                lastSeenId - pullOverlap, Instant.now());
+        for (RevokedToken row : rows) {
+            if (row.getJti() != null) {
+                addToken(row.getJti(), row.getExpiresAt().getEpochSecond());
+            } else if (row.getSubject() != null && row.getNotBefore() != null) {
+                revokedSubjects.merge(row.getSubject(), row.getNotBefore().getEpochSecond(), Math::max);
+            }
+            lastSeenId = Math.max(lastSeenId, row.getId());
+        }
+        return rows.size();
+    }
+
+    /** Drops entries whose tokens have expired and rebuilds the filter without them. */
+    private void prune() {
+        long now = Instant.now().getEpochSecond();
+        revokedSubjects.values().removeIf(notBefore -> notBefore + accessTokenTtlSeconds < now);
+        if (!revokedTokens.values().removeIf(expiresAt -> expiresAt < now)) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2), FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        // Tokens revoked while rebuilding may have missed the new filter.
+        revokedTokens.keySet().forEach(rebuilt::add);
+    }
+
+    private void addToken(String jti, long expiresAt) {
+        // Map first: a reader that sees the filter bit must also find the entry.
+        revokedTokens.put(jti, expiresAt);
+        filter.add(jti);
+    }
+
+    private boolean isTokenRevoked(String jti) {
+        return jti != null && filter.mightContain(jti) && revokedTokens.containsKey(jti);
+    }
+
+    private boolean isSubjectRevoked(String subject, Instant issuedAt) {
+        if (revokedSubjects.isEmpty()) {
+            return false;
+        }
+        Long notBefore = revokedSubjects.get(subject);
+        return notBefore != null && issuedAt != null && issuedAt.getEpochSecond() < notBefore;
+    }
+}
@@ -2,6 +2,8 @@ package com.authapp.backend.service;
 
 import com.authapp.backend.entity.audit.AuditLog;
 import com.authapp.backend.repository.audit.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -14,9 +16,11 @@ import java.util.List;
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final MeterRegistry meterRegistry;
 
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(AuditLogRepository auditLogRepository, MeterRegistry meterRegistry) {
         this.auditLogRepository = auditLogRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     public void logAction(String ownerEmail, String entityType, Long entityId, String action, String details) {
@@ -37,14 +41,16 @@ public class AuditService {
                     .oldValue(oldValue)
                     .newValue(newValue)
                     .timestamp(LocalDateTime.now())
-                    .ipAddress(request != null ? getClientIP(request) : null)
+                    .ipAddress(request != null ? request.getRemoteAddr() : null)
                     .userAgent(request != null ? request.getHeader("User-Agent") : null)
                     .build();
             
             auditLogRepository.save(log);
+            countWrite(entityType, "success");
         } catch (Exception e) {
             // Log error but don't fail the main operation
             System.err.println("Failed to create audit log: " + e.getMessage());
+            countWrite(entityType, "failure");
         }
     }
 
@@ -56,19 +62,17 @@ public class AuditService {
         return auditLogRepository.findTop50ByOwnerEmailOrderByTimestampDesc(ownerEmail);
     }
 
+    private void countWrite(String entityType, String outcome) {
+        Counter.builder("app.audit.writes")
+                .description("Audit log entries written")
+                .tag("entity", entityType != null ? entityType : "none")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
     private HttpServletRequest getCurrentRequest() {
         ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         return attrs != null ? attrs.getRequest() : null;
     }
-
-    private String getClientIP(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
-    }
 }
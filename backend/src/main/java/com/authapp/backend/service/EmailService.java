@@ -2,9 +2,12 @@ package com.authapp.backend.service;
 
 import com.authapp.backend.entity.finance.ServiceOrder;
 import com.authapp.backend.entity.finance.ServiceOrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
@@ -13,11 +16,14 @@ import java.time.format.DateTimeFormatter;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
     }
 
+    @Async("mailTaskExecutor")
     public void sendServiceOrderStatusNotification(ServiceOrder order, ServiceOrderStatus oldStatus, String recipientEmail) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -31,11 +37,22 @@ public class EmailService {
             helper.setText(htmlContent, true);
 
             mailSender.send(message);
+            countSend("success");
         } catch (Exception e) {
             System.err.println("Failed to send email: " + e.getMessage());
+            countSend("failure");
         }
     }
 
+    private void countSend(String outcome) {
+        Counter.builder("app.mail.sends")
+                .description("E-mails handed to the SMTP server")
+                .tag("template", "service_order_status")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
     private String buildServiceOrderStatusEmail(ServiceOrder order, ServiceOrderStatus oldStatus) {
         String statusLabel = getStatusLabel(order.getStatus());
         String oldStatusLabel = oldStatus != null ? getStatusLabel(oldStatus) : "";
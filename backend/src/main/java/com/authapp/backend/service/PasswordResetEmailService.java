@@ -1,7 +1,10 @@
 package com.authapp.backend.service;
 
 import com.authapp.backend.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -11,11 +14,14 @@ public class PasswordResetEmailService {
 
     private final JavaMailSender mailSender;
     private final String from;
+    private final MeterRegistry meterRegistry;
 
     public PasswordResetEmailService(JavaMailSender mailSender,
-                                     @Value("${app.mail.from}") String from) {
+                                     @Value("${app.mail.from}") String from,
+                                     MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.from = from;
+        this.meterRegistry = meterRegistry;
     }
 
     public void sendResetEmail(User user, String resetLink) {
@@ -36,6 +42,21 @@ public class PasswordResetEmailService {
                 Se você não solicitou esta alteração, ignore este e-mail.
                 """.formatted(user.getName(), resetLink));
 
-        mailSender.send(message);
+        try {
+            mailSender.send(message);
+            countSend("success");
+        } catch (MailException e) {
+            countSend("failure");
+            throw e;
+        }
+    }
+
+    private void countSend(String outcome) {
+        Counter.builder("app.mail.sends")
+                .description("E-mails handed to the SMTP server")
+                .tag("template", "password_reset")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
     }
 }
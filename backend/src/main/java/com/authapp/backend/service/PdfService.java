@@ -1,16 +1,22 @@
 package com.authapp.backend.service;
 
+import com.authapp.backend.entity.SystemConfig;
 import com.authapp.backend.entity.finance.*;
+import com.authapp.backend.service.SystemConfigService.OwnerConfig;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -18,26 +24,72 @@ import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
-
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Renders quotes, service orders and sales as PDF. Created on the first
+ * document: callers get a lazy proxy, so iText's classes and name tables are
+ * only loaded once someone asks for a PDF rather than at startup.
+ */
 @Service
+@Lazy
 public class PdfService {
 
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final DeviceRgb BLUE_COLOR = new DeviceRgb(59, 130, 246);
-    private static final DeviceRgb GRAY_COLOR = new DeviceRgb(100, 116, 139);
+
+    private final MeterRegistry meterRegistry;
+    private final SystemConfigService systemConfigService;
+
+    public PdfService(MeterRegistry meterRegistry, SystemConfigService systemConfigService) {
+        this.meterRegistry = meterRegistry;
+        this.systemConfigService = systemConfigService;
+    }
 
     public byte[] generateQuotePdf(Quote quote) throws Exception {
+        return timed("quote", () -> renderQuotePdf(quote));
+    }
+
+    public byte[] generateServiceOrderPdf(ServiceOrder order) throws Exception {
+        return timed("service_order", () -> renderServiceOrderPdf(order));
+    }
+
+    public byte[] generateSalePdf(Sale sale) throws Exception {
+        return timed("sale", () -> renderSalePdf(sale));
+    }
+
+    private byte[] timed(String documentType, Callable<byte[]> render) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return render.call();
+        } catch (Exception e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.pdf.renders")
+                    .description("PDF documents rendered")
+                    .tag("document", documentType)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private byte[] renderQuotePdf(Quote quote) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter writer = new PdfWriter(baos);
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf);
+        addCompanyHeader(document, quote.getOwnerEmail());
 
         // Header
         Paragraph title = new Paragraph("ORÇAMENTO #" + quote.getId())
                 .setFontSize(24)
                 .setBold()
-                .setFontColor(BLUE_COLOR)
+                .setFontColor(Palette.BLUE)
                 .setTextAlignment(TextAlignment.CENTER);
         document.add(title);
 
@@ -57,7 +109,7 @@ public class PdfService {
         Paragraph itemsTitle = new Paragraph("Itens do Orçamento")
                 .setFontSize(16)
                 .setBold()
-                .setFontColor(BLUE_COLOR);
+                .setFontColor(Palette.BLUE);
         document.add(itemsTitle);
 
         Table itemsTable = new Table(new float[]{4, 1, 1, 1, 2}).useAllAvailableWidth();
@@ -85,38 +137,39 @@ public class PdfService {
         document.add(new Paragraph("\n"));
         Table totalTable = new Table(2).useAllAvailableWidth();
         totalTable.addCell(new Cell().add(new Paragraph("TOTAL").setBold().setFontSize(14)).setBorder(null).setTextAlignment(TextAlignment.RIGHT));
-        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(quote.getTotal())).setBold().setFontSize(14).setFontColor(BLUE_COLOR)).setBorder(null));
+        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(quote.getTotal())).setBold().setFontSize(14).setFontColor(Palette.BLUE)).setBorder(null));
         document.add(totalTable);
 
         // Notes
         if (quote.getNotes() != null && !quote.getNotes().isEmpty()) {
             document.add(new Paragraph("\n"));
             document.add(new Paragraph("Observações:").setBold().setFontSize(12));
-            document.add(new Paragraph(quote.getNotes()).setFontColor(GRAY_COLOR));
+            document.add(new Paragraph(quote.getNotes()).setFontColor(Palette.GRAY));
         }
 
         // Footer
         document.add(new Paragraph("\n\n"));
         document.add(new Paragraph("Documento gerado em " + java.time.LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")))
                 .setFontSize(8)
-                .setFontColor(GRAY_COLOR)
+                .setFontColor(Palette.GRAY)
                 .setTextAlignment(TextAlignment.CENTER));
 
         document.close();
         return baos.toByteArray();
     }
 
-    public byte[] generateServiceOrderPdf(ServiceOrder order) throws Exception {
+    private byte[] renderServiceOrderPdf(ServiceOrder order) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter writer = new PdfWriter(baos);
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf);
+        addCompanyHeader(document, order.getOwnerEmail());
 
         // Header
         Paragraph title = new Paragraph("ORDEM DE SERVIÇO #" + order.getId())
                 .setFontSize(24)
                 .setBold()
-                .setFontColor(BLUE_COLOR)
+                .setFontColor(Palette.BLUE)
                 .setTextAlignment(TextAlignment.CENTER);
         document.add(title);
 
@@ -145,7 +198,7 @@ public class PdfService {
 
         // Description
         document.add(new Paragraph("Descrição do Serviço:").setBold().setFontSize(12));
-        document.add(new Paragraph(order.getDescription()).setFontColor(GRAY_COLOR));
+        document.add(new Paragraph(order.getDescription()).setFontColor(Palette.GRAY));
 
         document.add(new Paragraph("\n"));
 
@@ -153,7 +206,7 @@ public class PdfService {
         Paragraph itemsTitle = new Paragraph("Itens e Serviços")
                 .setFontSize(16)
                 .setBold()
-                .setFontColor(BLUE_COLOR);
+                .setFontColor(Palette.BLUE);
         document.add(itemsTitle);
 
         Table itemsTable = new Table(new float[]{4, 1, 1, 1, 2}).useAllAvailableWidth();
@@ -185,27 +238,46 @@ public class PdfService {
         totalTable.addCell(new Cell().add(new Paragraph("Peças:").setBold()).setBorder(null).setTextAlignment(TextAlignment.RIGHT));
         totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(order.getPartsCost()))).setBorder(null));
         totalTable.addCell(new Cell().add(new Paragraph("TOTAL:").setBold().setFontSize(14)).setBorder(null).setTextAlignment(TextAlignment.RIGHT));
-        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(order.getTotal())).setBold().setFontSize(14).setFontColor(BLUE_COLOR)).setBorder(null));
+        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(order.getTotal())).setBold().setFontSize(14).setFontColor(Palette.BLUE)).setBorder(null));
         document.add(totalTable);
 
         // Technical Notes
         if (order.getTechnicianNotes() != null && !order.getTechnicianNotes().isEmpty()) {
             document.add(new Paragraph("\n"));
             document.add(new Paragraph("Observações Técnicas:").setBold().setFontSize(12));
-            document.add(new Paragraph(order.getTechnicianNotes()).setFontColor(GRAY_COLOR));
+            document.add(new Paragraph(order.getTechnicianNotes()).setFontColor(Palette.GRAY));
         }
 
         // Footer
         document.add(new Paragraph("\n\n"));
         document.add(new Paragraph("Documento gerado em " + java.time.LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")))
                 .setFontSize(8)
-                .setFontColor(GRAY_COLOR)
+                .setFontColor(Palette.GRAY)
                 .setTextAlignment(TextAlignment.CENTER));
 
         document.close();
         return baos.toByteArray();
     }
 
+    /** Logo and company identification from the owner's settings, when configured. */
+    private void addCompanyHeader(Document document, String ownerEmail) {
+        OwnerConfig ownerConfig = systemConfigService.get(ownerEmail);
+        SystemConfig config = ownerConfig.config();
+        if (ownerConfig.logo() != null) {
+            document.add(new Image(ownerConfig.logo()).scaleToFit(140, 60));
+        }
+        if (config.getCompanyName() != null && !config.getCompanyName().isBlank()) {
+            document.add(new Paragraph(config.getCompanyName()).setFontSize(14).setBold());
+            String details = Stream.of(config.getCnpj() == null || config.getCnpj().isBlank() ? null : "CNPJ " + config.getCnpj(),
+                            config.getPhone(), config.getEmail())
+                    .filter(value -> value != null && !value.isBlank())
+                    .collect(Collectors.joining(" · "));
+            if (!details.isEmpty()) {
+                document.add(new Paragraph(details).setFontSize(9).setFontColor(Palette.GRAY));
+            }
+        }
+    }
+
     private void addInfoRow(Table table, String label, String value) {
         table.addCell(new Cell().add(new Paragraph(label).setBold()).setBorder(null));
         table.addCell(new Cell().add(new Paragraph(value)).setBorder(null));
@@ -213,7 +285,7 @@ public class PdfService {
 
     private void addHeaderCell(Table table, String text) {
         Cell cell = new Cell().add(new Paragraph(text).setBold().setFontColor(ColorConstants.WHITE));
-        cell.setBackgroundColor(BLUE_COLOR);
+        cell.setBackgroundColor(Palette.BLUE);
         table.addHeaderCell(cell);
     }
 
@@ -237,17 +309,18 @@ public class PdfService {
         };
     }
 
-    public byte[] generateSalePdf(Sale sale) throws Exception {
+    private byte[] renderSalePdf(Sale sale) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter writer = new PdfWriter(baos);
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf);
+        addCompanyHeader(document, sale.getOwnerEmail());
 
         // Header
         Paragraph title = new Paragraph("VENDA #" + sale.getId())
                 .setFontSize(24)
                 .setBold()
-                .setFontColor(BLUE_COLOR)
+                .setFontColor(Palette.BLUE)
                 .setTextAlignment(TextAlignment.CENTER);
         document.add(title);
 
@@ -266,7 +339,7 @@ public class PdfService {
         Paragraph itemsTitle = new Paragraph("Itens da Venda")
                 .setFontSize(16)
                 .setBold()
-                .setFontColor(BLUE_COLOR);
+                .setFontColor(Palette.BLUE);
         document.add(itemsTitle);
 
         Table itemsTable = new Table(new float[]{4, 1, 1, 1, 2}).useAllAvailableWidth();
@@ -294,24 +367,30 @@ public class PdfService {
         document.add(new Paragraph("\n"));
         Table totalTable = new Table(2).useAllAvailableWidth();
         totalTable.addCell(new Cell().add(new Paragraph("TOTAL").setBold().setFontSize(14)).setBorder(null).setTextAlignment(TextAlignment.RIGHT));
-        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(sale.getTotal())).setBold().setFontSize(14).setFontColor(BLUE_COLOR)).setBorder(null));
+        totalTable.addCell(new Cell().add(new Paragraph(formatCurrency(sale.getTotal())).setBold().setFontSize(14).setFontColor(Palette.BLUE)).setBorder(null));
         document.add(totalTable);
 
         // Notes
         if (sale.getNotes() != null && !sale.getNotes().isEmpty()) {
             document.add(new Paragraph("\n"));
             document.add(new Paragraph("Observações:").setBold().setFontSize(12));
-            document.add(new Paragraph(sale.getNotes()).setFontColor(GRAY_COLOR));
+            document.add(new Paragraph(sale.getNotes()).setFontColor(Palette.GRAY));
         }
 
         // Footer
         document.add(new Paragraph("\n\n"));
         document.add(new Paragraph("Documento gerado em " + java.time.LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")))
                 .setFontSize(8)
-                .setFontColor(GRAY_COLOR)
+                .setFontColor(Palette.GRAY)
                 .setTextAlignment(TextAlignment.CENTER));
 
         document.close();
         return baos.toByteArray();
     }
+
+    /** Kept out of this class's static state so a proxy of it does not bootstrap iText. */
+    private static final class Palette {
+        private static final DeviceRgb BLUE = new DeviceRgb(59, 130, 246);
+        private static final DeviceRgb GRAY = new DeviceRgb(100, 116, 139);
+    }
 }
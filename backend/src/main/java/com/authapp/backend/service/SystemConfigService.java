@@ -0,0 +1,88 @@
+package com.authapp.backend.service;
+
+import com.authapp.backend.entity.SystemConfig;
+import com.authapp.backend.repository.SystemConfigRepository;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Base64;
+
+/**
+ * Per-owner system settings, cached together with the decoded company logo so
+ * documents can be rendered without a query or a base64/image decode each time.
+ * Owners without saved settings get (and cache) the defaults.
+ */
+@Service
+public class SystemConfigService {
+
+    public static final String CACHE_NAME = "system-config";
+
+    private static final Logger log = LoggerFactory.getLogger(SystemConfigService.class);
+
+    private final SystemConfigRepository systemConfigRepository;
+    private final Cache cache;
+
+    public SystemConfigService(SystemConfigRepository systemConfigRepository, CacheManager cacheManager) {
+        this.systemConfigRepository = systemConfigRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    /** The returned entity is shared; do not modify it. */
+    public OwnerConfig get(String ownerEmail) {
+        return cache.get(ownerEmail, () -> load(ownerEmail));
+    }
+
+    /** Call after saving the owner's settings; also drops the entry on other nodes. */
+    public void evict(String ownerEmail) {
+        cache.evict(ownerEmail);
+    }
+
+    private OwnerConfig load(String ownerEmail) {
+        SystemConfig config = systemConfigRepository.findByOwnerEmail(ownerEmail)
+                .orElseGet(() -> createDefaultConfig(ownerEmail));
+        return new OwnerConfig(config, decodeLogo(config));
+    }
+
+    private static ImageData decodeLogo(SystemConfig config) {
+        String logo = config.getLogoBase64();
+        if (logo == null || logo.isBlank()) {
+            return null;
+        }
+        // Accept data URLs ("data:image/png;base64,...") as well as bare base64.
+        int comma = logo.indexOf(',');
+        String base64 = logo.startsWith("data:") && comma > 0 ? logo.substring(comma + 1) : logo;
+        try {
+            return ImageDataFactory.create(Base64.getMimeDecoder().decode(base64));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable logo of system config {}: {}", config.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static SystemConfig createDefaultConfig(String ownerEmail) {
+        return SystemConfig.builder()
+                .ownerEmail(ownerEmail)
+                .systemName("Negócio")
+                .defaultCurrency("BRL")
+                .dateFormat("DD/MM/YYYY")
+                .timeFormat("24h")
+                .autoPrint(false)
+                .copies(1)
+                .paperWidth(80)
+                .paperHeight(297)
+                .nfeEnabled(false)
+                .nfeEnvironment("HOMOLOGATION")
+                .build();
+    }
+
+    /**
+     * @param logo decoded company logo, or {@code null} if none is configured
+     */
+    public record OwnerConfig(SystemConfig config, ImageData logo) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.authapp.backend.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.Temporal;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8 with a byte order mark, so Excel detects the encoding.
+ * Numbers use a dot and dates are ISO-8601, which keeps the file readable by
+ * accounting software regardless of locale.
+ */
+final class CsvTabularWriter implements TabularWriter {
+
+    private final Writer writer;
+
+    CsvTabularWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void row(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof BigDecimal decimal) {
+            writer.write(decimal.toPlainString());
+            return;
+        }
+        if (value instanceof Number || value instanceof Enum<?> || value instanceof Temporal) {
+            writer.write(value.toString());
+            return;
+        }
+        String text = value.toString();
+        // Text that a spreadsheet would evaluate as a formula is kept as text.
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.authapp.backend.service.export;
+
+import java.util.function.Function;
+
+/** A column of an export: its header and how to read the value from a row. */
+public record ExportColumn<T>(String header, Function<? super T, ?> value) {
+}
@@ -0,0 +1,21 @@
+package com.authapp.backend.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/** Writes rows one at a time; nothing but the current row is kept. */
+interface TabularWriter {
+
+    void row(List<?> values) throws IOException;
+
+    /** Writes whatever is still pending; the output stream is left open. */
+    void finish() throws IOException;
+
+    static TabularWriter create(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTabularWriter(out);
+            case XLSX -> new XlsxTabularWriter(out);
+        };
+    }
+}
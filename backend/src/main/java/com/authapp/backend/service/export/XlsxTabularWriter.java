@@ -0,0 +1,100 @@
+package com.authapp.backend.service.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Streaming XLSX through POI's SXSSF: only the last {@value #WINDOW} rows stay
+ * in memory, older ones are flushed to a compressed temporary file, and strings
+ * are written inline instead of into a shared table. The zip is assembled in
+ * {@link #finish()}, so the download starts once every row has been read.
+ * Sheets that reach Excel's row limit continue on a new sheet with the header
+ * repeated.
+ */
+final class XlsxTabularWriter implements TabularWriter {
+
+    private static final int WINDOW = 100;
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(WINDOW);
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private List<?> header;
+    private SXSSFSheet sheet;
+    private int rowIndex;
+
+    XlsxTabularWriter(OutputStream out) {
+        this.out = out;
+        workbook.setCompressTempFiles(true);
+        short dateFormat = workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy");
+        short dateTimeFormat = workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy hh:mm:ss");
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(dateFormat);
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(dateTimeFormat);
+    }
+
+    @Override
+    public void row(List<?> values) {
+        if (header == null) {
+            header = values;
+        }
+        if (sheet == null || rowIndex == MAX_ROWS) {
+            sheet = workbook.createSheet("Dados " + (workbook.getNumberOfSheets() + 1));
+            rowIndex = 0;
+            if (values != header) {
+                writeRow(header);
+            }
+        }
+        writeRow(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            if (sheet == null) {
+                workbook.createSheet("Dados 1");
+            }
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void writeRow(List<?> values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            SXSSFCell cell = (SXSSFCell) row.createCell(i);
+            switch (value) {
+                case Number number -> cell.setCellValue(number.doubleValue());
+                case LocalDate date -> {
+                    cell.setCellValue(date);
+                    cell.setCellStyle(dateStyle);
+                }
+                case LocalDateTime dateTime -> {
+                    cell.setCellValue(dateTime);
+                    cell.setCellStyle(dateTimeStyle);
+                }
+                case Enum<?> constant -> cell.setCellValue(constant.name());
+                default -> cell.setCellValue(value.toString());
+            }
+        }
+    }
+}
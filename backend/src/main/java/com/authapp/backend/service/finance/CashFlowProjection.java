@@ -0,0 +1,291 @@
+package com.authapp.backend.service.finance;
+
+import com.authapp.backend.cache.CacheInvalidationBus;
+import com.authapp.backend.dto.finance.CashFlowResponse;
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Money;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.QuoteStatus;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.SaleStatus;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityChangedEvent;
+import com.authapp.backend.event.EntityKind;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Daily running balance for the coming days: the paid balance today, plus the
+ * pending entries, pending sales and approved quotes expected on each day.
+ *
+ * <p>An owner's flows are read once, with a single query ordered by date, into
+ * per-day buckets; the projection is then a prefix sum over the buckets in the
+ * requested range. Loaded owners are kept up to date from entity
+ * {@link EntityChangedEvent}s: each source row's last known flow is remembered,
+ * so a change moves just that amount between buckets. Other nodes only hear
+ * that something changed and drop the owner.
+ */
+@Service
+public class CashFlowProjection {
+
+    public static final String CACHE_NAME = "cashflow";
+
+    // Expected date: entry due date, sale date for unpaid sales, end of validity for approved quotes.
+    private static final String FLOWS_SQL = """
+            SELECT 'E' AS source, id, CASE WHEN type = 'INCOME' THEN amount ELSE -amount END AS amount,
+                   COALESCE(due_date, CAST(created_at AS DATE)) AS flow_date, status
+              FROM finance_entries WHERE owner_email = ?
+            UNION ALL
+            SELECT 'S', id, total, CAST(sale_date AS DATE), status
+              FROM sales WHERE owner_email = ? AND status = 'PENDING' AND total IS NOT NULL
+            UNION ALL
+            SELECT 'Q', id, total, valid_until, status
+              FROM finance_quotes WHERE owner_email = ? AND status = 'APPROVED'
+            ORDER BY flow_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache owners;
+    private final AtomicLong unloadedChanges = new AtomicLong();
+
+    public CashFlowProjection(JdbcTemplate jdbcTemplate,
+                              CacheManager cacheManager,
+                              CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.owners = cacheManager.getCache(CACHE_NAME);
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (invalidation.cacheName() == null || CACHE_NAME.equals(invalidation.cacheName())) {
+                unloadedChanges.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Projection for {@code days} days starting at {@code from}. Flows expected
+     * before {@code from} are overdue and counted on the first day.
+     */
+    public CashFlowResponse project(String ownerEmail, LocalDate from, int days) {
+        return flows(ownerEmail).project(from, days);
+    }
+
+    /** Drops the owner's flows here and on every other node. */
+    public void invalidate(String ownerEmail) {
+        unloadedChanges.incrementAndGet();
+        owners.evict(ownerEmail);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Source source = Source.of(event.kind());
+        if (source == null) {
+            return;
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, event.ownerEmail());
+        OwnerFlows flows = owners.get(event.ownerEmail(), OwnerFlows.class);
+        if (flows == null) {
+            unloadedChanges.incrementAndGet();
+            return;
+        }
+        Flow flow = event.action() == EntityChangedEvent.Action.DELETED ? null : Flow.of(event.entity());
+        flows.put(source, event.entityId(), flow);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        if (Source.of(event.kind()) != null) {
+            invalidate(event.ownerEmail());
+        }
+    }
+
+    private OwnerFlows flows(String ownerEmail) {
+        OwnerFlows existing = owners.get(ownerEmail, OwnerFlows.class);
+        if (existing != null) {
+            return existing;
+        }
+        long changesBefore = unloadedChanges.get();
+        OwnerFlows loaded = load(ownerEmail);
+        // Same race as the catalog lookup index: a write during the query means this
+        // snapshot may miss it, so serve it once and load again next time.
+        if (unloadedChanges.get() == changesBefore) {
+            Cache.ValueWrapper raced = owners.putIfAbsent(ownerEmail, loaded);
+            return raced != null ? (OwnerFlows) raced.get() : loaded;
+        }
+        return loaded;
+    }
+
+    private OwnerFlows load(String ownerEmail) {
+        OwnerFlows flows = new OwnerFlows();
+        jdbcTemplate.query(FLOWS_SQL, rs -> {
+            Source source = Source.of(rs.getString(1).charAt(0));
+            LocalDate date = rs.getObject(4, LocalDate.class);
+            BigDecimal amount = rs.getBigDecimal(3);
+            if (date != null && amount != null) {
+                boolean settled = source == Source.ENTRY && EntryStatus.PAID.name().equals(rs.getString(5));
+                flows.append(source, rs.getLong(2), new Flow(date.toEpochDay(), Money.toCents(amount), settled));
+            }
+        }, ownerEmail, ownerEmail, ownerEmail);
+        return flows;
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private enum Source {
+        ENTRY,
+        SALE,
+        QUOTE;
+
+        static Source of(EntityKind kind) {
+            return switch (kind) {
+                case FINANCIAL_ENTRY -> ENTRY;
+                case SALE -> SALE;
+                case QUOTE -> QUOTE;
+                default -> null;
+            };
+        }
+
+        static Source of(char code) {
+            return switch (code) {
+                case 'E' -> ENTRY;
+                case 'S' -> SALE;
+                default -> QUOTE;
+            };
+        }
+    }
+
+    /**
+     * Signed amount in cents (income positive) on an epoch day. Settled flows
+     * are already part of the balance and have no day of their own.
+     */
+    private record Flow(long day, long cents, boolean settled) {
+
+        /** The flow an entity contributes now, or {@code null} if it does not count. */
+        static Flow of(Object entity) {
+            return switch (entity) {
+                case FinancialEntry entry -> {
+                    if (entry.getAmount() == null) {
+                        yield null;
+                    }
+                    LocalDate date = entry.getDueDate() != null ? entry.getDueDate()
+                            : entry.getCreatedAt() != null ? entry.getCreatedAt().toLocalDate() : null;
+                    long cents = Money.toCents(entry.getAmount());
+                    yield date == null ? null : new Flow(date.toEpochDay(),
+                            entry.getType() == EntryType.INCOME ? cents : -cents,
+                            entry.getStatus() == EntryStatus.PAID);
+                }
+                case Sale sale -> sale.getStatus() == SaleStatus.PENDING && sale.getTotal() != null && sale.getSaleDate() != null
+                        ? new Flow(sale.getSaleDate().toLocalDate().toEpochDay(), Money.toCents(sale.getTotal()), false)
+                        : null;
+                case Quote quote -> quote.getStatus() == QuoteStatus.APPROVED && quote.getTotal() != null && quote.getValidUntil() != null
+                        ? new Flow(quote.getValidUntil().toEpochDay(), Money.toCents(quote.getTotal()), false)
+                        : null;
+                default -> null;
+            };
+        }
+    }
+
+    private static final class OwnerFlows {
+
+        private final Map<Source, Map<Long, Flow>> bySource = new EnumMap<>(Source.class);
+        /** Epoch day to {inflow, outflow} cents of the flows still expected. */
+        private final NavigableMap<Long, long[]> days = new TreeMap<>();
+        private long settledBalance;
+
+        OwnerFlows() {
+            for (Source source : Source.values()) {
+                bySource.put(source, new HashMap<>());
+            }
+        }
+
+        /** Rows arrive in date order while loading, so a day's bucket is usually the last one. */
+        void append(Source source, long id, Flow flow) {
+            bySource.get(source).put(id, flow);
+            if (flow.settled()) {
+                settledBalance += flow.cents();
+                return;
+            }
+            Map.Entry<Long, long[]> last = days.lastEntry();
+            long[] bucket = last != null && last.getKey() == flow.day() ? last.getValue() : null;
+            if (bucket == null) {
+                bucket = new long[2];
+                days.put(flow.day(), bucket);
+            }
+            bucket[flow.cents() >= 0 ? 0 : 1] += flow.cents();
+        }
+
+        synchronized void put(Source source, long id, Flow flow) {
+            Flow previous = flow == null ? bySource.get(source).remove(id) : bySource.get(source).put(id, flow);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            if (flow != null) {
+                apply(flow, 1);
+            }
+        }
+
+        private void apply(Flow flow, int sign) {
+            if (flow.settled()) {
+                settledBalance += sign * flow.cents();
+                return;
+            }
+            long[] bucket = days.computeIfAbsent(flow.day(), day -> new long[2]);
+            bucket[flow.cents() >= 0 ? 0 : 1] += sign * flow.cents();
+            if (bucket[0] == 0 && bucket[1] == 0) {
+                days.remove(flow.day());
+            }
+        }
+
+        synchronized CashFlowResponse project(LocalDate from, int length) {
+            long first = from.toEpochDay();
+            long overdueIn = 0;
+            long overdueOut = 0;
+            for (long[] bucket : days.headMap(first, false).values()) {
+                overdueIn += bucket[0];
+                overdueOut += bucket[1];
+            }
+
+            List<CashFlowResponse.Day> series = new ArrayList<>(length);
+            long balance = settledBalance;
+            long lowest = Long.MAX_VALUE;
+            LocalDate lowestDate = from;
+            NavigableMap<Long, long[]> range = days.subMap(first, true, first + length, false);
+            for (int i = 0; i < length; i++) {
+                long[] bucket = range.get(first + i);
+                long in = bucket == null ? 0 : bucket[0];
+                long out = bucket == null ? 0 : bucket[1];
+                if (i == 0) {
+                    in += overdueIn;
+                    out += overdueOut;
+                }
+                balance += in + out;
+                LocalDate date = from.plusDays(i);
+                series.add(new CashFlowResponse.Day(date, money(in), money(-out), money(balance)));
+                if (balance < lowest) {
+                    lowest = balance;
+                    lowestDate = date;
+                }
+            }
+            return new CashFlowResponse(from, length, money(settledBalance), money(overdueIn), money(-overdueOut),
+                    money(balance), lowestDate, money(lowest), series);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.authapp.backend.service.finance;
+
+import com.authapp.backend.cache.CacheInvalidationBus;
+import com.authapp.backend.dto.finance.CatalogLookupResponse;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityChangedEvent;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.repository.finance.CatalogItemRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-owner hash index from QR code / EAN / SKU to a compact catalog
+ * projection, so point-of-sale scans are answered without a database round trip.
+ *
+ * <p>An owner's codes are loaded lazily on the first scan and then kept
+ * coherent from catalog {@link EntityChangedEvent}s, which also cover stock
+ * changes made by sales and NFe imports. Those events only fire on the node that
+ * made the change, so other nodes are told to drop the owner and reload it.
+ */
+@Service
+public class CatalogLookupIndex {
+
+    public static final String CACHE_NAME = "catalog-lookup";
+
+    private final CatalogItemRepository catalogItemRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache tenants;
+    private final AtomicLong unloadedChanges = new AtomicLong();
+
+    public CatalogLookupIndex(CatalogItemRepository catalogItemRepository,
+                              CacheManager cacheManager,
+                              CacheInvalidationBus cacheInvalidationBus) {
+        this.catalogItemRepository = catalogItemRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.tenants = cacheManager.getCache(CACHE_NAME);
+        // A change on another node may race with a load here, exactly like a local one.
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (invalidation.cacheName() == null || CACHE_NAME.equals(invalidation.cacheName())) {
+                unloadedChanges.incrementAndGet();
+            }
+        });
+    }
+
+    public CatalogLookupResponse find(String ownerEmail, String code) {
+        String key = normalize(code);
+        return key == null ? null : tenant(ownerEmail).byCode.get(key);
+    }
+
+    /**
+     * Resolves many codes at once, keyed by the code as sent by the client.
+     * Unknown codes are left out of the result.
+     */
+    public Map<String, CatalogLookupResponse> findAll(String ownerEmail, Collection<String> codes) {
+        TenantCodes tenant = tenant(ownerEmail);
+        Map<String, CatalogLookupResponse> found = new LinkedHashMap<>();
+        for (String code : codes) {
+            String key = normalize(code);
+            CatalogLookupResponse item = key == null ? null : tenant.byCode.get(key);
+            if (item != null) {
+                found.put(code, item);
+            }
+        }
+        return found;
+    }
+
+    /** Drops the owner's codes here and on every other node. */
+    public void invalidate(String ownerEmail) {
+        unloadedChanges.incrementAndGet();
+        tenants.evict(ownerEmail);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.kind() != EntityKind.CATALOG_ITEM) {
+            return;
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, event.ownerEmail());
+        TenantCodes tenant = tenants.get(event.ownerEmail(), TenantCodes.class);
+        if (tenant == null) {
+            unloadedChanges.incrementAndGet();
+            return;
+        }
+        if (event.action() == EntityChangedEvent.Action.DELETED) {
+            tenant.remove(event.entityId());
+        } else {
+            tenant.put(toLookup((CatalogItem) event.entity()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        if (event.kind() == EntityKind.CATALOG_ITEM) {
+            invalidate(event.ownerEmail());
+        }
+    }
+
+    private TenantCodes tenant(String ownerEmail) {
+        TenantCodes existing = tenants.get(ownerEmail, TenantCodes.class);
+        if (existing != null) {
+            return existing;
+        }
+        long changesBefore = unloadedChanges.get();
+        TenantCodes loaded = new TenantCodes();
+        catalogItemRepository.findLookupByOwnerEmail(ownerEmail).forEach(loaded::putIfAbsent);
+        // A catalog write for a not-yet-loaded owner may have raced with the query above;
+        // in that case serve this snapshot once and load again on the next scan.
+        if (unloadedChanges.get() == changesBefore) {
+            Cache.ValueWrapper raced = tenants.putIfAbsent(ownerEmail, loaded);
+            return raced != null ? (TenantCodes) raced.get() : loaded;
+        }
+        return loaded;
+    }
+
+    private static CatalogLookupResponse toLookup(CatalogItem item) {
+        return new CatalogLookupResponse(item.getId(), item.getName(), item.getSku(), item.getQrCode(),
+                item.getType(), item.getUnit(), item.getUnitPrice(), item.getStockQuantity());
+    }
+
+    private static String normalize(String code) {
+        if (code == null) {
+            return null;
+        }
+        String trimmed = code.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static final class TenantCodes {
+
+        private final ConcurrentMap<String, CatalogLookupResponse> byCode = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Long, CatalogLookupResponse> byId = new ConcurrentHashMap<>();
+
+        void putIfAbsent(CatalogLookupResponse item) {
+            byId.put(item.id(), item);
+            for (String code : codes(item)) {
+                byCode.putIfAbsent(code, item);
+            }
+        }
+
+        synchronized void put(CatalogLookupResponse item) {
+            remove(item.id());
+            byId.put(item.id(), item);
+            for (String code : codes(item)) {
+                byCode.put(code, item);
+            }
+        }
+
+        synchronized void remove(Long id) {
+            CatalogLookupResponse previous = byId.remove(id);
+            if (previous != null) {
+                for (String code : codes(previous)) {
+                    byCode.remove(code, previous);
+                }
+            }
+        }
+
+        private static List<String> codes(CatalogLookupResponse item) {
+            List<String> codes = new ArrayList<>(2);
+            String qrCode = normalize(item.qrCode());
+            String sku = normalize(item.sku());
+            if (qrCode != null) {
+                codes.add(qrCode);
+            }
+            if (sku != null) {
+                codes.add(sku);
+            }
+            return codes;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.authapp.backend.service.finance;
+
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the header and product lines ({@code det/prod}) of an NFe XML.
+ */
+@Component
+public class NFeXmlParser {
+
+    public NFeDocument parse(InputStream xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document doc = builder.parse(xml);
+        doc.getDocumentElement().normalize();
+
+        String number = extractValue(doc, "nNF");
+        String key = extractValue(doc, "chNFe");
+        String issuer = extractValueFromPath(doc, "emit", "xNome");
+
+        NodeList itemNodes = doc.getElementsByTagName("det");
+        List<NFeItem> items = new ArrayList<>(itemNodes.getLength());
+        for (int i = 0; i < itemNodes.getLength(); i++) {
+            Element detElement = (Element) itemNodes.item(i);
+            Element prodElement = (Element) detElement.getElementsByTagName("prod").item(0);
+
+            items.add(new NFeItem(
+                    getElementText(prodElement, "cProd"),
+                    getElementText(prodElement, "cEAN"),
+                    getElementText(prodElement, "xProd"),
+                    getElementText(prodElement, "NCM"),
+                    getElementText(prodElement, "CFOP"),
+                    getElementText(prodElement, "uCom"),
+                    new BigDecimal(getElementText(prodElement, "qCom").replace(",", ".")),
+                    new BigDecimal(getElementText(prodElement, "vUnCom").replace(",", "."))
+            ));
+        }
+        return new NFeDocument(number, key, issuer, items);
+    }
+
+    private String extractValue(Document doc, String tagName) {
+        NodeList nodes = doc.getElementsByTagName(tagName);
+        if (nodes.getLength() > 0) {
+            return nodes.item(0).getTextContent();
+        }
+        return "";
+    }
+
+    private String extractValueFromPath(Document doc, String parentTag, String childTag) {
+        NodeList parentNodes = doc.getElementsByTagName(parentTag);
+        if (parentNodes.getLength() > 0) {
+            Element parent = (Element) parentNodes.item(0);
+            NodeList childNodes = parent.getElementsByTagName(childTag);
+            if (childNodes.getLength() > 0) {
+                return childNodes.item(0).getTextContent();
+            }
+        }
+        return "";
+    }
+
+    private String getElementText(Element parent, String tagName) {
+        NodeList nodes = parent.getElementsByTagName(tagName);
+        if (nodes.getLength() > 0) {
+            return nodes.item(0).getTextContent();
+        }
+        return "";
+    }
+
+    public record NFeDocument(String number, String key, String issuer, List<NFeItem> items) {
+    }
+
+    public record NFeItem(String code,
+                          String ean,
+                          String name,
+                          String ncm,
+                          String cfop,
+                          String unit,
+                          BigDecimal quantity,
+                          BigDecimal unitPrice) {
+    }
+}
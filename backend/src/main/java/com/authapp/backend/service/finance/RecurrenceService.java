@@ -0,0 +1,179 @@
+package com.authapp.backend.service.finance;
+
+import com.authapp.backend.entity.finance.RecurrenceRule;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.repository.finance.RecurrenceRuleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recurring and installment entries. A scheduled generator materializes the
+ * occurrences of every rule as pending financial entries, up to a horizon
+ * ahead of today.
+ *
+ * <p>Each pass claims a batch of due rules with {@code FOR UPDATE SKIP LOCKED},
+ * writes all their new occurrences with one JDBC batch insert and advances the
+ * rules, in one transaction. Nodes running at the same time claim different
+ * rules, and the unique (recurrence, occurrence) constraint on entries makes a
+ * repeated occurrence fail the pass instead of duplicating it.
+ */
+@Service
+public class RecurrenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurrenceService.class);
+
+    private static final int RULES_PER_PASS = 500;
+    /** Rules far behind (an old start date) catch up over several passes. */
+    private static final int OCCURRENCES_PER_RULE = 120;
+
+    private static final String INSERT_SQL = "INSERT INTO finance_entries "
+            + "(owner_email, type, status, amount, category, description, due_date, created_at, recurrence_id, occurrence) "
+            + "VALUES (?, ?, 'PENDING', ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.VARCHAR,
+            Types.VARCHAR, Types.DATE, Types.TIMESTAMP, Types.BIGINT, Types.INTEGER};
+
+    private final RecurrenceRuleRepository recurrenceRuleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final Period horizon;
+
+    public RecurrenceService(RecurrenceRuleRepository recurrenceRuleRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher publisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.recurrence.horizon:P90D}") Period horizon) {
+        this.recurrenceRuleRepository = recurrenceRuleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.horizon = horizon;
+    }
+
+    /**
+     * Saves a new rule together with its first occurrences, so they show up
+     * right away instead of at the next scheduled run.
+     */
+    public RecurrenceRule create(RecurrenceRule rule) {
+        rule.setNextOccurrence(0);
+        rule.setNextDueDate(rule.dueDate(0));
+        LocalDate until = LocalDate.now().plus(horizon);
+        // Not committed yet, so no generator elsewhere can claim the rule meanwhile.
+        Pass pass = transaction.execute(status -> materialize(List.of(recurrenceRuleRepository.save(rule)), until));
+        count(pass);
+        return rule;
+    }
+
+    /**
+     * Removes the rule and its pending entries due from today on; past and paid
+     * entries stay.
+     *
+     * @return number of entries removed
+     */
+    public int delete(RecurrenceRule rule) {
+        return transaction.execute(status -> {
+            // The rule goes first: its row lock waits for a generator pass holding it, so that
+            // pass's entries are committed, and deleted below, before this statement returns.
+            jdbcTemplate.update("DELETE FROM finance_recurrences WHERE id = ?", rule.getId());
+            int removed = jdbcTemplate.update("DELETE FROM finance_entries WHERE recurrence_id = ? AND owner_email = ? "
+                    + "AND status = 'PENDING' AND due_date >= ?", rule.getId(), rule.getOwnerEmail(), Date.valueOf(LocalDate.now()));
+            if (removed > 0) {
+                publisher.publishEvent(new EntitiesImportedEvent(EntityKind.FINANCIAL_ENTRY, rule.getOwnerEmail()));
+            }
+            return removed;
+        });
+    }
+
+    @Scheduled(cron = "${app.recurrence.cron:0 15 2 * * *}")
+    public void generateScheduled() {
+        int generated = generate();
+        if (generated > 0) {
+            log.info("Generated {} recurring financial entries", generated);
+        }
+    }
+
+    /**
+     * Generates every occurrence due up to the horizon.
+     *
+     * @return number of entries created
+     */
+    public int generate() {
+        LocalDate until = LocalDate.now().plus(horizon);
+        int total = 0;
+        // Every claimed rule moves forward, so passes stop once nothing is left to claim.
+        for (Pass pass = nextPass(until); pass.rules() > 0; pass = nextPass(until)) {
+            total += count(pass);
+        }
+        return total;
+    }
+
+    private Pass nextPass(LocalDate until) {
+        return transaction.execute(status ->
+                materialize(recurrenceRuleRepository.claimDue(until, Limit.of(RULES_PER_PASS)), until));
+    }
+
+    /** Inserts the rules' occurrences due up to {@code until} in one batch and moves the rules past them. */
+    private Pass materialize(List<RecurrenceRule> rules, LocalDate until) {
+        if (rules.isEmpty()) {
+            return new Pass(0, 0);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        Set<String> owners = new LinkedHashSet<>();
+        for (RecurrenceRule rule : rules) {
+            int occurrence = rule.getNextOccurrence();
+            LocalDate dueDate = rule.getNextDueDate();
+            int limit = occurrence + OCCURRENCES_PER_RULE;
+            while (dueDate != null && !dueDate.isAfter(until) && occurrence < limit) {
+                rows.add(new Object[]{rule.getOwnerEmail(), rule.getType().name(), rule.amount(occurrence),
+                        rule.getCategory(), rule.description(occurrence), Date.valueOf(dueDate), now,
+                        rule.getId(), occurrence});
+                occurrence++;
+                dueDate = rule.dueDate(occurrence);
+            }
+            if (occurrence != rule.getNextOccurrence()) {
+                owners.add(rule.getOwnerEmail());
+            }
+            rule.setNextOccurrence(occurrence);
+            rule.setNextDueDate(dueDate);
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+        }
+        // Listeners run after commit, on this transaction's connection.
+        owners.forEach(owner -> publisher.publishEvent(new EntitiesImportedEvent(EntityKind.FINANCIAL_ENTRY, owner)));
+        return new Pass(rules.size(), rows.size());
+    }
+
+    private int count(Pass pass) {
+        meterRegistry.counter("app.recurrence.entries.generated").increment(pass.entries());
+        return pass.entries();
+    }
+
+    private record Pass(int rules, int entries) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Reads OFX (1.x SGML or 2.x XML) and CNAB 240 bank statements, telling them
+ * apart by their first bytes. Lines are handed over as they are read.
+ */
+@Component
+public class BankStatementParser {
+
+    private static final int SNIFF_BYTES = 1024;
+    private static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    public List<StatementLine> parse(InputStream statement) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        parse(statement, lines::add);
+        return lines;
+    }
+
+    public void parse(InputStream statement, Consumer<StatementLine> sink) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(statement, 64 * 1024);
+        in.mark(SNIFF_BYTES);
+        String head = new String(in.readNBytes(SNIFF_BYTES), StandardCharsets.ISO_8859_1).toUpperCase(Locale.ROOT);
+        in.reset();
+        if (head.contains("OFXHEADER") || head.contains("<OFX")) {
+            // OFX 1.x from Brazilian banks declares CHARSET:1252; 2.x is XML, normally UTF-8.
+            Charset charset = head.contains("UTF-8") ? StandardCharsets.UTF_8 : WINDOWS_1252;
+            new OfxStatementReader(new InputStreamReader(in, charset)).read(sink);
+        } else if (head.length() >= 240) {
+            new Cnab240StatementReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.ISO_8859_1))).read(sink);
+        } else {
+            throw new IOException("Formato de extrato não reconhecido; envie um arquivo OFX ou CNAB 240");
+        }
+    }
+}
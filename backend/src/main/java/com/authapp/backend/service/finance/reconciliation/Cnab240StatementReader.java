@@ -0,0 +1,75 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * Reads the detail records (segment E) of a FEBRABAN CNAB 240 bank statement
+ * ("extrato para conciliação bancária"), one 240 column line at a time. Header
+ * and trailer records are skipped.
+ */
+final class Cnab240StatementReader {
+
+    private static final int LINE_LENGTH = 240;
+    private static final DateTimeFormatter CNAB_DATE = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    private final BufferedReader reader;
+
+    Cnab240StatementReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    void read(Consumer<StatementLine> sink) throws IOException {
+        long number = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (line.length() < LINE_LENGTH) {
+                throw new IOException("Linha " + number + " do CNAB tem " + line.length() + " posições, esperado " + LINE_LENGTH);
+            }
+            // Position 8: record type (3 = detail); position 14: segment.
+            if (line.charAt(7) != '3' || line.charAt(13) != 'E') {
+                continue;
+            }
+            LocalDate date = date(field(line, 143, 150), number);
+            BigDecimal amount = amount(field(line, 151, 168), number);
+            char kind = line.charAt(168);
+            if (kind == 'D') {
+                amount = amount.negate();
+            } else if (kind != 'C') {
+                throw new IOException("Tipo de lançamento inválido na linha " + number + " do CNAB: " + kind);
+            }
+            String description = field(line, 177, 201).trim();
+            String document = field(line, 202, 240).trim();
+            sink.accept(new StatementLine(date, amount, description, document.isEmpty() ? null : document));
+        }
+    }
+
+    /** The field between two 1-based, inclusive positions, as the layout documents them. */
+    private static String field(String line, int from, int to) {
+        return line.substring(from - 1, to);
+    }
+
+    private static LocalDate date(String value, long number) throws IOException {
+        try {
+            return LocalDate.parse(value, CNAB_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Data inválida na linha " + number + " do CNAB: " + value);
+        }
+    }
+
+    private static BigDecimal amount(String value, long number) throws IOException {
+        try {
+            return new BigDecimal(value).movePointLeft(2);
+        } catch (NumberFormatException e) {
+            throw new IOException("Valor inválido na linha " + number + " do CNAB: " + value);
+        }
+    }
+}
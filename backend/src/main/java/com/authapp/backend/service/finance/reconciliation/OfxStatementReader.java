@@ -0,0 +1,132 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for the {@code STMTTRN} blocks of an OFX file. Works on
+ * OFX 1.x SGML, where leaf elements are never closed, as well as on OFX 2.x
+ * XML: a value is whatever text follows a start tag up to the next tag.
+ */
+final class OfxStatementReader {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final Reader reader;
+    private final StringBuilder tag = new StringBuilder(16);
+    private final StringBuilder text = new StringBuilder(64);
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private boolean inTransaction;
+    private String posted;
+    private String amount;
+    private String reference;
+    private String memo;
+    private String name;
+
+    OfxStatementReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    void read(Consumer<StatementLine> sink) throws IOException {
+        int c = next();
+        while (c != -1) {
+            if (c != '<') {
+                c = next();
+                continue;
+            }
+            tag.setLength(0);
+            for (c = next(); c != -1 && c != '>'; c = next()) {
+                tag.append((char) c);
+            }
+            text.setLength(0);
+            for (c = next(); c != -1 && c != '<'; c = next()) {
+                text.append((char) c);
+            }
+            element(tag.toString().trim().toUpperCase(Locale.ROOT), decode(text.toString().trim()), sink);
+        }
+        finishTransaction(sink);
+    }
+
+    /** One character at a time from a local buffer; {@code Reader.read()} locks on every call. */
+    private int next() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void element(String name, String value, Consumer<StatementLine> sink) throws IOException {
+        switch (name) {
+            case "STMTTRN" -> {
+                finishTransaction(sink);
+                inTransaction = true;
+            }
+            case "/STMTTRN", "/BANKTRANLIST" -> finishTransaction(sink);
+            case "DTPOSTED" -> posted = value;
+            case "TRNAMT" -> amount = value;
+            case "FITID" -> reference = value;
+            case "MEMO" -> memo = value;
+            case "NAME" -> this.name = value;
+            default -> {
+            }
+        }
+    }
+
+    private void finishTransaction(Consumer<StatementLine> sink) throws IOException {
+        if (!inTransaction) {
+            return;
+        }
+        inTransaction = false;
+        if (posted == null || amount == null) {
+            throw new IOException("Transação OFX sem DTPOSTED ou TRNAMT (FITID " + reference + ")");
+        }
+        String description = memo != null && !memo.isEmpty() ? memo : name;
+        sink.accept(new StatementLine(date(posted), amount(amount), description == null ? "" : description,
+                reference == null || reference.isEmpty() ? null : reference));
+        posted = null;
+        amount = null;
+        reference = null;
+        memo = null;
+        name = null;
+    }
+
+    private static LocalDate date(String value) throws IOException {
+        try {
+            // 20240115, 20240115120000 or 20240115120000[-3:BRT]; only the day matters.
+            return LocalDate.parse(value.substring(0, Math.min(8, value.length())), OFX_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Data OFX inválida: " + value);
+        }
+    }
+
+    private static BigDecimal amount(String value) throws IOException {
+        try {
+            // Some Brazilian banks write the decimal separator as a comma.
+            return new BigDecimal(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IOException("Valor OFX inválido: " + value);
+        }
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
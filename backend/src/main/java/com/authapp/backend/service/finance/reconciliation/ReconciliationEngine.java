@@ -0,0 +1,194 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Pairs statement lines with pending entries.
+ *
+ * <p>Entries are hashed by signed amount in cents (income positive, expense
+ * negative) and sorted by date inside each bucket, so a line only looks at the
+ * entries with exactly its amount whose date falls within the window: a hash
+ * join followed by a range scan instead of comparing every line with every
+ * entry. Each candidate pair is scored by description similarity and date
+ * distance, and pairs are taken best first so every line and every entry is
+ * used at most once.
+ */
+@Component
+public class ReconciliationEngine {
+
+    private static final double SIMILARITY_WEIGHT = 0.6;
+    private static final double DATE_WEIGHT = 0.4;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    public List<Match> match(List<StatementLine> lines, Collection<FinancialEntry> entries, int windowDays) {
+        Map<Long, Bucket> buckets = new HashMap<>();
+        for (FinancialEntry entry : entries) {
+            if (entry.getStatus() != EntryStatus.PENDING || entry.getAmount() == null) {
+                continue;
+            }
+            long cents = cents(entry.getAmount());
+            long key = entry.getType() == EntryType.EXPENSE ? -cents : cents;
+            buckets.computeIfAbsent(key, k -> new Bucket()).candidates.add(new Candidate(entry));
+        }
+        buckets.values().forEach(Bucket::sort);
+
+        List<Pair> pairs = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            StatementLine line = lines.get(i);
+            Bucket bucket = buckets.get(cents(line.amount()));
+            if (bucket == null) {
+                continue;
+            }
+            long day = line.date().toEpochDay();
+            Set<String> lineTokens = null;
+            for (int j = bucket.firstOnOrAfter(day - windowDays); j < bucket.candidates.size(); j++) {
+                Candidate candidate = bucket.candidates.get(j);
+                if (candidate.day > day + windowDays) {
+                    break;
+                }
+                if (lineTokens == null) {
+                    lineTokens = tokens(line.description());
+                }
+                int days = (int) Math.abs(candidate.day - day);
+                double score = SIMILARITY_WEIGHT * similarity(lineTokens, candidate.tokens())
+                        + DATE_WEIGHT * (1 - days / (windowDays + 1.0));
+                pairs.add(new Pair(i, candidate, score, days));
+            }
+        }
+
+        pairs.sort(Comparator.comparingDouble(Pair::score).reversed()
+                .thenComparingInt(Pair::line)
+                .thenComparingLong(pair -> pair.candidate.day));
+        boolean[] lineTaken = new boolean[lines.size()];
+        List<Match> matches = new ArrayList<>();
+        for (Pair pair : pairs) {
+            if (lineTaken[pair.line] || pair.candidate.taken) {
+                continue;
+            }
+            lineTaken[pair.line] = true;
+            pair.candidate.taken = true;
+            matches.add(new Match(pair.line, pair.candidate.entry, pair.score, pair.days));
+        }
+        matches.sort(Comparator.comparingInt(Match::line));
+        return matches;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Words of three or more letters or digits, without accents. */
+    private static Set<String> tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        String plain = isAscii(text) ? text : MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        plain = plain.toLowerCase(Locale.ROOT);
+        Set<String> tokens = new HashSet<>();
+        int start = 0;
+        for (int i = 0; i <= plain.length(); i++) {
+            char c = i < plain.length() ? plain.charAt(i) : ' ';
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                continue;
+            }
+            if (i - start >= 3) {
+                tokens.add(plain.substring(start, i));
+            }
+            start = i + 1;
+        }
+        return tokens;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Jaccard index of the two word sets. */
+    private static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> small = a.size() <= b.size() ? a : b;
+        Set<String> large = small == a ? b : a;
+        int common = 0;
+        for (String token : small) {
+            if (large.contains(token)) {
+                common++;
+            }
+        }
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+    /** A statement line paired with an entry; {@code line} indexes the parsed statement. */
+    public record Match(int line, FinancialEntry entry, double score, int days) {
+    }
+
+    private record Pair(int line, Candidate candidate, double score, int days) {
+    }
+
+    private static final class Candidate {
+
+        private final FinancialEntry entry;
+        private final long day;
+        private Set<String> tokens;
+        private boolean taken;
+
+        Candidate(FinancialEntry entry) {
+            this.entry = entry;
+            this.day = (entry.getDueDate() != null ? entry.getDueDate() : entry.getCreatedAt().toLocalDate()).toEpochDay();
+        }
+
+        /** Tokenized on first use; most entries never share an amount with a line. */
+        Set<String> tokens() {
+            if (tokens == null) {
+                tokens = ReconciliationEngine.tokens(entry.getDescription());
+            }
+            return tokens;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final List<Candidate> candidates = new ArrayList<>(1);
+
+        void sort() {
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.day));
+        }
+
+        int firstOnOrAfter(long day) {
+            int low = 0;
+            int high = candidates.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (candidates.get(mid).day < day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import com.authapp.backend.entity.finance.EntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Proposed pairs of statement lines and pending entries, for the user to
+ * confirm. Only the first unmatched lines are listed.
+ */
+public record ReconciliationReport(
+        int lines,
+        int matched,
+        int unmatched,
+        List<ProposedMatch> matches,
+        List<StatementLine> unmatchedLines,
+        boolean unmatchedTruncated
+) {
+
+    public record ProposedMatch(
+            StatementLine line,
+            Long entryId,
+            EntryType entryType,
+            String entryDescription,
+            BigDecimal entryAmount,
+            LocalDate entryDueDate,
+            double score,
+            int days
+    ) {
+    }
+}
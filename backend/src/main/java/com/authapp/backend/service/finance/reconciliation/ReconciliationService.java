@@ -0,0 +1,117 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import com.authapp.backend.dto.finance.ReconciliationConfirmRequest;
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.repository.finance.FinancialEntryRepository;
+import com.authapp.backend.service.finance.reconciliation.ReconciliationEngine.Match;
+import com.authapp.backend.service.finance.reconciliation.ReconciliationReport.ProposedMatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches an uploaded bank statement against the owner's pending entries and
+ * marks the matches the user confirms as paid.
+ */
+@Service
+public class ReconciliationService {
+
+    private static final int MAX_UNMATCHED_LINES = 500;
+
+    private static final String MARK_PAID_SQL =
+            "UPDATE finance_entries SET status = 'PAID', paid_date = ? WHERE id = ? AND owner_email = ? AND status = 'PENDING'";
+    private static final int[] MARK_PAID_TYPES = {Types.DATE, Types.BIGINT, Types.VARCHAR};
+
+    private final BankStatementParser bankStatementParser;
+    private final ReconciliationEngine reconciliationEngine;
+    private final FinancialEntryRepository financialEntryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    public ReconciliationService(BankStatementParser bankStatementParser,
+                                 ReconciliationEngine reconciliationEngine,
+                                 FinancialEntryRepository financialEntryRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher publisher,
+                                 MeterRegistry meterRegistry) {
+        this.bankStatementParser = bankStatementParser;
+        this.reconciliationEngine = reconciliationEngine;
+        this.financialEntryRepository = financialEntryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ReconciliationReport analyze(String ownerEmail, InputStream statement, int windowDays) throws IOException {
+        List<StatementLine> lines = bankStatementParser.parse(statement);
+        List<FinancialEntry> pending = financialEntryRepository.findByOwnerEmailAndStatus(ownerEmail, EntryStatus.PENDING);
+        List<Match> matches = reconciliationEngine.match(lines, pending, windowDays);
+
+        List<ProposedMatch> proposed = new ArrayList<>(matches.size());
+        boolean[] matched = new boolean[lines.size()];
+        for (Match match : matches) {
+            FinancialEntry entry = match.entry();
+            matched[match.line()] = true;
+            proposed.add(new ProposedMatch(lines.get(match.line()), entry.getId(), entry.getType(),
+                    entry.getDescription(), entry.getAmount(), entry.getDueDate(),
+                    Math.round(match.score() * 1000) / 1000.0, match.days()));
+        }
+        List<StatementLine> unmatched = new ArrayList<>();
+        for (int i = 0; i < lines.size() && unmatched.size() < MAX_UNMATCHED_LINES; i++) {
+            if (!matched[i]) {
+                unmatched.add(lines.get(i));
+            }
+        }
+        int unmatchedCount = lines.size() - matches.size();
+        meterRegistry.counter("app.reconciliation.lines", "outcome", "matched").increment(matches.size());
+        meterRegistry.counter("app.reconciliation.lines", "outcome", "unmatched").increment(unmatchedCount);
+        return new ReconciliationReport(lines.size(), matches.size(), unmatchedCount, proposed, unmatched,
+                unmatchedCount > unmatched.size());
+    }
+
+    /**
+     * Marks the confirmed entries as paid in one batch. Entries that are no
+     * longer pending, or belong to someone else, are left alone.
+     *
+     * @return number of entries marked as paid
+     */
+    public int confirm(String ownerEmail, List<ReconciliationConfirmRequest.Item> items) {
+        List<Object[]> arguments = items.stream()
+                .map(item -> new Object[]{Date.valueOf(item.paidDate()), item.entryId(), ownerEmail})
+                .toList();
+        int updated = transaction.execute(status -> {
+            int marked = 0;
+            for (int count : jdbcTemplate.batchUpdate(MARK_PAID_SQL, arguments, MARK_PAID_TYPES)) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    marked++;
+                }
+            }
+            if (marked > 0) {
+                // Published inside the transaction so listeners run after commit on its connection
+                // rather than taking a second one from the pool while this request holds the first.
+                publisher.publishEvent(new EntitiesImportedEvent(EntityKind.FINANCIAL_ENTRY, ownerEmail));
+            }
+            return marked;
+        });
+        meterRegistry.counter("app.reconciliation.confirmed").increment(updated);
+        return updated;
+    }
+}
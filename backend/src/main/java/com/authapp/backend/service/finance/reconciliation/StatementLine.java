@@ -0,0 +1,12 @@
+package com.authapp.backend.service.finance.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One bank statement transaction. {@code amount} is positive for credits and
+ * negative for debits; {@code reference} is the bank's id for the transaction
+ * (OFX {@code FITID}, CNAB document number) when it has one.
+ */
+public record StatementLine(LocalDate date, BigDecimal amount, String description, String reference) {
+}
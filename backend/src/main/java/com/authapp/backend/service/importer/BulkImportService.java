@@ -0,0 +1,313 @@
+package com.authapp.backend.service.importer;
+
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.service.importer.CsvRecordReader.CsvRecord;
+import com.authapp.backend.service.importer.ImportReport.RowError;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Imports customers and catalog items from CSV, creating new rows and updating
+ * the ones that match by natural key.
+ *
+ * <p>The file is read in chunks of {@value #CHUNK_SIZE} records. Each chunk is
+ * bound and validated in parallel against the same constraints as the create
+ * endpoints, then written with two JDBC batches, an insert and an update, in
+ * its own transaction. When the database rejects a batch, the chunk is written
+ * again one row per transaction so only the offending rows are reported.
+ * Going around JPA skips the per-entity change events, so a single
+ * {@link EntitiesImportedEvent} is published at the end instead.
+ * Columns missing from the header are left untouched on existing rows.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Validator validator;
+    private final ApplicationEventPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             ApplicationEventPublisher publisher,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ImportReport importCustomers(String ownerEmail, InputStream csv) throws IOException {
+        return run(new CustomerImportTarget(), ownerEmail, csv);
+    }
+
+    public ImportReport importCatalogItems(String ownerEmail, InputStream csv) throws IOException {
+        return run(new CatalogItemImportTarget(), ownerEmail, csv);
+    }
+
+    private <R> ImportReport run(ImportTarget<R> target, String ownerEmail, InputStream csv) throws IOException {
+        long start = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(csv);
+        Map<String, Integer> header = reader.readHeader();
+        List<ImportColumn<R>> present = target.columns().stream()
+                .filter(column -> header.containsKey(column.header().toLowerCase(Locale.ROOT)))
+                .toList();
+        if (present.isEmpty()) {
+            throw new IOException("Nenhuma coluna reconhecida no cabeçalho. Colunas aceitas: "
+                    + target.columns().stream().map(ImportColumn::header).collect(Collectors.joining(", ")));
+        }
+        Batch<R> batch = new Batch<>(target, ownerEmail, present, target.existingKeys(jdbcTemplate, ownerEmail));
+        try {
+            List<CsvRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (CsvRecord record = reader.next(); record != null; record = reader.next()) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    process(batch, chunk);
+                    chunk.clear();
+                }
+            }
+            process(batch, chunk);
+        } finally {
+            if (batch.created + batch.updated > 0) {
+                publisher.publishEvent(new EntitiesImportedEvent(target.kind(), ownerEmail));
+            }
+            count(target, "created", batch.created);
+            count(target, "updated", batch.updated);
+            count(target, "failed", batch.failed);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} {} rows in {} ms: {} created, {} updated, {} failed", batch.rows, target.dataset(),
+                elapsedMillis, batch.created, batch.updated, batch.failed);
+        return new ImportReport(batch.rows, batch.created, batch.updated, batch.failed, batch.errors,
+                batch.failed > batch.errors.size(), elapsedMillis);
+    }
+
+    private <R> void process(Batch<R> batch, List<CsvRecord> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Bound<R>> bound = chunk.parallelStream().map(record -> bind(batch.target, record)).toList();
+        List<Pending> inserts = new ArrayList<>();
+        List<Pending> updates = new ArrayList<>();
+        for (Bound<R> row : bound) {
+            batch.rows++;
+            if (!row.errors.isEmpty()) {
+                batch.reject(row.line, row.errors);
+                continue;
+            }
+            // Earlier lines of the file are matched the same way as existing rows.
+            List<String> keys = batch.target.keys(row.request);
+            Long firstLine = firstMatch(keys, batch.linesByKey);
+            if (firstLine != null) {
+                batch.reject(row.line, List.of("Registro repetido no arquivo, já importado na linha " + firstLine));
+                continue;
+            }
+            keys.forEach(key -> batch.linesByKey.putIfAbsent(key, row.line));
+            Long id = firstMatch(keys, batch.existing);
+            if (id != null) {
+                updates.add(new Pending(row.line, batch.updateArguments(row.request, id)));
+                continue;
+            }
+            inserts.add(new Pending(row.line, batch.insertArguments(row.request)));
+        }
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(batch.insertSql, arguments(inserts), batch.insertTypes);
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(batch.updateSql, arguments(updates), batch.updateTypes);
+                }
+            });
+            batch.created += inserts.size();
+            batch.updated += updates.size();
+        } catch (DataAccessException e) {
+            log.debug("Import chunk rejected, retrying row by row: {}", e.getMostSpecificCause().getMessage());
+            batch.created += writeEach(batch, batch.insertSql, batch.insertTypes, inserts);
+            batch.updated += writeEach(batch, batch.updateSql, batch.updateTypes, updates);
+        }
+    }
+
+    private long writeEach(Batch<?> batch, String sql, int[] types, List<Pending> rows) {
+        long written = 0;
+        for (Pending row : rows) {
+            try {
+                transaction.executeWithoutResult(status -> jdbcTemplate.update(sql, row.arguments(), types));
+                written++;
+            } catch (DataAccessException e) {
+                log.warn("Import row {} of {} rejected by the database: {}", row.line(), batch.target.dataset(),
+                        e.getMostSpecificCause().getMessage());
+                batch.reject(row.line(), List.of(rejection(e)));
+            }
+        }
+        return written;
+    }
+
+    /** Client-facing reason; the driver message names tables, constraints and values. */
+    private static String rejection(DataAccessException e) {
+        String sqlState = e.getMostSpecificCause() instanceof SQLException sql ? sql.getSQLState() : null;
+        if (sqlState == null) {
+            return "Rejeitado pelo banco de dados";
+        }
+        return switch (sqlState) {
+            case "23505" -> "Já existe um registro com estes dados";
+            case "23503" -> "Faz referência a um registro que não existe";
+            case "23502" -> "Campo obrigatório não informado";
+            case "22001" -> "Texto maior que o permitido";
+            case "22003" -> "Número fora do intervalo permitido";
+            default -> "Rejeitado pelo banco de dados";
+        };
+    }
+
+    private static Long firstMatch(List<String> keys, Map<String, Long> values) {
+        for (String key : keys) {
+            Long value = values.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static List<Object[]> arguments(List<Pending> rows) {
+        return rows.stream().map(Pending::arguments).toList();
+    }
+
+    private <R> Bound<R> bind(ImportTarget<R> target, CsvRecord record) {
+        List<String> errors = new ArrayList<>();
+        R request = target.bind(record, errors);
+        int bindErrors = errors.size();
+        for (ConstraintViolation<R> violation : validator.validate(request)) {
+            String field = violation.getPropertyPath() + ": ";
+            // A value that could not be read already has its message.
+            if (errors.subList(0, bindErrors).stream().noneMatch(error -> error.startsWith(field))) {
+                errors.add(field + violation.getMessage());
+            }
+        }
+        return new Bound<>(record.line(), request, errors);
+    }
+
+    private void count(ImportTarget<?> target, String outcome, long rows) {
+        meterRegistry.counter("app.import.rows", "dataset", target.dataset(), "outcome", outcome).increment(rows);
+    }
+
+    private record Bound<R>(long line, R request, List<String> errors) {
+    }
+
+    private record Pending(long line, Object[] arguments) {
+    }
+
+    /** SQL and running totals of one import. */
+    private static final class Batch<R> {
+
+        private final ImportTarget<R> target;
+        private final String ownerEmail;
+        private final List<ImportColumn<R>> present;
+        private final Map<String, Long> existing;
+        private final Map<String, Long> linesByKey = new HashMap<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private final String insertSql;
+        private final int[] insertTypes;
+        private final String updateSql;
+        private final int[] updateTypes;
+        private long rows;
+        private long created;
+        private long updated;
+        private long failed;
+
+        Batch(ImportTarget<R> target, String ownerEmail, List<ImportColumn<R>> present, Map<String, Long> existing) {
+            this.target = target;
+            this.ownerEmail = ownerEmail;
+            this.present = present;
+            this.existing = existing;
+
+            List<ImportColumn<R>> all = target.columns();
+            StringBuilder columns = new StringBuilder("owner_email, created_at");
+            StringBuilder values = new StringBuilder("?, ?");
+            insertTypes = new int[all.size() + 2];
+            insertTypes[0] = Types.VARCHAR;
+            insertTypes[1] = Types.TIMESTAMP;
+            for (int i = 0; i < all.size(); i++) {
+                columns.append(", ").append(all.get(i).column());
+                values.append(", ?");
+                insertTypes[i + 2] = all.get(i).sqlType();
+            }
+            insertSql = "INSERT INTO " + target.table() + " (" + columns + ") VALUES (" + values + ")";
+
+            StringBuilder assignments = new StringBuilder();
+            updateTypes = new int[present.size() + 2];
+            for (int i = 0; i < present.size(); i++) {
+                ImportColumn<R> column = present.get(i);
+                if (i > 0) {
+                    assignments.append(", ");
+                }
+                assignments.append(column.column()).append(column.insertDefault() == null
+                        ? " = ?"
+                        : " = COALESCE(?, " + column.column() + ")");
+                updateTypes[i] = column.sqlType();
+            }
+            updateTypes[present.size()] = Types.BIGINT;
+            updateTypes[present.size() + 1] = Types.VARCHAR;
+            updateSql = "UPDATE " + target.table() + " SET " + assignments + " WHERE id = ? AND owner_email = ?";
+        }
+
+        Object[] insertArguments(R request) {
+            List<ImportColumn<R>> all = target.columns();
+            Object[] arguments = new Object[all.size() + 2];
+            arguments[0] = ownerEmail;
+            arguments[1] = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < all.size(); i++) {
+                Object value = all.get(i).value().apply(request);
+                arguments[i + 2] = value == null ? all.get(i).insertDefault() : value;
+            }
+            return arguments;
+        }
+
+        Object[] updateArguments(R request, long id) {
+            Object[] arguments = new Object[present.size() + 2];
+            for (int i = 0; i < present.size(); i++) {
+                arguments[i] = present.get(i).value().apply(request);
+            }
+            arguments[present.size()] = id;
+            arguments[present.size() + 1] = ownerEmail;
+            return arguments;
+        }
+
+        void reject(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, messages));
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.authapp.backend.service.importer;
+
+import com.authapp.backend.dto.finance.CatalogItemRequest;
+import com.authapp.backend.entity.finance.ItemType;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.service.importer.CsvRecordReader.CsvRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Catalog items matched by SKU first, then by QR code / EAN. Product
+ * images are not imported; existing images are left as they are.
+ */
+final class CatalogItemImportTarget implements ImportTarget<CatalogItemRequest> {
+
+    private static final List<ImportColumn<CatalogItemRequest>> COLUMNS = List.of(
+            new ImportColumn<>("name", "name", Types.VARCHAR, CatalogItemRequest::name),
+            new ImportColumn<>("sku", "sku", Types.VARCHAR, CatalogItemRequest::sku),
+            new ImportColumn<>("qrCode", "qr_code", Types.VARCHAR, CatalogItemRequest::qrCode),
+            new ImportColumn<>("type", "type", Types.VARCHAR, request -> request.type().name()),
+            new ImportColumn<>("unit", "unit", Types.VARCHAR, CatalogItemRequest::unit),
+            new ImportColumn<>("unitPrice", "unit_price", Types.DECIMAL,
+                    request -> ImportTarget.scale(request.unitPrice())),
+            new ImportColumn<>("costPrice", "cost_price", Types.DECIMAL,
+                    request -> ImportTarget.scale(request.costPrice())),
+            new ImportColumn<>("description", "description", Types.VARCHAR, CatalogItemRequest::description),
+            new ImportColumn<>("stockQuantity", "stock_quantity", Types.DECIMAL,
+                    request -> ImportTarget.scale(request.stockQuantity()), BigDecimal.ZERO.setScale(2)),
+            new ImportColumn<>("minStock", "min_stock", Types.DECIMAL,
+                    request -> ImportTarget.scale(request.minStock()), BigDecimal.ZERO.setScale(2))
+    );
+
+    @Override
+    public String dataset() {
+        return "catalog";
+    }
+
+    @Override
+    public EntityKind kind() {
+        return EntityKind.CATALOG_ITEM;
+    }
+
+    @Override
+    public String table() {
+        return "finance_catalog_items";
+    }
+
+    @Override
+    public List<ImportColumn<CatalogItemRequest>> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public CatalogItemRequest bind(CsvRecord record, List<String> errors) {
+        ItemType type = null;
+        String typeValue = record.get("type");
+        if (typeValue != null) {
+            try {
+                type = ItemType.valueOf(typeValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                errors.add("type: tipo inválido '" + typeValue + "'");
+            }
+        }
+        return new CatalogItemRequest(
+                record.get("name"),
+                record.get("sku"),
+                record.get("qrCode"),
+                type,
+                record.get("unit"),
+                ImportTarget.decimal(record, "unitPrice", errors),
+                ImportTarget.decimal(record, "costPrice", errors),
+                record.get("description"),
+                null,
+                ImportTarget.decimal(record, "stockQuantity", errors),
+                ImportTarget.decimal(record, "minStock", errors));
+    }
+
+    @Override
+    public List<String> keys(CatalogItemRequest request) {
+        return keys(request.sku(), request.qrCode());
+    }
+
+    @Override
+    public Map<String, Long> existingKeys(JdbcTemplate jdbcTemplate, String ownerEmail) {
+        Map<String, Long> keys = new HashMap<>();
+        jdbcTemplate.query("SELECT id, sku, qr_code FROM finance_catalog_items WHERE owner_email = ? ORDER BY id",
+                resultSet -> {
+                    long id = resultSet.getLong("id");
+                    keys(resultSet.getString("sku"), resultSet.getString("qr_code"))
+                            .forEach(key -> keys.putIfAbsent(key, id));
+                }, ownerEmail);
+        return keys;
+    }
+
+    private static List<String> keys(String sku, String qrCode) {
+        List<String> keys = new ArrayList<>(2);
+        if (sku != null && !sku.isBlank()) {
+            keys.add("sku:" + sku.trim());
+        }
+        if (qrCode != null && !qrCode.isBlank()) {
+            keys.add("qr:" + qrCode.trim());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,153 @@
+package com.authapp.backend.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV one record at a time. The delimiter is taken from the
+ * header line, so files saved by a pt-BR Excel ({@code ;}) work as well as
+ * plain {@code ,} files. A UTF-8 byte order mark is skipped.
+ */
+final class CsvRecordReader {
+
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private Map<String, Integer> header;
+    private long line = 1;
+
+    CsvRecordReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        this.delimiter = detectDelimiter(reader);
+    }
+
+    /** Reads the header record; column names are matched ignoring case. */
+    Map<String, Integer> readHeader() throws IOException {
+        CsvRecord first = next();
+        header = new HashMap<>();
+        if (first != null) {
+            for (int i = 0; i < first.values.size(); i++) {
+                header.putIfAbsent(first.values.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return header;
+    }
+
+    /** The next record, or {@code null} at the end of the input. Blank lines are skipped. */
+    CsvRecord next() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            if (c == '\n') {
+                line++;
+            }
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        long recordLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Aspas não fechadas no registro da linha " + recordLine);
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(field, c, recordLine);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                values.add(field.toString());
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                line++;
+                return new CsvRecord(recordLine, values, header);
+            } else {
+                append(field, c, recordLine);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static void append(StringBuilder field, int c, long recordLine) throws IOException {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            throw new IOException("Campo maior que " + MAX_FIELD_LENGTH + " caracteres no registro da linha " + recordLine);
+        }
+        field.append((char) c);
+    }
+
+    private static char detectDelimiter(BufferedReader reader) throws IOException {
+        char[] start = new char[8192];
+        reader.mark(start.length);
+        int read = reader.read(start);
+        reader.reset();
+        int commas = 0;
+        int semicolons = 0;
+        int tabs = 0;
+        boolean quoted = false;
+        for (int i = 0; i < read; i++) {
+            char c = start[i];
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                if (c == '\n' || c == '\r') {
+                    break;
+                }
+                switch (c) {
+                    case ',' -> commas++;
+                    case ';' -> semicolons++;
+                    case '\t' -> tabs++;
+                    default -> {
+                    }
+                }
+            }
+        }
+        if (semicolons > commas && semicolons >= tabs) {
+            return ';';
+        }
+        return tabs > commas ? '\t' : ',';
+    }
+
+    record CsvRecord(long line, List<String> values, Map<String, Integer> header) {
+
+        /** The trimmed value of the named column, or {@code null} when absent or blank. */
+        String get(String column) {
+            Integer index = header.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
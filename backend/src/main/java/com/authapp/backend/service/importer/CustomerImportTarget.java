@@ -0,0 +1,80 @@
+package com.authapp.backend.service.importer;
+
+import com.authapp.backend.dto.finance.CustomerRequest;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.service.importer.CsvRecordReader.CsvRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/** Customers matched by CPF/CNPJ (digits only) first, then by e-mail. */
+final class CustomerImportTarget implements ImportTarget<CustomerRequest> {
+
+    private static final List<ImportColumn<CustomerRequest>> COLUMNS = List.of(
+            new ImportColumn<>("name", "name", Types.VARCHAR, CustomerRequest::name),
+            new ImportColumn<>("email", "email", Types.VARCHAR, CustomerRequest::email),
+            new ImportColumn<>("phone", "phone", Types.VARCHAR, CustomerRequest::phone),
+            new ImportColumn<>("cpfCnpj", "cpf_cnpj", Types.VARCHAR, CustomerRequest::cpfCnpj),
+            new ImportColumn<>("notes", "notes", Types.VARCHAR, CustomerRequest::notes)
+    );
+
+    @Override
+    public String dataset() {
+        return "customers";
+    }
+
+    @Override
+    public EntityKind kind() {
+        return EntityKind.CUSTOMER;
+    }
+
+    @Override
+    public String table() {
+        return "finance_customers";
+    }
+
+    @Override
+    public List<ImportColumn<CustomerRequest>> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public CustomerRequest bind(CsvRecord record, List<String> errors) {
+        return new CustomerRequest(record.get("name"), record.get("email"), record.get("phone"),
+                record.get("notes"), record.get("cpfCnpj"));
+    }
+
+    @Override
+    public List<String> keys(CustomerRequest request) {
+        return keys(request.cpfCnpj(), request.email());
+    }
+
+    @Override
+    public Map<String, Long> existingKeys(JdbcTemplate jdbcTemplate, String ownerEmail) {
+        Map<String, Long> keys = new HashMap<>();
+        jdbcTemplate.query("SELECT id, cpf_cnpj, email FROM finance_customers WHERE owner_email = ? ORDER BY id",
+                resultSet -> {
+                    long id = resultSet.getLong("id");
+                    keys(resultSet.getString("cpf_cnpj"), resultSet.getString("email"))
+                            .forEach(key -> keys.putIfAbsent(key, id));
+                }, ownerEmail);
+        return keys;
+    }
+
+    private static List<String> keys(String cpfCnpj, String email) {
+        List<String> keys = new ArrayList<>(2);
+        String digits = cpfCnpj == null ? "" : cpfCnpj.replaceAll("\\D", "");
+        if (!digits.isEmpty()) {
+            keys.add("doc:" + digits);
+        }
+        if (email != null && !email.isBlank()) {
+            keys.add("email:" + email.trim().toLowerCase(Locale.ROOT));
+        }
+        return keys;
+    }
+}
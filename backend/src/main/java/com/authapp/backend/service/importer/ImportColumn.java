@@ -0,0 +1,17 @@
+package com.authapp.backend.service.importer;
+
+import java.util.function.Function;
+
+/**
+ * A CSV column written to a table column.
+ *
+ * <p>Columns with an {@code insertDefault} are never cleared by an import:
+ * new rows get the default and existing rows keep their value when the cell is
+ * blank, like the update endpoints that skip absent stock quantities.
+ */
+record ImportColumn<R>(String header, String column, int sqlType, Function<R, Object> value, Object insertDefault) {
+
+    ImportColumn(String header, String column, int sqlType, Function<R, Object> value) {
+        this(header, column, sqlType, value, null);
+    }
+}
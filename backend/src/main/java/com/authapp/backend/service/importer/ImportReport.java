@@ -0,0 +1,22 @@
+package com.authapp.backend.service.importer;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are listed in
+ * {@code errors}; {@code failed} always has the full count.
+ */
+public record ImportReport(
+        long rows,
+        long created,
+        long updated,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        long elapsedMillis
+) {
+
+    /** A rejected row, by its line in the file (the header is line 1). */
+    public record RowError(long line, List<String> messages) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.authapp.backend.service.importer;
+
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.service.importer.CsvRecordReader.CsvRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+/** What {@link BulkImportService} needs to know to import one kind of entity. */
+interface ImportTarget<R> {
+
+    String dataset();
+
+    EntityKind kind();
+
+    String table();
+
+    List<ImportColumn<R>> columns();
+
+    /** Builds the request from a record, adding a message for every unreadable value. */
+    R bind(CsvRecord record, List<String> errors);
+
+    /** Natural keys used to match an existing row, in matching order; empty to always insert. */
+    List<String> keys(R request);
+
+    /** Every natural key of the owner's existing rows mapped to its oldest row's id. */
+    Map<String, Long> existingKeys(JdbcTemplate jdbcTemplate, String ownerEmail);
+
+    static BigDecimal decimal(CsvRecord record, String column, List<String> errors) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.replace(" ", "");
+        if (normalized.indexOf(',') >= 0) {
+            // 1.234,56 as typed in pt-BR
+            normalized = normalized.replace(".", "").replace(',', '.');
+        }
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            errors.add(column + ": número inválido '" + value + "'");
+            return null;
+        }
+    }
+
+    static BigDecimal scale(BigDecimal value) {
+        return value == null ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,237 @@
+package com.authapp.backend.service.live;
+
+import com.authapp.backend.cache.CacheInvalidationBus;
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.entity.audit.AuditLog;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.QuoteStatus;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.SaleStatus;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityChangedEvent;
+import com.authapp.backend.event.EntityKind;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns entity changes into incremental dashboard updates for the owner's live
+ * streams.
+ *
+ * <p>Creations and removals carry the whole entity, so they become counter
+ * increments (negative for removals). Updates do not say what the entity looked
+ * like before, so the affected sections are reported {@value #STALE} and the
+ * client reloads just those. Changes made on another node only arrive as bus
+ * messages without the entity and are reported the same way.
+ */
+@Service
+public class DashboardDeltas {
+
+    public static final String COUNTERS = "counters";
+    public static final String STALE = "stale";
+    public static final String SALE = "sale";
+    public static final String ACTIVITY = "activity";
+
+    public static final String SUMMARY = "summary";
+    public static final String SALES = "sales";
+    public static final String SALES_CHART = "salesChart";
+    public static final String TOP_PRODUCTS = "topProducts";
+    public static final String RECENT_SALES = "recentSales";
+    public static final String SERVICE_ORDERS = "serviceOrders";
+    public static final String RECENT_ACTIVITY = "recentActivity";
+
+    private final LiveUpdateBus liveUpdateBus;
+
+    public DashboardDeltas(LiveUpdateBus liveUpdateBus, CacheInvalidationBus cacheInvalidationBus) {
+        this.liveUpdateBus = liveUpdateBus;
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (invalidation.cacheName() == null) {
+                liveUpdateBus.resync(null);
+            } else if (ResourceVersions.CHANNEL.equals(invalidation.cacheName()) && invalidation.key() != null) {
+                String[] parts = invalidation.key().split(":", 2);
+                if (parts.length == 2) {
+                    stale(parts[1], sections(EntityKind.valueOf(parts[0])));
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        String ownerEmail = event.ownerEmail();
+        if (!liveUpdateBus.isWatched(ownerEmail)) {
+            return;
+        }
+        if (event.action() == EntityChangedEvent.Action.UPDATED) {
+            if (event.entity() instanceof Sale sale) {
+                liveUpdateBus.publish(ownerEmail, SALE, SaleUpdate.of(event.action(), sale));
+            }
+            stale(ownerEmail, sections(event.kind()));
+            return;
+        }
+        int sign = event.action() == EntityChangedEvent.Action.DELETED ? -1 : 1;
+        switch (event.entity()) {
+            case Sale sale -> {
+                liveUpdateBus.publish(ownerEmail, SALE, SaleUpdate.of(event.action(), sale));
+                counters(ownerEmail, SALES, saleIncrements(sale, sign));
+                if (sale.getStatus() == SaleStatus.PAID) {
+                    stale(ownerEmail, List.of(SALES_CHART, TOP_PRODUCTS));
+                }
+            }
+            case FinancialEntry entry -> counters(ownerEmail, SUMMARY, entryIncrements(entry, sign));
+            case ServiceOrder order -> {
+                Map<String, Object> increments = new LinkedHashMap<>();
+                increments.put("total", sign);
+                if (order.getStatus() != null) {
+                    increments.put(camelCase(order.getStatus().name()), sign);
+                }
+                counters(ownerEmail, SERVICE_ORDERS, increments);
+            }
+            case Quote quote -> {
+                if (quote.getStatus() == QuoteStatus.DRAFT || quote.getStatus() == QuoteStatus.SENT) {
+                    counters(ownerEmail, SUMMARY, Map.of("openQuotes", sign));
+                } else if (quote.getStatus() == QuoteStatus.APPROVED) {
+                    counters(ownerEmail, SUMMARY, Map.of("approvedQuotes", sign));
+                }
+            }
+            case CatalogItem item -> {
+                if (item.getStockQuantity() != null && item.getMinStock() != null
+                        && item.getStockQuantity().compareTo(item.getMinStock()) <= 0) {
+                    counters(ownerEmail, SUMMARY, Map.of("lowStock", sign));
+                }
+            }
+            case AuditLog log -> {
+                if (sign > 0) {
+                    liveUpdateBus.publish(ownerEmail, ACTIVITY, Activity.of(log));
+                }
+            }
+            case Customer customer -> counters(ownerEmail, SUMMARY, Map.of("customers", sign));
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        stale(event.ownerEmail(), sections(event.kind()));
+    }
+
+    private Map<String, Object> saleIncrements(Sale sale, int sign) {
+        Map<String, Object> increments = new LinkedHashMap<>();
+        increments.put("total", sign);
+        if (sale.getStatus() != null) {
+            increments.put(camelCase(sale.getStatus().name()), sign);
+        }
+        if (sale.getStatus() == SaleStatus.PAID && sale.getTotal() != null) {
+            BigDecimal amount = signed(sale.getTotal(), sign);
+            increments.put("totalRevenue", amount);
+            LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+            if (sale.getSaleDate() != null && sale.getSaleDate().isAfter(startOfMonth)) {
+                increments.put("monthRevenue", amount);
+            }
+        }
+        return increments;
+    }
+
+    /** Same rules as the finance summary for the current month. */
+    private Map<String, Object> entryIncrements(FinancialEntry entry, int sign) {
+        Map<String, Object> increments = new LinkedHashMap<>();
+        if (entry.getAmount() == null) {
+            return increments;
+        }
+        BigDecimal amount = signed(entry.getAmount(), sign);
+        BigDecimal balanceEffect = entry.getType() == EntryType.INCOME ? amount : amount.negate();
+        if (entry.getStatus() == EntryStatus.PENDING) {
+            increments.put("totalPending", amount);
+        }
+        if (entry.getStatus() == EntryStatus.PAID) {
+            increments.put("paidBalance", balanceEffect);
+        }
+        LocalDate referenceDate = entry.getPaidDate() != null ? entry.getPaidDate() : entry.getDueDate();
+        if (referenceDate == null && entry.getCreatedAt() != null) {
+            referenceDate = entry.getCreatedAt().toLocalDate();
+        }
+        if (referenceDate != null && YearMonth.from(referenceDate).equals(YearMonth.now())) {
+            increments.put(entry.getType() == EntryType.INCOME ? "monthlyIncome" : "monthlyExpense", amount);
+            increments.put("monthlyBalance", balanceEffect);
+        }
+        return increments;
+    }
+
+    private void counters(String ownerEmail, String section, Map<String, Object> increments) {
+        if (!increments.isEmpty()) {
+            liveUpdateBus.publish(ownerEmail, COUNTERS, new Counters(section, increments));
+        }
+    }
+
+    private void stale(String ownerEmail, List<String> sections) {
+        if (!sections.isEmpty()) {
+            liveUpdateBus.publish(ownerEmail, STALE, new Stale(sections));
+        }
+    }
+
+    private static List<String> sections(EntityKind kind) {
+        return switch (kind) {
+            case SALE -> List.of(SALES, SALES_CHART, TOP_PRODUCTS, RECENT_SALES);
+            case SERVICE_ORDER -> List.of(SERVICE_ORDERS);
+            case AUDIT_LOG -> List.of(RECENT_ACTIVITY);
+            case CUSTOMER, CATALOG_ITEM, QUOTE, FINANCIAL_ENTRY -> List.of(SUMMARY);
+        };
+    }
+
+    private static BigDecimal signed(BigDecimal value, int sign) {
+        return sign < 0 ? value.negate() : value;
+    }
+
+    /** {@code IN_PROGRESS} to {@code inProgress}, matching the dashboard JSON keys. */
+    private static String camelCase(String constant) {
+        StringBuilder name = new StringBuilder(constant.length());
+        boolean upper = false;
+        for (char c : constant.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? c : Character.toLowerCase(c));
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    public record Counters(String section, Map<String, Object> increments) {
+    }
+
+    public record Stale(List<String> sections) {
+    }
+
+    public record SaleUpdate(String action, Long id, String customerName, BigDecimal total, SaleStatus status,
+                             LocalDateTime saleDate) {
+
+        static SaleUpdate of(EntityChangedEvent.Action action, Sale sale) {
+            return new SaleUpdate(action.name(), sale.getId(), sale.getCustomerName(), sale.getTotal(),
+                    sale.getStatus(), sale.getSaleDate());
+        }
+    }
+
+    public record Activity(Long id, String entityType, Long entityId, String action, String details,
+                           LocalDateTime timestamp) {
+
+        static Activity of(AuditLog log) {
+            return new Activity(log.getId(), log.getEntityType(), log.getEntityId(), log.getAction(),
+                    log.getDetails(), log.getTimestamp());
+        }
+    }
+}
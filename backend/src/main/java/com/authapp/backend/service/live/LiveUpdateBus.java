@@ -0,0 +1,221 @@
+package com.authapp.backend.service.live;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of live updates to the Server-Sent Events streams of each
+ * owner.
+ *
+ * <p>Publishing never touches a socket: events go into a bounded buffer per
+ * stream and are written by a virtual thread, one at a time per stream, so a
+ * slow client only delays itself. When a buffer overflows its backlog is
+ * dropped and the client is told to {@value #RESYNC} instead. Idle streams get a
+ * heartbeat comment, which also finds connections that went away.
+ */
+@Service
+public class LiveUpdateBus {
+
+    public static final String RESYNC = "resync";
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateBus.class);
+
+    private final ConcurrentMap<String, Set<Subscriber>> owners = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-", 0).factory());
+    private final Duration streamTimeout;
+    private final int bufferSize;
+    private final int maxStreams;
+    private final int maxStreamsPerOwner;
+    private final Counter delivered;
+    private final Counter overflowed;
+
+    public LiveUpdateBus(@Value("${app.live.stream-timeout:PT5M}") Duration streamTimeout,
+                         @Value("${app.live.buffer-size:64}") int bufferSize,
+                         @Value("${app.live.max-streams:10000}") int maxStreams,
+                         @Value("${app.live.max-streams-per-owner:20}") int maxStreamsPerOwner,
+                         MeterRegistry meterRegistry) {
+        this.streamTimeout = streamTimeout;
+        this.bufferSize = bufferSize;
+        this.maxStreams = maxStreams;
+        this.maxStreamsPerOwner = maxStreamsPerOwner;
+        this.delivered = events(meterRegistry, "delivered");
+        this.overflowed = events(meterRegistry, "overflow");
+        Gauge.builder("app.live.streams", subscriberCount, AtomicInteger::get)
+                .description("Open live update streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the owner, or returns {@code null} when this node or
+     * the owner already has as many streams as allowed.
+     */
+    public SseEmitter subscribe(String ownerEmail) {
+        if (subscriberCount.incrementAndGet() > maxStreams) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(ownerEmail, emitter, new ArrayBlockingQueue<>(bufferSize));
+        AtomicBoolean added = new AtomicBoolean();
+        owners.compute(ownerEmail, (owner, streams) -> {
+            Set<Subscriber> current = streams == null ? ConcurrentHashMap.newKeySet() : streams;
+            if (current.size() < maxStreamsPerOwner) {
+                added.set(current.add(subscriber));
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!added.get()) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // Commits the response right away, so the client knows the stream is up.
+        subscriber.offer(SseEmitter.event().comment("connected"), true);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /** Whether the owner has an open stream on this node. */
+    public boolean isWatched(String ownerEmail) {
+        return owners.containsKey(ownerEmail);
+    }
+
+    public void publish(String ownerEmail, String eventName, Object data) {
+        Set<Subscriber> streams = owners.get(ownerEmail);
+        if (streams == null || streams.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : streams) {
+            subscriber.offer(SseEmitter.event().name(eventName).data(data), false);
+            schedule(subscriber);
+        }
+    }
+
+    /** Tells every stream of the owner, or every stream when {@code ownerEmail} is null, to reload. */
+    public void resync(String ownerEmail) {
+        if (ownerEmail == null) {
+            owners.keySet().forEach(this::resync);
+            return;
+        }
+        publish(ownerEmail, RESYNC, Map.of());
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Set<Subscriber> streams : owners.values()) {
+            for (Subscriber subscriber : streams) {
+                // A client that cannot take a heartbeat is already behind; no need to overflow it.
+                if (subscriber.offer(SseEmitter.event().comment("ping"), true)) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        owners.values().forEach(streams -> streams.forEach(subscriber -> subscriber.emitter.complete()));
+        writers.shutdown();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.writing.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                if (subscriber.overflow.getAndSet(false)) {
+                    subscriber.emitter.send(SseEmitter.event().name(RESYNC).data(Map.of()));
+                }
+                SseEventBuilder event = subscriber.buffer.poll();
+                if (event == null) {
+                    subscriber.writing.set(false);
+                    // An event offered after the poll above but before the flag was cleared.
+                    if ((subscriber.buffer.isEmpty() && !subscriber.overflow.get())
+                            || !subscriber.writing.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                subscriber.emitter.send(event);
+                delivered.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live update stream closed: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        owners.computeIfPresent(subscriber.ownerEmail, (owner, streams) -> {
+            if (streams.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    private Counter events(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.live.events")
+                .description("Live update events written to streams, or dropped on buffer overflow")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class Subscriber {
+
+        private final String ownerEmail;
+        private final SseEmitter emitter;
+        private final Queue<SseEventBuilder> buffer;
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean overflow = new AtomicBoolean();
+
+        private Subscriber(String ownerEmail, SseEmitter emitter, Queue<SseEventBuilder> buffer) {
+            this.ownerEmail = ownerEmail;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        /** Queues an event; on a full buffer drops the backlog unless {@code optional}. */
+        boolean offer(SseEventBuilder event, boolean optional) {
+            if (buffer.offer(event)) {
+                return true;
+            }
+            if (!optional) {
+                buffer.clear();
+                overflow.set(true);
+                overflowed.increment();
+            }
+            return false;
+        }
+    }
+}
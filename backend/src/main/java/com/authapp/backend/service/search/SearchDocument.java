@@ -0,0 +1,89 @@
+package com.authapp.backend.service.search;
+
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.event.EntityKind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Flattened, index-ready view of a searchable entity. Only scalar columns are
+ * read so building a document never triggers lazy loading.
+ */
+record SearchDocument(
+        EntityKind kind,
+        Long id,
+        String title,
+        String subtitle,
+        String text,
+        List<String> codes
+) {
+
+    static final Set<EntityKind> KINDS = EnumSet.of(EntityKind.CUSTOMER, EntityKind.CATALOG_ITEM,
+            EntityKind.SALE, EntityKind.QUOTE, EntityKind.SERVICE_ORDER);
+
+    String uid() {
+        return uid(kind, id);
+    }
+
+    static String uid(EntityKind kind, Long id) {
+        return kind.name() + ":" + id;
+    }
+
+    static SearchDocument of(Object entity) {
+        if (entity instanceof Customer c) {
+            return new SearchDocument(EntityKind.CUSTOMER, c.getId(), c.getName(),
+                    firstNonBlank(c.getEmail(), c.getPhone()),
+                    join(c.getName(), c.getEmail(), c.getPhone(), c.getCity(), c.getNotes()),
+                    codes(c.getCpfCnpj()));
+        }
+        if (entity instanceof CatalogItem i) {
+            return new SearchDocument(EntityKind.CATALOG_ITEM, i.getId(), i.getName(),
+                    firstNonBlank(i.getSku(), i.getType() == null ? null : i.getType().name()),
+                    join(i.getName(), i.getSku(), i.getDescription()),
+                    codes(i.getSku(), i.getQrCode()));
+        }
+        if (entity instanceof Sale s) {
+            return new SearchDocument(EntityKind.SALE, s.getId(), "Venda #" + s.getId(),
+                    join(s.getCustomerName(), s.getStatus() == null ? null : s.getStatus().name()),
+                    join(s.getCustomerName(), s.getNotes()),
+                    codes(String.valueOf(s.getId())));
+        }
+        if (entity instanceof Quote q) {
+            return new SearchDocument(EntityKind.QUOTE, q.getId(), "Orçamento #" + q.getId(),
+                    join(q.getCustomerName(), q.getStatus() == null ? null : q.getStatus().name()),
+                    join(q.getCustomerName(), q.getNotes()),
+                    codes(String.valueOf(q.getId())));
+        }
+        if (entity instanceof ServiceOrder o) {
+            return new SearchDocument(EntityKind.SERVICE_ORDER, o.getId(), "OS #" + o.getId(),
+                    join(o.getCustomerName(), o.getStatus() == null ? null : o.getStatus().name()),
+                    join(o.getCustomerName(), o.getDescription(), o.getAssignedTechnician(), o.getCustomerPhone()),
+                    codes(String.valueOf(o.getId())));
+        }
+        return null;
+    }
+
+    private static String join(String... values) {
+        return String.join(" · ", Arrays.stream(values).filter(v -> v != null && !v.isBlank()).toList());
+    }
+
+    private static String firstNonBlank(String... values) {
+        return Arrays.stream(values).filter(v -> v != null && !v.isBlank()).findFirst().orElse("");
+    }
+
+    private static List<String> codes(String... values) {
+        List<String> codes = new ArrayList<>();
+        Arrays.stream(values).filter(Objects::nonNull).map(String::trim).filter(v -> !v.isEmpty())
+                .map(String::toLowerCase).forEach(codes::add);
+        return codes;
+    }
+}
@@ -0,0 +1,525 @@
+package com.authapp.backend.service.search;
+
+import com.authapp.backend.cache.CacheInvalidationBus;
+import com.authapp.backend.datasource.Workload;
+import com.authapp.backend.dto.search.SearchHit;
+import com.authapp.backend.entity.SearchIndexChange;
+import com.authapp.backend.event.EntitiesImportedEvent;
+import com.authapp.backend.event.EntityChangedEvent;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.repository.SearchIndexChangeRepository;
+import com.authapp.backend.repository.finance.CatalogItemRepository;
+import com.authapp.backend.repository.finance.CustomerRepository;
+import com.authapp.backend.repository.finance.QuoteRepository;
+import com.authapp.backend.repository.finance.SaleRepository;
+import com.authapp.backend.repository.finance.ServiceOrderRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Embedded full-text index over customers, catalog items, sales, quotes and
+ * service orders, one Lucene index per owner.
+ *
+ * <p>Every change to a searchable entity is appended to
+ * {@code search_index_changes} after commit and announced on the invalidation
+ * bus. Each node pulls the log when told to, and every {@code sync-interval}
+ * anyway, re-reads the changed entities and updates the indexes it has open.
+ * A tenant index is opened from disk the first time it is searched in this
+ * process and catches up from the log position stored in its last commit. It
+ * is rebuilt from the database instead when it is missing, was written with
+ * an older document format, is older than the log's retention or too far
+ * behind. Commits are batched per sync interval; changes applied but not yet
+ * committed are replayed from the log after a crash. A node that dies between
+ * a database commit and writing the log row leaves that change out until
+ * {@link #reindex}.
+ * All index mutations run on a single indexer thread, so request threads never
+ * wait on the writer.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final String CHANNEL = "search-index";
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int CLEAR_EVERY = 1000;
+    private static final int PULL_BATCH = 1000;
+    /** Log ids re-read on every pull, for rows committed after a higher id was already seen. */
+    private static final long PULL_OVERLAP = 1000;
+    /** More logged changes than this since an index's last commit and it is rebuilt instead. */
+    private static final int CATCH_UP_LIMIT = 10_000;
+
+    private final CustomerRepository customerRepository;
+    private final CatalogItemRepository catalogItemRepository;
+    private final SaleRepository saleRepository;
+    private final QuoteRepository quoteRepository;
+    private final ServiceOrderRepository serviceOrderRepository;
+    private final SearchIndexChangeRepository changeRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityManager entityManager;
+    /** Read-write so that reads go to the primary: a replica may not have the logged changes yet. */
+    private final TransactionTemplate primaryTransaction;
+    private final Path baseDirectory;
+    private final Duration changeRetention;
+    private final Map<EntityKind, JpaRepository<?, Long>> repositories;
+    private final Analyzer analyzer = buildAnalyzer();
+    private final ConcurrentMap<String, TenantSearchIndex> tenants = new ConcurrentHashMap<>();
+    private final Queue<SearchIndexChange> unsaved = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean pullQueued = new AtomicBoolean();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(Workload.BACKGROUND.wrap(runnable), "search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Indexer thread only.
+    private long lastSeenId = -1;
+    private final NavigableSet<Long> recentIds = new TreeSet<>();
+
+    public SearchIndexService(CustomerRepository customerRepository,
+                              CatalogItemRepository catalogItemRepository,
+                              SaleRepository saleRepository,
+                              QuoteRepository quoteRepository,
+                              ServiceOrderRepository serviceOrderRepository,
+                              SearchIndexChangeRepository changeRepository,
+                              CacheInvalidationBus cacheInvalidationBus,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.search.index-dir:./data/search}") String baseDirectory,
+                              @Value("${app.search.change-retention:P7D}") Duration changeRetention) {
+        this.customerRepository = customerRepository;
+        this.catalogItemRepository = catalogItemRepository;
+        this.saleRepository = saleRepository;
+        this.quoteRepository = quoteRepository;
+        this.serviceOrderRepository = serviceOrderRepository;
+        this.changeRepository = changeRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.entityManager = entityManager;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.baseDirectory = Path.of(baseDirectory);
+        this.changeRetention = changeRetention;
+        this.repositories = Map.of(
+                EntityKind.CUSTOMER, customerRepository,
+                EntityKind.CATALOG_ITEM, catalogItemRepository,
+                EntityKind.SALE, saleRepository,
+                EntityKind.QUOTE, quoteRepository,
+                EntityKind.SERVICE_ORDER, serviceOrderRepository);
+        cacheInvalidationBus.subscribe(invalidation -> {
+            // A null cache name means messages were lost; the log has them all.
+            if (invalidation.cacheName() == null || CHANNEL.equals(invalidation.cacheName())) {
+                requestPull();
+            }
+        });
+    }
+
+    public List<SearchHit> search(String ownerEmail, String text, Set<EntityKind> kinds, int limit) {
+        Query query = buildQuery(text, kinds);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            return tenant(ownerEmail).search(query, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Drops and rebuilds the owner's index from the database.
+     *
+     * @return number of indexed documents
+     */
+    public int reindex(String ownerEmail) {
+        TenantSearchIndex index = tenant(ownerEmail);
+        return await(() -> rebuild(ownerEmail, index));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (SearchDocument.KINDS.contains(event.kind())) {
+            record(event.ownerEmail(), event.kind(), event.entityId());
+        }
+    }
+
+    /** Bulk imports carry no entities, so the owner's index is rebuilt. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        if (SearchDocument.KINDS.contains(event.kind())) {
+            record(event.ownerEmail(), event.kind(), null);
+        }
+    }
+
+    /** Catches up with changes whose announcement was missed, commits and trims the log. */
+    @Scheduled(fixedDelayString = "${app.search.sync-interval:PT5S}",
+            initialDelayString = "${app.search.sync-interval:PT5S}")
+    public void sync() {
+        indexer.execute(() -> {
+            try {
+                pull();
+                commitDirty();
+                changeRepository.deleteOlderThan(Instant.now().minus(changeRetention));
+            } catch (Exception e) {
+                log.warn("Failed to sync search indexes: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        indexer.shutdown();
+        try {
+            if (!indexer.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Search indexer still busy on shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to save {} search index changes: {}", unsaved.size(), e.getMessage());
+        }
+        commitDirty();
+        tenants.values().forEach(index -> {
+            try {
+                index.close();
+            } catch (IOException e) {
+                log.warn("Failed to close search index: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void record(String ownerEmail, EntityKind kind, Long entityId) {
+        unsaved.add(SearchIndexChange.builder()
+                .ownerEmail(ownerEmail)
+                .kind(kind)
+                .entityId(entityId)
+                .changedAt(Instant.now())
+                .build());
+        requestPull();
+    }
+
+    private void requestPull() {
+        if (!pullQueued.compareAndSet(false, true)) {
+            return;
+        }
+        indexer.execute(() -> {
+            pullQueued.set(false);
+            try {
+                pull();
+            } catch (Exception e) {
+                log.warn("Failed to update search indexes: {}", e.getMessage());
+            }
+        });
+    }
+
+    /** Saves the changes made on this node, then applies what was logged since the last pull. */
+    private void pull() throws IOException {
+        flush();
+        if (lastSeenId < 0) {
+            lastSeenId = Math.max(0, primaryTransaction.execute(status -> changeRepository.findMaxId()) - PULL_OVERLAP);
+        }
+        List<SearchIndexChange> fresh = new ArrayList<>();
+        long after = Math.max(0, lastSeenId - PULL_OVERLAP);
+        List<SearchIndexChange> page;
+        do {
+            long from = after;
+            page = primaryTransaction.execute(status ->
+                    changeRepository.findByIdGreaterThanOrderByIdAsc(from, Limit.of(PULL_BATCH)));
+            for (SearchIndexChange change : page) {
+                if (recentIds.add(change.getId())) {
+                    fresh.add(change);
+                    lastSeenId = Math.max(lastSeenId, change.getId());
+                }
+                after = change.getId();
+            }
+        } while (page.size() == PULL_BATCH);
+        recentIds.headSet(lastSeenId - PULL_OVERLAP, true).clear();
+
+        apply(fresh.stream().filter(change -> tenants.containsKey(change.getOwnerEmail())).toList());
+        tenants.values().forEach(index -> index.advanceTo(lastSeenId));
+    }
+
+    private void flush() {
+        List<SearchIndexChange> batch = new ArrayList<>();
+        for (SearchIndexChange change; (change = unsaved.poll()) != null; ) {
+            batch.add(change);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            changeRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(change -> change.setId(null));
+            unsaved.addAll(batch);
+            throw e;
+        }
+        cacheInvalidationBus.publish(CHANNEL, null);
+    }
+
+    /** Re-reads the changed entities and updates the loaded indexes they belong to. */
+    private void apply(List<SearchIndexChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<String> rebuilds = new LinkedHashSet<>();
+        Map<String, SearchIndexChange> latest = new LinkedHashMap<>();
+        for (SearchIndexChange change : changes) {
+            if (change.getEntityId() == null) {
+                rebuilds.add(change.getOwnerEmail());
+            } else {
+                latest.put(change.getOwnerEmail() + "|" + SearchDocument.uid(change.getKind(), change.getEntityId()), change);
+            }
+        }
+        Set<TenantSearchIndex> touched = new HashSet<>();
+        primaryTransaction.executeWithoutResult(status -> {
+            for (SearchIndexChange change : latest.values()) {
+                TenantSearchIndex index = tenants.get(change.getOwnerEmail());
+                if (index == null || rebuilds.contains(change.getOwnerEmail())) {
+                    continue;
+                }
+                Object entity = repositories.get(change.getKind()).findById(change.getEntityId()).orElse(null);
+                try {
+                    if (entity == null) {
+                        index.delete(change.getKind(), change.getEntityId());
+                    } else {
+                        index.upsert(SearchDocument.of(entity));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                touched.add(index);
+            }
+        });
+        entityManager.clear();
+        for (TenantSearchIndex index : touched) {
+            index.refresh();
+        }
+        for (String ownerEmail : rebuilds) {
+            TenantSearchIndex index = tenants.get(ownerEmail);
+            if (index != null) {
+                rebuild(ownerEmail, index);
+            }
+        }
+    }
+
+    private void commitDirty() {
+        tenants.values().forEach(index -> {
+            try {
+                if (index.isDirty()) {
+                    index.commit();
+                }
+            } catch (IOException e) {
+                log.warn("Failed to commit search index: {}", e.getMessage());
+            }
+        });
+    }
+
+    private TenantSearchIndex tenant(String ownerEmail) {
+        TenantSearchIndex existing = tenants.get(ownerEmail);
+        if (existing != null) {
+            return existing;
+        }
+        return await(() -> {
+            TenantSearchIndex current = tenants.get(ownerEmail);
+            if (current != null) {
+                return current;
+            }
+            Path path = baseDirectory.resolve(UUID.nameUUIDFromBytes(ownerEmail.getBytes(StandardCharsets.UTF_8)).toString());
+            Files.createDirectories(path);
+            TenantSearchIndex index = new TenantSearchIndex(path, analyzer);
+            tenants.put(ownerEmail, index);
+            try {
+                if (index.isCurrent() && index.committedAt().isAfter(Instant.now().minus(changeRetention))) {
+                    catchUp(ownerEmail, index);
+                } else {
+                    rebuild(ownerEmail, index);
+                }
+            } catch (RuntimeException | IOException e) {
+                tenants.remove(ownerEmail);
+                index.close();
+                throw e;
+            }
+            return index;
+        });
+    }
+
+    /** Applies the changes logged for the owner since the index was last committed. */
+    private void catchUp(String ownerEmail, TenantSearchIndex index) throws IOException {
+        List<SearchIndexChange> changes = primaryTransaction.execute(status ->
+                changeRepository.findByOwnerEmailAndIdGreaterThanOrderByIdAsc(ownerEmail,
+                        Math.max(0, index.changeId() - PULL_OVERLAP), Limit.of(CATCH_UP_LIMIT + 1)));
+        if (changes.size() > CATCH_UP_LIMIT) {
+            rebuild(ownerEmail, index);
+            return;
+        }
+        apply(changes);
+        changes.forEach(change -> index.advanceTo(change.getId()));
+        index.advanceTo(lastSeenId);
+        if (index.isDirty()) {
+            index.commit();
+        }
+    }
+
+    private int rebuild(String ownerEmail, TenantSearchIndex index) throws IOException {
+        long start = System.nanoTime();
+        // Read first: changes logged after this position are applied again, which is harmless.
+        long position = primaryTransaction.execute(status -> changeRepository.findMaxId());
+        index.deleteAll();
+        Integer count = Workload.REPORTING.call(() -> primaryTransaction.execute(status -> {
+            int indexed = 0;
+            indexed += indexAll(index, customerRepository.streamByOwnerEmail(ownerEmail));
+            indexed += indexAll(index, catalogItemRepository.streamByOwnerEmail(ownerEmail));
+            indexed += indexAll(index, saleRepository.streamByOwnerEmail(ownerEmail));
+            indexed += indexAll(index, quoteRepository.streamByOwnerEmail(ownerEmail));
+            indexed += indexAll(index, serviceOrderRepository.streamByOwnerEmail(ownerEmail));
+            return indexed;
+        }));
+        index.advanceTo(position);
+        index.commit();
+        log.info("Search index rebuilt with {} documents in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count == null ? 0 : count;
+    }
+
+    private int indexAll(TenantSearchIndex index, Stream<?> entities) {
+        int[] count = {0};
+        try (entities) {
+            entities.forEach(entity -> {
+                try {
+                    index.upsert(SearchDocument.of(entity));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++count[0] % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+        entityManager.clear();
+        return count[0];
+    }
+
+    private Query buildQuery(String text, Set<EntityKind> kinds) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+
+        List<String> terms = analyze(text);
+        if (!terms.isEmpty()) {
+            BooleanQuery.Builder allTerms = new BooleanQuery.Builder();
+            for (String term : terms) {
+                BooleanQuery.Builder termQuery = new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(new Term(TenantSearchIndex.FIELD_TEXT, term)), 2f), BooleanClause.Occur.SHOULD);
+                if (term.length() > 1) {
+                    termQuery.add(new PrefixQuery(new Term(TenantSearchIndex.FIELD_TEXT, term)), BooleanClause.Occur.SHOULD);
+                }
+                allTerms.add(termQuery.build(), BooleanClause.Occur.MUST);
+            }
+            root.add(allTerms.build(), BooleanClause.Occur.SHOULD);
+        }
+        // Exact identifier hits (SKU, QR code, CPF/CNPJ, document number) rank first.
+        root.add(new BoostQuery(new TermQuery(new Term(TenantSearchIndex.FIELD_CODE, text.trim().toLowerCase())), 5f),
+                BooleanClause.Occur.SHOULD);
+        root.setMinimumNumberShouldMatch(1);
+
+        if (kinds != null && !kinds.isEmpty()) {
+            BooleanQuery.Builder kindFilter = new BooleanQuery.Builder();
+            kinds.forEach(kind -> kindFilter.add(new TermQuery(new Term(TenantSearchIndex.FIELD_KIND, kind.name())),
+                    BooleanClause.Occur.SHOULD));
+            root.add(kindFilter.build(), BooleanClause.Occur.FILTER);
+        }
+        return root.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TenantSearchIndex.FIELD_TEXT, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private <T> T await(Callable<T> task) {
+        try {
+            return indexer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the search index", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search index operation failed", e.getCause());
+        }
+    }
+
+    private static Analyzer buildAnalyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new StandardTokenizer();
+                TokenStream stream = new LowerCaseFilter(tokenizer);
+                stream = new ASCIIFoldingFilter(stream);
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+    }
+}
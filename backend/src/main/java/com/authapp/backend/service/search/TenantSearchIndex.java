@@ -0,0 +1,183 @@
+package com.authapp.backend.service.search;
+
+import com.authapp.backend.dto.search.SearchHit;
+import com.authapp.backend.event.EntityKind;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lucene index holding the searchable documents of a single owner. Writes are
+ * expected to be serialized by the caller; searches may run concurrently.
+ *
+ * <p>The index on disk is reopened as it is. Every commit records
+ * {@link #FORMAT}, so an index never committed or written by an older
+ * document layout reports {@link #isCurrent()} false and must be rebuilt. It
+ * also records the last {@code search_index_changes} id the documents reflect
+ * and when it was written, from where a reopened index catches up.
+ */
+class TenantSearchIndex implements Closeable {
+
+    static final String FIELD_UID = "uid";
+    static final String FIELD_KIND = "kind";
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_SUBTITLE = "subtitle";
+    static final String FIELD_TEXT = "text";
+    static final String FIELD_CODE = "code";
+
+    /** Bump when {@link SearchDocument}, the fields or the analyzer change. */
+    static final String FORMAT = "2";
+    private static final String FORMAT_KEY = "format";
+    private static final String CHANGE_KEY = "change";
+    private static final String COMMITTED_AT_KEY = "committed-at";
+
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final boolean current;
+    private final Instant committedAt;
+    private long changeId;
+    private boolean dirty;
+
+    TenantSearchIndex(Path path, Analyzer analyzer) throws IOException {
+        this.directory = FSDirectory.open(path);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                // Only explicit commits count, so a rebuild cut short never passes for a complete index.
+                .setCommitOnClose(false)
+                .setRAMBufferSizeMB(32);
+        this.writer = new IndexWriter(directory, config);
+        Map<String, String> data = commitData(writer);
+        this.current = FORMAT.equals(data.get(FORMAT_KEY));
+        this.changeId = current ? Long.parseLong(data.get(CHANGE_KEY)) : 0;
+        this.committedAt = current ? Instant.ofEpochMilli(Long.parseLong(data.get(COMMITTED_AT_KEY))) : null;
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /** Whether the reopened index was committed with the current {@link #FORMAT}. */
+    boolean isCurrent() {
+        return current;
+    }
+
+    /** When the reopened index was last committed, or {@code null} if it is not current. */
+    Instant committedAt() {
+        return committedAt;
+    }
+
+    /** Last {@code search_index_changes} id the documents reflect. */
+    long changeId() {
+        return changeId;
+    }
+
+    void advanceTo(long changeId) {
+        this.changeId = Math.max(this.changeId, changeId);
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void upsert(SearchDocument document) throws IOException {
+        writer.updateDocument(new Term(FIELD_UID, document.uid()), toLucene(document));
+        dirty = true;
+    }
+
+    void delete(EntityKind kind, Long id) throws IOException {
+        writer.deleteDocuments(new Term(FIELD_UID, SearchDocument.uid(kind, id)));
+        dirty = true;
+    }
+
+    void deleteAll() throws IOException {
+        writer.deleteAll();
+        dirty = true;
+    }
+
+    /** Makes the changes so far visible to searches, without writing them to disk. */
+    void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    void commit() throws IOException {
+        writer.setLiveCommitData(Map.of(
+                FORMAT_KEY, FORMAT,
+                CHANGE_KEY, Long.toString(changeId),
+                COMMITTED_AT_KEY, Long.toString(System.currentTimeMillis())).entrySet());
+        writer.commit();
+        dirty = false;
+        searcherManager.maybeRefresh();
+    }
+
+    List<SearchHit> search(Query query, int limit) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, limit);
+            List<SearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document doc = searcher.storedFields().document(scoreDoc.doc);
+                hits.add(new SearchHit(
+                        EntityKind.valueOf(doc.get(FIELD_KIND)),
+                        doc.getField(FIELD_ID).numericValue().longValue(),
+                        doc.get(FIELD_TITLE),
+                        doc.get(FIELD_SUBTITLE),
+                        scoreDoc.score
+                ));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Map<String, String> commitData(IndexWriter writer) {
+        Map<String, String> data = new HashMap<>();
+        Iterable<Map.Entry<String, String>> live = writer.getLiveCommitData();
+        if (live != null) {
+            live.forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        }
+        return data;
+    }
+
+    private Document toLucene(SearchDocument document) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_UID, document.uid(), Field.Store.NO));
+        doc.add(new StringField(FIELD_KIND, document.kind().name(), Field.Store.YES));
+        doc.add(new StoredField(FIELD_ID, document.id()));
+        doc.add(new StoredField(FIELD_TITLE, document.title() == null ? "" : document.title()));
+        doc.add(new StoredField(FIELD_SUBTITLE, document.subtitle() == null ? "" : document.subtitle()));
+        doc.add(new TextField(FIELD_TEXT, document.text(), Field.Store.NO));
+        for (String code : document.codes()) {
+            doc.add(new StringField(FIELD_CODE, code, Field.Store.NO));
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Compares two JMH result files produced by run.sh (requires jq):
+#   ./compare.sh results/abc1234.json results/def5678.json
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+    echo "uso: $0 <base.json> <novo.json>" >&2
+    exit 1
+fi
+
+summarize() {
+    jq -r '.[] | [(.benchmark | sub("^com\\.authapp\\.benchmarks\\."; "")) + ((.params // {}) | to_entries | map("[" + .key + "=" + .value + "]") | join("")),
+                  .primaryMetric.score, .primaryMetric.scoreUnit] | @tsv' "$1" | sort
+}
+
+join -t $'\t' <(summarize "$1") <(summarize "$2") |
+    awk -F'\t' 'BEGIN { printf "%-70s %14s %14s %8s\n", "benchmark", "base", "novo", "delta" }
+                { delta = ($2 == 0) ? 0 : ($4 - $2) / $2 * 100;
+                  printf "%-70s %10.3f %-3s %10.3f %-3s %+7.1f%%\n", $1, $2, $3, $4, $5, delta }'
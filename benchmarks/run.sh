@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Builds the backend, runs the JMH suite and stores the results as
+# results/<commit>.json. Extra arguments go straight to JMH, e.g.
+#   ./run.sh Jwt -f 1 -wi 1 -i 3
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+COMMIT="$(git rev-parse --short HEAD)"
+if ! git diff --quiet HEAD -- backend benchmarks; then
+    COMMIT="$COMMIT-dirty"
+fi
+
+mvn -B -q -f backend/pom.xml install -DskipTests
+mvn -B -q -f benchmarks/pom.xml package
+
+mkdir -p benchmarks/results
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "benchmarks/results/$COMMIT.json" "$@"
+echo "Resultados em benchmarks/results/$COMMIT.json"
@@ -0,0 +1,108 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.cache.BroadcastingCacheManager;
+import com.authapp.backend.cache.LocalCacheInvalidationBus;
+import com.authapp.backend.cache.ResourceVersions;
+import com.authapp.backend.controller.finance.CatalogController;
+import com.authapp.backend.datasource.ReplicaLagMonitor;
+import com.authapp.backend.dto.finance.CatalogLookupResponse;
+import com.authapp.backend.dto.finance.FinanceResponseMapperImpl;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.event.EntityKind;
+import com.authapp.backend.repository.finance.CatalogItemRepository;
+import com.authapp.backend.repository.finance.StockMovementRepository;
+import com.authapp.backend.service.finance.CatalogLookupIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of {@code GET /api/finance/catalog} and of the POS lookup
+ * projection, with an ObjectMapper configured the way Spring Boot does it, and
+ * the conditional GET that a polling client with a current ETag makes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int itemCount;
+
+    private ObjectMapper objectMapper;
+    private CatalogController controller;
+    private Authentication authentication;
+    private List<CatalogLookupResponse> lookups;
+    private String etag;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        List<CatalogItem> catalog = Fixtures.catalog(itemCount);
+        CatalogItemRepository catalogItems = Stubs.repository(CatalogItemRepository.class,
+                Map.of("findByOwnerEmailOrderByNameAsc", args -> catalog));
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        ResourceVersions resourceVersions = new ResourceVersions(bus,
+                new StaticListableBeanFactory().getBeanProvider(ReplicaLagMonitor.class));
+        controller = new CatalogController(catalogItems,
+                Stubs.repository(StockMovementRepository.class, Map.of()),
+                new CatalogLookupIndex(catalogItems, new BroadcastingCacheManager(
+                        Map.of(CatalogLookupIndex.CACHE_NAME, "maximumSize=10"), bus), bus),
+                resourceVersions, null, null, new FinanceResponseMapperImpl());
+        etag = resourceVersions.etag(Fixtures.OWNER, EntityKind.CATALOG_ITEM);
+        authentication = new UsernamePasswordAuthenticationToken(Fixtures.OWNER, null, List.of());
+        lookups = catalog.stream()
+                .map(item -> new CatalogLookupResponse(item.getId(), item.getName(), item.getSku(), item.getQrCode(),
+                        item.getType(), item.getUnit(), item.getUnitPrice(), item.getStockQuantity()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] catalogList() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.listCatalog(authentication, request(null)).getBody());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> catalogListNotModified() {
+        return controller.listCatalog(authentication, request(etag));
+    }
+
+    @Benchmark
+    public byte[] lookupProjection() throws Exception {
+        return objectMapper.writeValueAsBytes(lookups);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/finance/catalog");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,400 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.entity.SystemConfig;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.EntryStatus;
+import com.authapp.backend.entity.finance.EntryType;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.ItemType;
+import com.authapp.backend.entity.finance.PaymentMethod;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.QuoteItem;
+import com.authapp.backend.entity.finance.QuoteStatus;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.SaleItem;
+import com.authapp.backend.entity.finance.SaleStatus;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.entity.finance.ServiceOrderItem;
+import com.authapp.backend.entity.finance.ServiceOrderStatus;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic data. Every generator takes a size and always
+ * produces the same values for it, so runs on different commits compare.
+ */
+final class Fixtures {
+
+    static final String OWNER = "bench@example.com";
+    static final String JWT_SECRET = "VGhpc0lzQVN1cGVyU2VjcmV0S2V5Rm9ySldUMjAyNl9BdXRoX1N5c3RlbQ==";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 10, 30);
+    private static final String[] COUNTERPARTS = {
+            "Alfa Distribuidora", "Beta Servicos", "Gama Energia", "Delta Telecom", "Epsilon Logistica",
+            "Zeta Papelaria", "Eta Software", "Theta Aluguel", "Iota Contabilidade", "Kappa Transportes"};
+
+    private Fixtures() {
+    }
+
+    static Sale sale(int itemCount) {
+        SplittableRandom random = new SplittableRandom(itemCount);
+        Sale sale = Sale.builder()
+                .id(1L)
+                .ownerEmail(OWNER)
+                .customerName("Cliente Benchmark")
+                .saleDate(NOW)
+                .status(SaleStatus.PAID)
+                .items(new ArrayList<>())
+                .discountPercent(new BigDecimal("5"))
+                .shipping(new BigDecimal("19.90"))
+                .tax(BigDecimal.ZERO)
+                .paymentMethod(PaymentMethod.PIX)
+                .notes("Venda gerada para benchmark")
+                .createdAt(NOW)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(10));
+            BigDecimal unitPrice = money(random, 1, 500);
+            sale.getItems().add(SaleItem.builder()
+                    .sale(sale)
+                    .description("Produto " + i)
+                    .quantity(quantity)
+                    .unit("UN")
+                    .unitPrice(unitPrice)
+                    .total(quantity.multiply(unitPrice))
+                    .productId((long) i)
+                    .build());
+        }
+        sale.calculateTotal();
+        return sale;
+    }
+
+    /** {@code count} sales of three items each. */
+    static List<Sale> sales(int count) {
+        List<Sale> sales = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Sale sale = sale(3);
+            sale.setId((long) i);
+            sale.setCustomerName("Cliente " + i);
+            sales.add(sale);
+        }
+        return sales;
+    }
+
+    static Quote quote(int itemCount) {
+        SplittableRandom random = new SplittableRandom(itemCount);
+        Quote quote = Quote.builder()
+                .id(1L)
+                .ownerEmail(OWNER)
+                .customerName("Cliente Benchmark")
+                .status(QuoteStatus.SENT)
+                .issueDate(NOW.toLocalDate())
+                .validUntil(NOW.toLocalDate().plusDays(15))
+                .notes("Orçamento gerado para benchmark")
+                .createdAt(NOW)
+                .build();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(10));
+            BigDecimal unitPrice = money(random, 1, 500);
+            BigDecimal itemTotal = quantity.multiply(unitPrice);
+            quote.getItems().add(QuoteItem.builder()
+                    .quote(quote)
+                    .description("Item " + i)
+                    .unit("UN")
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .total(itemTotal)
+                    .build());
+            total = total.add(itemTotal);
+        }
+        quote.setSubtotal(total);
+        quote.setTotal(total);
+        return quote;
+    }
+
+    static ServiceOrder serviceOrder(int itemCount) {
+        SplittableRandom random = new SplittableRandom(itemCount);
+        ServiceOrder order = ServiceOrder.builder()
+                .id(1L)
+                .ownerEmail(OWNER)
+                .customerName("Cliente Benchmark")
+                .customerPhone("(11) 99999-0000")
+                .customerAddress("Rua Exemplo, 123")
+                .status(ServiceOrderStatus.IN_PROGRESS)
+                .startDate(NOW.toLocalDate())
+                .estimatedEndDate(NOW.toLocalDate().plusDays(3))
+                .description("Manutenção preventiva")
+                .technicianNotes("Sem observações")
+                .assignedTechnician("Técnico 1")
+                .laborCost(new BigDecimal("150.00"))
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        BigDecimal parts = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            int quantity = 1 + random.nextInt(5);
+            BigDecimal unitPrice = money(random, 1, 300);
+            BigDecimal itemTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            order.getItems().add(ServiceOrderItem.builder()
+                    .serviceOrder(order)
+                    .itemName("Peça " + i)
+                    .description("Descrição da peça " + i)
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .total(itemTotal)
+                    .isService(i % 4 == 0)
+                    .build());
+            parts = parts.add(itemTotal);
+        }
+        order.setPartsCost(parts);
+        order.setTotal(parts.add(order.getLaborCost()));
+        return order;
+    }
+
+    static List<FinancialEntry> entries(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<FinancialEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate dueDate = NOW.toLocalDate().minusDays(random.nextInt(365));
+            boolean paid = random.nextInt(3) > 0;
+            entries.add(FinancialEntry.builder()
+                    .id((long) i)
+                    .ownerEmail(OWNER)
+                    .type(random.nextBoolean() ? EntryType.INCOME : EntryType.EXPENSE)
+                    .status(paid ? EntryStatus.PAID : EntryStatus.PENDING)
+                    .amount(money(random, 10, 5000))
+                    .category("Categoria " + random.nextInt(12))
+                    .description("Lançamento " + i)
+                    .dueDate(dueDate)
+                    .paidDate(paid ? dueDate.plusDays(random.nextInt(10)) : null)
+                    .createdAt(dueDate.atStartOfDay())
+                    .build());
+        }
+        return entries;
+    }
+
+    static List<Quote> quotes(int count) {
+        QuoteStatus[] statuses = QuoteStatus.values();
+        List<Quote> quotes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            quotes.add(Quote.builder()
+                    .id((long) i)
+                    .ownerEmail(OWNER)
+                    .customerName("Cliente " + i)
+                    .status(statuses[i % statuses.length])
+                    .total(new BigDecimal("100.00"))
+                    .createdAt(NOW)
+                    .build());
+        }
+        return quotes;
+    }
+
+    static List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(Customer.builder()
+                    .id((long) i)
+                    .ownerEmail(OWNER)
+                    .name("Cliente " + i)
+                    .email("cliente" + i + "@example.com")
+                    .createdAt(NOW)
+                    .build());
+        }
+        return customers;
+    }
+
+    static List<CatalogItem> catalog(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<CatalogItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(CatalogItem.builder()
+                    .id((long) i)
+                    .ownerEmail(OWNER)
+                    .name("Produto " + i)
+                    .sku("SKU-" + i)
+                    .qrCode(String.format("789%010d", i))
+                    .type(i % 5 == 0 ? ItemType.SERVICE : ItemType.PRODUCT)
+                    .unit("UN")
+                    .unitPrice(money(random, 1, 1000))
+                    .costPrice(money(random, 1, 500))
+                    .description("Descrição do produto " + i)
+                    .ncm("84713012")
+                    .cfop("5102")
+                    .stockQuantity(BigDecimal.valueOf(random.nextInt(200)))
+                    .minStock(BigDecimal.TEN)
+                    .createdAt(NOW)
+                    .build());
+        }
+        return items;
+    }
+
+    static String nfeXml(int itemCount) {
+        SplittableRandom random = new SplittableRandom(itemCount);
+        StringBuilder xml = new StringBuilder(512 + itemCount * 600)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<nfeProc xmlns=\"http://www.portalfiscal.inf.br/nfe\" versao=\"4.00\"><NFe><infNFe Id=\"NFe3526\" versao=\"4.00\">")
+                .append("<ide><nNF>123456</nNF></ide>")
+                .append("<emit><CNPJ>12345678000199</CNPJ><xNome>Fornecedor Benchmark LTDA</xNome></emit>");
+        for (int i = 0; i < itemCount; i++) {
+            xml.append("<det nItem=\"").append(i + 1).append("\"><prod>")
+                    .append("<cProd>P").append(i).append("</cProd>")
+                    .append("<cEAN>").append(String.format("789%010d", i)).append("</cEAN>")
+                    .append("<xProd>Produto importado ").append(i).append("</xProd>")
+                    .append("<NCM>84713012</NCM><CFOP>5102</CFOP><uCom>UN</uCom>")
+                    .append("<qCom>").append(1 + random.nextInt(50)).append(".0000</qCom>")
+                    .append("<vUnCom>").append(money(random, 1, 500)).append("</vUnCom>")
+                    .append("</prod><imposto><ICMS><ICMS00><orig>0</orig></ICMS00></ICMS></imposto></det>");
+        }
+        return xml.append("</infNFe></NFe><protNFe><infProt><chNFe>35260312345678000199550010001234561000000000</chNFe></infProt></protNFe></nfeProc>")
+                .toString();
+    }
+
+    /** Pending entries with counterpart names, due within the next three months. */
+    static List<FinancialEntry> pendingEntries(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<FinancialEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate dueDate = NOW.toLocalDate().plusDays(random.nextInt(90));
+            boolean income = random.nextInt(3) == 0;
+            String counterpart = COUNTERPARTS[random.nextInt(COUNTERPARTS.length)];
+            entries.add(FinancialEntry.builder()
+                    .id((long) i)
+                    .ownerEmail(OWNER)
+                    .type(income ? EntryType.INCOME : EntryType.EXPENSE)
+                    .status(EntryStatus.PENDING)
+                    .amount(money(random, 10, 5000))
+                    .category("Categoria " + random.nextInt(12))
+                    .description((income ? "Recebimento " : "Boleto ") + counterpart + " " + i)
+                    .dueDate(dueDate)
+                    .createdAt(NOW)
+                    .build());
+        }
+        return entries;
+    }
+
+    /**
+     * An OFX 1.x (SGML) statement paying each entry up to three days off its
+     * due date, with one unrelated line for every ten.
+     */
+    static String ofxStatement(List<FinancialEntry> entries) {
+        StringBuilder ofx = new StringBuilder(256 + entries.size() * 190)
+                .append("OFXHEADER:100\nDATA:OFXSGML\nVERSION:102\nENCODING:USASCII\nCHARSET:1252\n\n")
+                .append("<OFX>\n<BANKMSGSRSV1>\n<STMTTRNRS>\n<STMTRS>\n<CURDEF>BRL\n<BANKTRANLIST>\n");
+        statementLines(entries, (date, amount, memo, id) -> ofx.append("<STMTTRN>\n<TRNTYPE>")
+                .append(amount.signum() < 0 ? "DEBIT" : "CREDIT")
+                .append("\n<DTPOSTED>").append(date.format(DateTimeFormatter.BASIC_ISO_DATE)).append("120000[-3:BRT]")
+                .append("\n<TRNAMT>").append(amount.toPlainString())
+                .append("\n<FITID>").append(id)
+                .append("\n<MEMO>").append(memo)
+                .append("\n</STMTTRN>\n"));
+        return ofx.append("</BANKTRANLIST>\n</STMTRS>\n</STMTTRNRS>\n</BANKMSGSRSV1>\n</OFX>\n").toString();
+    }
+
+    /** The same movements as {@link #ofxStatement}, as CNAB 240 segment E records. */
+    static String cnabStatement(List<FinancialEntry> entries) {
+        StringBuilder cnab = new StringBuilder((entries.size() * 11 / 10 + 4) * 241);
+        cnab.append(cnabRecord("3410000", '0')).append('\n');
+        cnab.append(cnabRecord("3410001", '1')).append('\n');
+        int[] sequence = {0};
+        statementLines(entries, (date, amount, memo, id) -> {
+            char[] record = cnabRecord("3410001", '3');
+            put(record, 9, String.format("%05d", ++sequence[0]));
+            put(record, 14, "E");
+            put(record, 143, date.format(DateTimeFormatter.ofPattern("ddMMyyyy")));
+            put(record, 151, String.format("%018d", amount.abs().unscaledValue()));
+            put(record, 169, amount.signum() < 0 ? "D" : "C");
+            put(record, 177, memo.length() > 25 ? memo.substring(0, 25) : memo);
+            put(record, 202, id);
+            cnab.append(record).append('\n');
+        });
+        cnab.append(cnabRecord("3410001", '5')).append('\n');
+        return cnab.append(cnabRecord("3419999", '9')).append('\n').toString();
+    }
+
+    private interface StatementSink {
+        void line(LocalDate date, BigDecimal amount, String memo, String id);
+    }
+
+    private static void statementLines(List<FinancialEntry> entries, StatementSink sink) {
+        SplittableRandom random = new SplittableRandom(entries.size());
+        for (FinancialEntry entry : entries) {
+            BigDecimal amount = entry.getType() == EntryType.EXPENSE ? entry.getAmount().negate() : entry.getAmount();
+            String[] words = entry.getDescription().split(" ");
+            String memo = (amount.signum() < 0 ? "PAG BOLETO " : "TED RECEBIDA ") + words[1].toUpperCase() + " " + words[2];
+            sink.line(entry.getDueDate().plusDays(random.nextInt(4)), amount, memo, "E" + entry.getId());
+            if (random.nextInt(10) == 0) {
+                sink.line(entry.getDueDate(), money(random, 1, 100).negate(), "TARIFA BANCARIA", "T" + entry.getId());
+            }
+        }
+    }
+
+    private static char[] cnabRecord(String bankAndBatch, char type) {
+        char[] record = new char[240];
+        Arrays.fill(record, ' ');
+        put(record, 1, bankAndBatch);
+        record[7] = type;
+        return record;
+    }
+
+    /** Writes {@code value} starting at a 1-based CNAB position. */
+    private static void put(char[] record, int position, String value) {
+        value.getChars(0, value.length(), record, position - 1);
+    }
+
+    /** Company settings with a 240x80 PNG logo, as a configured tenant would have. */
+    static SystemConfig systemConfig() {
+        BufferedImage image = new BufferedImage(240, 80, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(59, 130, 246));
+        graphics.fillRect(0, 0, 240, 80);
+        graphics.setColor(Color.WHITE);
+        graphics.drawString("Bench Ltda", 80, 45);
+        graphics.dispose();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return SystemConfig.builder()
+                .id(1L)
+                .ownerEmail(OWNER)
+                .companyName("Bench Comércio Ltda")
+                .cnpj("12.345.678/0001-90")
+                .phone("(11) 4000-0000")
+                .email("contato@bench.example.com")
+                .logoBase64("data:image/png;base64," + Base64.getEncoder().encodeToString(png.toByteArray()))
+                .build();
+    }
+
+    /** Amounts as loaded from a scale-2 money column. */
+    static List<BigDecimal> amounts(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<BigDecimal> amounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            amounts.add(money(random, 1, 5000));
+        }
+        return amounts;
+    }
+
+    private static BigDecimal money(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextLong((max - min) * 100L), 2);
+    }
+}
@@ -0,0 +1,64 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.repository.JwtSigningKeyRepository;
+import com.authapp.backend.security.JwtKeyRing;
+import com.authapp.backend.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    /** 0 verifies the signature on every call; otherwise repeated tokens come from the cache. */
+    @Param({"0", "10000"})
+    private int verifiedCacheSize;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = newJwtService(verifiedCacheSize);
+        token = jwtService.generateToken(Fixtures.OWNER);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(Fixtures.OWNER);
+    }
+
+    @Benchmark
+    public JwtService.VerifiedToken verifyToken() {
+        return jwtService.verify(token);
+    }
+
+    /** ES256 service with a single in-memory key, as on a fresh install. */
+    static JwtService newJwtService(int verifiedCacheSize) {
+        JwtSigningKeyRepository keys = Stubs.repository(JwtSigningKeyRepository.class, Map.of(
+                "findAllByOrderByActivatesAtAsc", args -> List.of(),
+                "save", args -> args[0]));
+        JwtKeyRing keyRing = new JwtKeyRing(keys, Fixtures.JWT_SECRET, Duration.ofDays(1), Duration.ofMinutes(5), 300_000);
+        keyRing.init();
+        return new JwtService(keyRing, 300_000, verifiedCacheSize, new SimpleMeterRegistry());
+    }
+}
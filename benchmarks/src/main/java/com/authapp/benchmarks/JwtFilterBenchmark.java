@@ -0,0 +1,82 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.security.JwtAuthenticationFilter;
+import com.authapp.backend.repository.RevokedTokenRepository;
+import com.authapp.backend.security.JwtService;
+import com.authapp.backend.security.JwtService.VerifiedToken;
+import com.authapp.backend.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full pass of an authenticated request through {@link JwtAuthenticationFilter},
+ * with {@value #REVOKED} tokens on the deny-list, plus the revocation check alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final int REVOKED = 10_000;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private TokenRevocationList revocations;
+    private VerifiedToken verified;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtBenchmark.newJwtService(10_000);
+        revocations = new TokenRevocationList(Stubs.repository(RevokedTokenRepository.class, Map.of()),
+                300_000, 100_000, 1_000, new SimpleMeterRegistry());
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < REVOKED; i++) {
+            revocations.revoke(new VerifiedToken(Fixtures.OWNER, UUID.randomUUID().toString(), Instant.now(), expiresAt));
+        }
+        filter = new JwtAuthenticationFilter(jwtService, revocations);
+
+        String token = jwtService.generateToken(Fixtures.OWNER);
+        verified = jwtService.verify(token);
+        request = new MockHttpServletRequest("GET", "/api/finance/catalog");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void authenticatedRequest(Blackhole blackhole) throws Exception {
+        filter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean revocationCheck() {
+        return revocations.isRevoked(verified);
+    }
+}
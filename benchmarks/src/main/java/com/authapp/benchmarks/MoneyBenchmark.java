@@ -0,0 +1,62 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.entity.finance.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Summing stored amounts: the {@code BigDecimal.add} reduction the reports
+ * used before, against {@link Money} cents. Run with {@code -prof gc} to see
+ * the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1000000"})
+    public int amountCount;
+
+    private List<BigDecimal> amounts;
+
+    @Setup
+    public void setUp() {
+        amounts = Fixtures.amounts(amountCount);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalReduce() {
+        return amounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal moneySumming() {
+        return amounts.stream().collect(Money.summing(Function.identity())).toBigDecimal();
+    }
+
+    @Benchmark
+    public BigDecimal moneySumLoop() {
+        Money.Sum sum = new Money.Sum();
+        for (BigDecimal amount : amounts) {
+            sum.add(amount);
+        }
+        return sum.total().toBigDecimal();
+    }
+}
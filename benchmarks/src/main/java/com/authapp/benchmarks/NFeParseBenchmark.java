@@ -0,0 +1,44 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.service.finance.NFeXmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NFeParseBenchmark {
+
+    @Param({"10", "200"})
+    public int itemCount;
+
+    private NFeXmlParser parser;
+    private byte[] xml;
+
+    @Setup
+    public void setUp() {
+        parser = new NFeXmlParser();
+        xml = Fixtures.nfeXml(itemCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public NFeXmlParser.NFeDocument parse() throws Exception {
+        return parser.parse(new ByteArrayInputStream(xml));
+    }
+}
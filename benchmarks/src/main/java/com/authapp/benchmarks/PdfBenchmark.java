@@ -0,0 +1,76 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.cache.BroadcastingCacheManager;
+import com.authapp.backend.cache.LocalCacheInvalidationBus;
+import com.authapp.backend.entity.SystemConfig;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.entity.finance.Sale;
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.repository.SystemConfigRepository;
+import com.authapp.backend.service.PdfService;
+import com.authapp.backend.service.SystemConfigService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Document rendering for a tenant with company settings and a logo; the
+ * settings come from the cache as in the running application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PdfBenchmark {
+
+    @Param({"5", "50"})
+    public int itemCount;
+
+    private PdfService pdfService;
+    private Quote quote;
+    private ServiceOrder serviceOrder;
+    private Sale sale;
+
+    @Setup
+    public void setUp() {
+        SystemConfig config = Fixtures.systemConfig();
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        SystemConfigService systemConfigService = new SystemConfigService(
+                Stubs.repository(SystemConfigRepository.class, Map.of("findByOwnerEmail", args -> Optional.of(config))),
+                new BroadcastingCacheManager(Map.of(SystemConfigService.CACHE_NAME, "maximumSize=10"), bus));
+        pdfService = new PdfService(new SimpleMeterRegistry(), systemConfigService);
+        quote = Fixtures.quote(itemCount);
+        serviceOrder = Fixtures.serviceOrder(itemCount);
+        sale = Fixtures.sale(itemCount);
+    }
+
+    @Benchmark
+    public byte[] quotePdf() throws Exception {
+        return pdfService.generateQuotePdf(quote);
+    }
+
+    @Benchmark
+    public byte[] serviceOrderPdf() throws Exception {
+        return pdfService.generateServiceOrderPdf(serviceOrder);
+    }
+
+    @Benchmark
+    public byte[] salePdf() throws Exception {
+        return pdfService.generateSalePdf(sale);
+    }
+}
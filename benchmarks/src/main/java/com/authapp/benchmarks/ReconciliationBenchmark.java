@@ -0,0 +1,71 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.service.finance.reconciliation.BankStatementParser;
+import com.authapp.backend.service.finance.reconciliation.ReconciliationEngine;
+import com.authapp.backend.service.finance.reconciliation.StatementLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bank statement reconciliation: parsing an OFX or CNAB 240 file and matching
+ * its lines against as many pending entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconciliationBenchmark {
+
+    @Param({"5000", "50000"})
+    public int lineCount;
+
+    private BankStatementParser parser;
+    private ReconciliationEngine engine;
+    private List<FinancialEntry> entries;
+    private List<StatementLine> lines;
+    private byte[] ofx;
+    private byte[] cnab;
+
+    @Setup
+    public void setUp() throws IOException {
+        parser = new BankStatementParser();
+        engine = new ReconciliationEngine();
+        entries = Fixtures.pendingEntries(lineCount);
+        ofx = Fixtures.ofxStatement(entries).getBytes(StandardCharsets.ISO_8859_1);
+        cnab = Fixtures.cnabStatement(entries).getBytes(StandardCharsets.ISO_8859_1);
+        lines = parser.parse(new ByteArrayInputStream(ofx));
+    }
+
+    @Benchmark
+    public List<StatementLine> parseOfx() throws IOException {
+        return parser.parse(new ByteArrayInputStream(ofx));
+    }
+
+    @Benchmark
+    public List<StatementLine> parseCnab() throws IOException {
+        return parser.parse(new ByteArrayInputStream(cnab));
+    }
+
+    @Benchmark
+    public List<ReconciliationEngine.Match> match() {
+        return engine.match(lines, entries, 5);
+    }
+}
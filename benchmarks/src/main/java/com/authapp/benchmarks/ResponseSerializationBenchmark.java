@@ -0,0 +1,131 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.dto.finance.FinanceResponseMapper;
+import com.authapp.backend.dto.finance.FinanceResponseMapperImpl;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Sale;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing list responses: the {@code LinkedHashMap} rows and
+ * raw entities the controllers used to return, against the generated record
+ * mappers with Blackbird. Run with {@code -prof gc} for allocation per list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10000"})
+    public int rowCount;
+
+    private ObjectMapper reflection;
+    private ObjectMapper blackbird;
+    private FinanceResponseMapper mapper;
+    private List<FinancialEntry> entries;
+    private List<CatalogItem> catalog;
+    private List<Sale> sales;
+
+    @Setup
+    public void setUp() {
+        reflection = Jackson2ObjectMapperBuilder.json().build();
+        blackbird = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        mapper = new FinanceResponseMapperImpl();
+        entries = Fixtures.entries(rowCount);
+        catalog = Fixtures.catalog(rowCount);
+        sales = Fixtures.sales(rowCount);
+    }
+
+    @Benchmark
+    public byte[] entryMaps() throws Exception {
+        return reflection.writeValueAsBytes(entries.stream().map(ResponseSerializationBenchmark::entryMap).toList());
+    }
+
+    @Benchmark
+    public byte[] entryRecords() throws Exception {
+        return blackbird.writeValueAsBytes(entries.stream().map(mapper::toEntryResponse).toList());
+    }
+
+    @Benchmark
+    public byte[] entryRecordsWithoutBlackbird() throws Exception {
+        return reflection.writeValueAsBytes(entries.stream().map(mapper::toEntryResponse).toList());
+    }
+
+    @Benchmark
+    public byte[] catalogMaps() throws Exception {
+        return reflection.writeValueAsBytes(catalog.stream().map(ResponseSerializationBenchmark::catalogMap).toList());
+    }
+
+    @Benchmark
+    public byte[] catalogRecords() throws Exception {
+        return blackbird.writeValueAsBytes(catalog.stream().map(mapper::toCatalogResponse).toList());
+    }
+
+    @Benchmark
+    public byte[] saleEntities() throws Exception {
+        return reflection.writeValueAsBytes(sales);
+    }
+
+    @Benchmark
+    public byte[] saleRecords() throws Exception {
+        return blackbird.writeValueAsBytes(sales.stream().map(mapper::toSaleResponse).toList());
+    }
+
+    // The rows as EntryController and CatalogController built them before the typed responses.
+
+    private static Map<String, Object> entryMap(FinancialEntry entry) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", entry.getId());
+        response.put("type", entry.getType());
+        response.put("status", entry.getStatus());
+        response.put("amount", entry.getAmount());
+        response.put("category", entry.getCategory());
+        response.put("description", entry.getDescription());
+        response.put("dueDate", entry.getDueDate());
+        response.put("paidDate", entry.getPaidDate());
+        response.put("createdAt", entry.getCreatedAt());
+        response.put("recurrenceId", entry.getRecurrenceId());
+        return response;
+    }
+
+    private static Map<String, Object> catalogMap(CatalogItem item) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", item.getId());
+        response.put("name", item.getName());
+        response.put("sku", item.getSku() == null ? "" : item.getSku());
+        response.put("qrCode", item.getQrCode() == null ? "" : item.getQrCode());
+        response.put("type", item.getType());
+        response.put("unit", item.getUnit() == null ? "" : item.getUnit());
+        response.put("unitPrice", item.getUnitPrice());
+        response.put("costPrice", item.getCostPrice() == null ? BigDecimal.ZERO : item.getCostPrice());
+        response.put("description", item.getDescription() == null ? "" : item.getDescription());
+        response.put("productImageBase64", item.getProductImageBase64() == null ? "" : item.getProductImageBase64());
+        response.put("stockQuantity", item.getStockQuantity());
+        response.put("minStock", item.getMinStock());
+        response.put("createdAt", item.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,42 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.entity.finance.Sale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleTotalBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int basketSize;
+
+    private Sale sale;
+
+    @Setup
+    public void setUp() {
+        sale = Fixtures.sale(basketSize);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        sale.calculateTotal();
+        return sale.getTotal();
+    }
+}
@@ -0,0 +1,144 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.entity.finance.ServiceOrder;
+import com.authapp.backend.entity.finance.ServiceOrderStatus;
+import com.authapp.backend.repository.finance.ServiceOrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of {@code GET /api/finance/service-orders} for an owner with
+ * 100k orders: {@link ServiceOrderRepository#search} and its count query on
+ * an in-memory H2 database, with and without a free-text filter. PostgreSQL's
+ * pg_trgm indexes are not covered here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceOrderSearchBenchmark {
+
+    private static final int ORDER_COUNT = 100_000;
+    private static final String[] CUSTOMERS = {"Silva", "Souza", "Oliveira", "Pereira", "Costa", "Rodrigues", "Almeida"};
+    private static final String[] TECHNICIANS = {"Carlos", "Marina", "Joao", "Fernanda"};
+    private static final String[] JOBS = {"Troca de tela", "Revisao geral", "Instalacao eletrica", "Limpeza de ar condicionado"};
+
+    /** Empty for no filter; "silva" matches about a seventh of the orders, "inexistente" none. */
+    @Param({"", "silva", "inexistente"})
+    public String search;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private ServiceOrderRepository repository;
+    private String pattern;
+
+    @Setup
+    public void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:service-orders;DB_CLOSE_DELAY=-1");
+
+        // Hibernate creates EntityChangeListener through the bean container; nobody listens to its events here.
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        ApplicationEventPublisher noEvents = event -> {
+        };
+        beans.registerResolvableDependency(ApplicationEventPublisher.class, noEvents);
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.authapp.backend.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                AvailableSettings.HBM2DDL_AUTO, "create",
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beans)));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        try (Connection connection = dataSource.getConnection()) {
+            insertOrders(connection);
+        }
+
+        entityManager = entityManagerFactory.createEntityManager();
+        repository = new JpaRepositoryFactory(entityManager).getRepository(ServiceOrderRepository.class);
+        pattern = search.isEmpty() ? null : "%" + search + "%";
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Page<ServiceOrder> firstPage() {
+        Page<ServiceOrder> page = repository.search(Fixtures.OWNER, null, pattern, PageRequest.of(0, 100));
+        entityManager.clear();
+        return page;
+    }
+
+    private static void insertOrders(Connection connection) throws SQLException {
+        SplittableRandom random = new SplittableRandom(ORDER_COUNT);
+        ServiceOrderStatus[] statuses = ServiceOrderStatus.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        String sql = "INSERT INTO finance_service_orders (owner_email, customer_name, status, start_date, description, "
+                + "assigned_technician, labor_cost, parts_cost, total, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ORDER_COUNT; i++) {
+                LocalDateTime createdAt = start.plusMinutes(i * 7L);
+                BigDecimal labor = BigDecimal.valueOf(random.nextInt(5_000, 50_000), 2);
+                BigDecimal parts = BigDecimal.valueOf(random.nextInt(0, 80_000), 2);
+                statement.setString(1, Fixtures.OWNER);
+                statement.setString(2, "Cliente " + CUSTOMERS[random.nextInt(CUSTOMERS.length)] + " " + i);
+                statement.setString(3, statuses[random.nextInt(statuses.length)].name());
+                statement.setDate(4, Date.valueOf(createdAt.toLocalDate()));
+                statement.setString(5, JOBS[random.nextInt(JOBS.length)] + " - pedido " + i);
+                statement.setString(6, TECHNICIANS[random.nextInt(TECHNICIANS.length)]);
+                statement.setBigDecimal(7, labor);
+                statement.setBigDecimal(8, parts);
+                statement.setBigDecimal(9, labor.add(parts));
+                statement.setTimestamp(10, Timestamp.valueOf(createdAt));
+                statement.addBatch();
+                if (i % 1_000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+}
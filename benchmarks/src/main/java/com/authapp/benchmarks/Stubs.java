@@ -0,0 +1,35 @@
+package com.authapp.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories, so controller and filter
+ * code can be measured without a database.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a repository whose listed methods answer from {@code answers};
+     * any other call fails loudly so a benchmark never silently measures a no-op.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> R repository(Class<R> type, Map<String, Function<Object[], Object>> answers) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+}
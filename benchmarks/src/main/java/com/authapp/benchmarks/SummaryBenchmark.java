@@ -0,0 +1,72 @@
+package com.authapp.benchmarks;
+
+import com.authapp.backend.controller.finance.SummaryController;
+import com.authapp.backend.entity.finance.CatalogItem;
+import com.authapp.backend.entity.finance.Customer;
+import com.authapp.backend.entity.finance.FinancialEntry;
+import com.authapp.backend.entity.finance.Quote;
+import com.authapp.backend.repository.finance.CatalogItemRepository;
+import com.authapp.backend.repository.finance.CustomerRepository;
+import com.authapp.backend.repository.finance.FinancialEntryRepository;
+import com.authapp.backend.repository.finance.QuoteRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory part of {@code GET /api/finance/summary}: the aggregation over
+ * already-loaded entries, quotes and catalog items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int entryCount;
+
+    private SummaryController controller;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        List<FinancialEntry> entries = Fixtures.entries(entryCount);
+        List<Quote> quotes = Fixtures.quotes(entryCount / 10);
+        List<Customer> customers = Fixtures.customers(entryCount / 20);
+        List<CatalogItem> catalog = Fixtures.catalog(entryCount / 10);
+
+        controller = new SummaryController(
+                Stubs.repository(FinancialEntryRepository.class,
+                        Map.of("findByOwnerEmailOrderByCreatedAtDesc", args -> entries)),
+                Stubs.repository(QuoteRepository.class,
+                        Map.of("findByOwnerEmailOrderByCreatedAtDesc", args -> quotes)),
+                Stubs.repository(CustomerRepository.class,
+                        Map.of("findByOwnerEmailOrderByNameAsc", args -> customers)),
+                Stubs.repository(CatalogItemRepository.class,
+                        Map.of("findByOwnerEmailOrderByNameAsc", args -> catalog)));
+        authentication = new UsernamePasswordAuthenticationToken(Fixtures.OWNER, null, List.of());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> summary() {
+        return controller.summary(authentication, "2026-03");
+    }
+}
@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# Startup time and memory of the backend: plain `java -jar` (before) against the
+# layout the Docker image runs (after: Spring AOT, AppCDS archive and lazy
+# repositories, built the same way as backend/Dockerfile). Both start RUNS times,
+# alternating, on an in-memory H2 database; time-to-ready is measured until
+# /readyz (/actuator/health on older BASE commits) answers and RSS is taken at
+# that moment. BASE builds the "before" jar from another commit instead of the
+# working tree.
+#
+#   ./benchmarks/startup.sh
+#   RUNS=5 BASE=HEAD~3 ./benchmarks/startup.sh
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+RUNS="${RUNS:-3}"
+PORT="${PORT:-18081}"
+JAR="backend/target/backend-0.0.1-SNAPSHOT-exec.jar"
+WORK="benchmarks/target/startup"
+
+COMMIT="$(git rev-parse --short HEAD)"
+if ! git diff --quiet HEAD -- backend benchmarks; then
+    COMMIT="$COMMIT-dirty"
+fi
+RESULT="benchmarks/results/$COMMIT-startup.tsv"
+
+rm -rf "$WORK"
+git worktree prune
+mkdir -p "$WORK/before" "$WORK/after" benchmarks/results
+
+if [ -n "${BASE:-}" ]; then
+    git worktree add -q --detach "$WORK/base" "$BASE"
+    mvn -B -q -f "$WORK/base/backend/pom.xml" clean package -DskipTests
+    cp "$WORK/base/$JAR" "$WORK/before/app.jar"
+    git worktree remove --force "$WORK/base"
+else
+    mvn -B -q -f backend/pom.xml clean package -DskipTests
+    cp "$JAR" "$WORK/before/app.jar"
+fi
+
+JPA_REPOSITORIES_BOOTSTRAP_MODE=lazy mvn -B -q -f backend/pom.xml clean package -DskipTests -Paot
+cp "$JAR" "$WORK/after/app.jar"
+(
+    cd "$WORK/after"
+    java -Djarmode=tools -jar app.jar extract --destination application
+    rm app.jar
+    SPRING_DATASOURCE_URL=jdbc:h2:mem:cds SEARCH_INDEX_DIR="$(mktemp -d)" MAIL_USERNAME=cds MAIL_PASSWORD=cds \
+        java -XX:ArchiveClassesAtExit=application.jsa -Xlog:cds=off -Xlog:cds+dynamic=off \
+             -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh -jar application/app.jar > training.log 2>&1
+)
+
+# start <variant> <run> <java args...>: prints "<variant>\t<ready ms>\t<rss MB>"
+start() {
+    local variant=$1 run=$2
+    shift 2
+    local began pid ready rss
+    began=$(date +%s%N)
+    (
+        cd "$WORK/$variant"
+        SPRING_DATASOURCE_URL="jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1" \
+        SEARCH_INDEX_DIR="$(mktemp -d)" \
+        MAIL_USERNAME=startup MAIL_PASSWORD=startup \
+            exec java "$@" --server.port="$PORT" > "run-$run.log" 2>&1
+    ) &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/readyz" > /dev/null \
+        || curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "backend não subiu, veja $WORK/$variant/run-$run.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( ($(date +%s%N) - began) / 1000000 ))
+    rss=$(( $(ps -o rss= -p "$pid") / 1024 ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf '%s\t%d\t%d\n' "$variant" "$ready" "$rss"
+}
+
+printf 'variant\tready_ms\trss_mb\n' > "$RESULT"
+for run in $(seq 1 "$RUNS"); do
+    start before "$run" -jar app.jar >> "$RESULT"
+    JPA_REPOSITORIES_BOOTSTRAP_MODE=lazy \
+        start after "$run" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar application/app.jar >> "$RESULT"
+done
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+printf '%-8s %12s %10s\n' variante "pronto (ms)" "RSS (MB)"
+for variant in before after; do
+    printf '%-8s %12s %10s\n' "$variant" \
+        "$(awk -F'\t' -v v="$variant" '$1 == v { print $2 }' "$RESULT" | median)" \
+        "$(awk -F'\t' -v v="$variant" '$1 == v { print $3 }' "$RESULT" | median)"
+done
+echo "Resultados em $RESULT"
@@ -16,7 +16,7 @@ import SalesPage from "./pages/SalesPage";
 import PDVPage from "./pages/PDVPage";
 import NFeImportPage from "./pages/NFeImportPage";
 import SettingsPage from "./pages/SettingsPage";
-import { getToken, isTokenExpired } from "./services/authStorage";
+import { getToken, isSessionExpired } from "./services/authStorage";
 
 type PrivateRouteProps = {
     children: ReactNode;
@@ -24,7 +24,7 @@ type PrivateRouteProps = {
 
 function PrivateRoute({ children }: PrivateRouteProps) {
     const token = getToken();
-    if (!token || isTokenExpired()) {
+    if (!token || isSessionExpired()) {
         return <Navigate to="/login" replace />;
     }
     return children;
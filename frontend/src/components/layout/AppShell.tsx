@@ -1,7 +1,8 @@
 import { useEffect, useState } from "react";
 import type { ReactNode } from "react";
 import { NavLink, useNavigate } from "react-router-dom";
-import { clearSession } from "../../services/authStorage";
+import api from "../../services/api";
+import { clearSession, getRefreshToken } from "../../services/authStorage";
 
 type AppShellProps = {
     title: string;
@@ -23,6 +24,10 @@ export default function AppShell({ title, subtitle, children, actions }: AppShel
     }, [theme]);
 
     function handleLogout() {
+        const refreshToken = getRefreshToken();
+        if (refreshToken) {
+            api.post("/auth/logout", { refreshToken }).catch(() => undefined);
+        }
         clearSession();
         navigate("/login");
     }
@@ -2,7 +2,9 @@ import { useEffect, useMemo, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import AppShell from "../components/layout/AppShell";
 import api from "../services/api";
-import { clearSession, isTokenExpired } from "../services/authStorage";
+import { clearSession, isSessionExpired } from "../services/authStorage";
+import { subscribeDashboard } from "../services/liveUpdates";
+import type { LiveEvent } from "../services/liveUpdates";
 import type { Summary } from "../components/finance/FinanceContext";
 
 interface SalesStats {
@@ -34,6 +36,28 @@ interface RecentSale {
     saleDate: string;
 }
 
+type Section = "summary" | "sales" | "salesChart" | "topProducts" | "recentSales";
+
+const SECTIONS: Section[] = ["summary", "sales", "salesChart", "topProducts", "recentSales"];
+const RECENT_SALES_LIMIT = 5;
+const RELOAD_DELAY_MS = 300;
+
+function applyIncrements<T>(current: T | null, increments: Record<string, number>): T | null {
+    if (!current) return current;
+    const next: Record<string, unknown> = { ...(current as Record<string, unknown>) };
+    for (const [key, value] of Object.entries(increments)) {
+        if (typeof next[key] === "number") {
+            next[key] = (next[key] as number) + Number(value);
+        }
+    }
+    return next as T;
+}
+
+function withAverageTicket(stats: SalesStats | null): SalesStats | null {
+    if (!stats) return stats;
+    return { ...stats, averageTicket: stats.paid > 0 ? stats.totalRevenue / stats.paid : 0 };
+}
+
 export default function DashboardPage() {
     const navigate = useNavigate();
     const [summary, setSummary] = useState<Summary | null>(null);
@@ -43,45 +67,85 @@ export default function DashboardPage() {
     const [recentSales, setRecentSales] = useState<RecentSale[]>([]);
 
     useEffect(() => {
-        if (isTokenExpired()) {
+        if (isSessionExpired()) {
             clearSession();
             navigate("/login");
             return;
         }
 
         const interval = setInterval(() => {
-            if (isTokenExpired()) {
+            if (isSessionExpired()) {
                 clearSession();
                 navigate("/login");
             }
         }, 1000);
 
-        // Load summary
-        api.get<Summary>("/finance/summary")
-            .then((response) => setSummary(response.data))
-            .catch(() => setSummary(null));
-
-        // Load sales stats
-        api.get<SalesStats>("/dashboard/sales-stats")
-            .then((response) => setSalesStats(response.data))
-            .catch(() => setSalesStats(null));
+        const loaders: Record<Section, () => void> = {
+            summary: () => api.get<Summary>("/finance/summary")
+                .then((response) => setSummary(response.data))
+                .catch(() => setSummary(null)),
+            sales: () => api.get<SalesStats>("/dashboard/sales-stats")
+                .then((response) => setSalesStats(response.data))
+                .catch(() => setSalesStats(null)),
+            salesChart: () => api.get<SalesChart>("/dashboard/sales-chart")
+                .then((response) => setSalesChart(response.data))
+                .catch(() => setSalesChart(null)),
+            topProducts: () => api.get<TopProduct[]>("/dashboard/top-products")
+                .then((response) => setTopProducts(response.data))
+                .catch(() => setTopProducts([])),
+            recentSales: () => api.get<RecentSale[]>("/dashboard/recent-sales")
+                .then((response) => setRecentSales(response.data))
+                .catch(() => setRecentSales([]))
+        };
+        SECTIONS.forEach((section) => loaders[section]());
 
-        // Load sales chart
-        api.get<SalesChart>("/dashboard/sales-chart")
-            .then((response) => setSalesChart(response.data))
-            .catch(() => setSalesChart(null));
+        // Sections reported stale in a burst are reloaded once.
+        const pending = new Set<Section>();
+        let reloadTimer: ReturnType<typeof setTimeout> | undefined;
+        const reload = (sections: string[]) => {
+            sections.filter((section): section is Section => SECTIONS.includes(section as Section))
+                .forEach((section) => pending.add(section));
+            clearTimeout(reloadTimer);
+            reloadTimer = setTimeout(() => {
+                pending.forEach((section) => loaders[section]());
+                pending.clear();
+            }, RELOAD_DELAY_MS);
+        };
 
-        // Load top products
-        api.get<TopProduct[]>("/dashboard/top-products")
-            .then((response) => setTopProducts(response.data))
-            .catch(() => setTopProducts([]));
-
-        // Load recent sales
-        api.get<RecentSale[]>("/dashboard/recent-sales")
-            .then((response) => setRecentSales(response.data))
-            .catch(() => setRecentSales([]));
+        const onLiveEvent = ({ event, data }: LiveEvent) => {
+            if (event === "counters") {
+                const { section, increments } = data as { section: string; increments: Record<string, number> };
+                if (section === "summary") {
+                    setSummary((current) => applyIncrements(current, increments));
+                } else if (section === "sales") {
+                    setSalesStats((current) => withAverageTicket(applyIncrements(current, increments)));
+                }
+            } else if (event === "sale") {
+                const { action, ...sale } = data as RecentSale & { action: string };
+                if (action === "DELETED") {
+                    // The next most recent sale is not known here.
+                    reload(["recentSales"]);
+                    return;
+                }
+                setRecentSales((current) => {
+                    if (current.some((item) => item.id === sale.id)) {
+                        return current.map((item) => (item.id === sale.id ? sale : item));
+                    }
+                    return action === "CREATED" ? [sale, ...current].slice(0, RECENT_SALES_LIMIT) : current;
+                });
+            } else if (event === "stale") {
+                reload((data as { sections: string[] }).sections);
+            } else if (event === "resync") {
+                reload(SECTIONS);
+            }
+        };
+        const unsubscribe = subscribeDashboard(onLiveEvent);
 
-        return () => clearInterval(interval);
+        return () => {
+            clearInterval(interval);
+            clearTimeout(reloadTimer);
+            unsubscribe();
+        };
     }, [navigate]);
 
     const income = Number(summary?.monthlyIncome || 0);
@@ -4,6 +4,7 @@ import { Link, useNavigate } from "react-router-dom";
 import axios from "axios";
 import api from "../services/api";
 import { saveSession } from "../services/authStorage";
+import type { SessionTokens } from "../services/authStorage";
 import AuthCard from "../components/AuthCard";
 
 type LoginForm = {
@@ -11,9 +12,7 @@ type LoginForm = {
     password: string;
 };
 
-type LoginResponse = {
-    token: string;
-    expiresIn: number;
+type LoginResponse = SessionTokens & {
     name: string;
     email: string;
 };
@@ -31,7 +30,7 @@ export default function LoginPage() {
 
         try {
             const { data } = await api.post<LoginResponse>("/auth/login", form);
-            saveSession(data.token, data.expiresIn, { name: data.name, email: data.email });
+            saveSession(data, { name: data.name, email: data.email });
             navigate("/dashboard");
         } catch (error: unknown) {
             if (axios.isAxiosError(error)) {
@@ -2,7 +2,7 @@ import { useState, useEffect } from "react";
 import { useNavigate } from "react-router-dom";
 import AppShell from "../components/layout/AppShell";
 import api from "../services/api";
-import { isTokenExpired, clearSession } from "../services/authStorage";
+import { isSessionExpired, clearSession } from "../services/authStorage";
 
 type ServiceOrderStatus = "PENDING" | "IN_PROGRESS" | "PAUSED" | "COMPLETED" | "CANCELLED";
 
@@ -34,6 +34,8 @@ type Customer = {
     email?: string;
 };
 
+const PAGE_SIZE = 50;
+
 type CatalogItem = {
     id: number;
     name: string;
@@ -44,6 +46,9 @@ type CatalogItem = {
 export default function ServiceOrdersPage() {
     const navigate = useNavigate();
     const [orders, setOrders] = useState<ServiceOrder[]>([]);
+    const [page, setPage] = useState(0);
+    const [totalOrders, setTotalOrders] = useState(0);
+    const [totalPages, setTotalPages] = useState(1);
     const [customers, setCustomers] = useState<Customer[]>([]);
     const [catalog, setCatalog] = useState<CatalogItem[]>([]);
     const [showForm, setShowForm] = useState(false);
@@ -64,7 +69,7 @@ export default function ServiceOrdersPage() {
     });
 
     useEffect(() => {
-        if (isTokenExpired()) {
+        if (isSessionExpired()) {
             clearSession();
             navigate("/login");
             return;
@@ -73,15 +78,18 @@ export default function ServiceOrdersPage() {
         loadData();
     }, [navigate]);
 
-    const loadData = async () => {
+    const loadData = async (targetPage = page) => {
         try {
             const [ordersRes, customersRes, catalogRes] = await Promise.all([
-                api.get<ServiceOrder[]>("/finance/service-orders"),
+                api.get<ServiceOrder[]>("/finance/service-orders", { params: { page: targetPage, size: PAGE_SIZE } }),
                 api.get<Customer[]>("/finance/customers"),
                 api.get<CatalogItem[]>("/finance/catalog"),
             ]);
 
             setOrders(ordersRes.data);
+            setPage(targetPage);
+            setTotalOrders(Number(ordersRes.headers["x-total-count"] ?? ordersRes.data.length));
+            setTotalPages(Math.max(Number(ordersRes.headers["x-total-pages"] ?? 1), 1));
             setCustomers(customersRes.data);
             setCatalog(catalogRes.data);
         } catch (error) {
@@ -157,7 +165,7 @@ export default function ServiceOrdersPage() {
                 assignedTechnician: "",
                 items: [],
             });
-            loadData();
+            loadData(0);
         } catch (error) {
             console.error("Erro ao criar ordem de serviço:", error);
             alert("Erro ao criar ordem de serviço");
@@ -219,7 +227,7 @@ export default function ServiceOrdersPage() {
                     <div className="section-header-modern">
                         <div>
                             <h2>🔧 Ordens de Serviço</h2>
-                            <p className="section-subtitle">{orders.length} ordens registradas</p>
+                            <p className="section-subtitle">{totalOrders} ordens registradas</p>
                         </div>
                         <button
                             className="btn-primary-modern"
@@ -502,6 +510,28 @@ export default function ServiceOrdersPage() {
                             </tbody>
                         </table>
                     </div>
+
+                    {totalPages > 1 && (
+                        <div className="section-header-modern">
+                            <button
+                                className="btn-secondary"
+                                type="button"
+                                disabled={page === 0}
+                                onClick={() => loadData(page - 1)}
+                            >
+                                ← Anterior
+                            </button>
+                            <span>Página {page + 1} de {totalPages}</span>
+                            <button
+                                className="btn-secondary"
+                                type="button"
+                                disabled={page + 1 >= totalPages}
+                                onClick={() => loadData(page + 1)}
+                            >
+                                Próxima →
+                            </button>
+                        </div>
+                    )}
                 </section>
             </div>
         </AppShell>
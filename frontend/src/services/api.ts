@@ -1,12 +1,64 @@
 import axios from "axios";
-import { getToken } from "./authStorage";
+import type { AxiosError, InternalAxiosRequestConfig } from "axios";
+import { clearSession, getRefreshToken, getToken, isTokenExpired, saveTokens } from "./authStorage";
+import type { SessionTokens } from "./authStorage";
 
-const api = axios.create({
-    baseURL: import.meta.env.VITE_API_URL || "http://localhost:8080/api",
-});
+export const baseURL = import.meta.env.VITE_API_URL || "http://localhost:8080/api";
 
-api.interceptors.request.use((config) => {
-    const token = getToken();
+const api = axios.create({ baseURL });
+
+type RetriableConfig = InternalAxiosRequestConfig & { _retried?: boolean };
+
+let refreshing: Promise<string> | null = null;
+
+// Refresh tokens rotate on every use, so concurrent callers must share one exchange:
+// within a tab through `refreshing`, across tabs through a Web Lock. A tab that waited
+// on the lock finds the tokens another tab saved meanwhile and does not spend its own,
+// already rotated, refresh token (the server would take that as reuse).
+function refreshSession(): Promise<string> {
+    if (!refreshing) {
+        const seenRefreshToken = getRefreshToken();
+        refreshing = withRefreshLock(() => {
+            const refreshToken = getRefreshToken();
+            const token = getToken();
+            if (refreshToken !== seenRefreshToken && token && !isTokenExpired()) {
+                return Promise.resolve(token);
+            }
+            return refreshToken
+                ? axios.post<SessionTokens>(`${baseURL}/auth/refresh`, { refreshToken }).then(({ data }) => {
+                      saveTokens(data);
+                      return data.token;
+                  })
+                : Promise.reject(new Error("Sem sessão"));
+        }).finally(() => {
+            refreshing = null;
+        });
+    }
+    return refreshing;
+}
+
+function withRefreshLock(exchange: () => Promise<string>): Promise<string> {
+    return navigator.locks ? navigator.locks.request("auth-refresh", exchange) : exchange();
+}
+
+const SESSION_PATHS = ["/auth/login", "/auth/register", "/auth/refresh", "/auth/logout", "/auth/forgot-password", "/auth/reset-password"];
+
+function isAuthRequest(config?: InternalAxiosRequestConfig) {
+    return SESSION_PATHS.includes(config?.url ?? "");
+}
+
+function endSession() {
+    clearSession();
+    if (window.location.pathname !== "/login") {
+        window.location.assign("/login");
+    }
+}
+
+api.interceptors.request.use(async (config) => {
+    let token = getToken();
+    if (token && isTokenExpired() && getRefreshToken() && !isAuthRequest(config)) {
+        token = await refreshSession().catch(() => token);
+    }
     if (token) {
         config.headers = config.headers ?? {};
         config.headers.Authorization = `Bearer ${token}`;
@@ -14,4 +66,39 @@ api.interceptors.request.use((config) => {
     return config;
 });
 
+api.interceptors.response.use(undefined, async (error: AxiosError) => {
+    const config = error.config as RetriableConfig | undefined;
+    if (error.response?.status !== 401 || !config || config._retried || isAuthRequest(config) || !getRefreshToken()) {
+        return Promise.reject(error);
+    }
+    config._retried = true;
+    try {
+        const token = await refreshSession();
+        config.headers.Authorization = `Bearer ${token}`;
+        return api(config);
+    } catch {
+        endSession();
+        return Promise.reject(error);
+    }
+});
+
+/** Access token for requests made outside axios, refreshed first when it has expired. */
+export async function freshAccessToken(): Promise<string | null> {
+    const token = getToken();
+    if (token && isTokenExpired() && getRefreshToken()) {
+        return refreshSession().catch(() => null);
+    }
+    return token;
+}
+
+/** Exchanges the refresh token after a 401 outside axios; ends the session when that fails. */
+export async function renewSession(): Promise<string> {
+    try {
+        return await refreshSession();
+    } catch (error) {
+        endSession();
+        throw error;
+    }
+}
+
 export default api;
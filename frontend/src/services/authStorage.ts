@@ -1,6 +1,8 @@
 const TOKEN_KEY = "auth_token";
 const EXP_KEY = "auth_expiration";
 const USER_KEY = "auth_user";
+const REFRESH_KEY = "auth_refresh_token";
+const REFRESH_EXP_KEY = "auth_refresh_expiration";
 
 export type UserProfile = {
     name: string;
@@ -8,17 +10,33 @@ export type UserProfile = {
     avatarBase64?: string | null;
 };
 
-export function saveSession(token: string, expiresInSeconds: number, user: UserProfile) {
-    const expiration = Date.now() + expiresInSeconds * 1000;
-    localStorage.setItem(TOKEN_KEY, token);
-    localStorage.setItem(EXP_KEY, String(expiration));
+export type SessionTokens = {
+    token: string;
+    expiresIn: number;
+    refreshToken: string;
+    refreshExpiresIn: number;
+};
+
+export function saveSession(tokens: SessionTokens, user: UserProfile) {
+    saveTokens(tokens);
     localStorage.setItem(USER_KEY, JSON.stringify(user));
 }
 
+export function saveTokens(tokens: SessionTokens) {
+    localStorage.setItem(TOKEN_KEY, tokens.token);
+    localStorage.setItem(EXP_KEY, String(Date.now() + tokens.expiresIn * 1000));
+    localStorage.setItem(REFRESH_KEY, tokens.refreshToken);
+    localStorage.setItem(REFRESH_EXP_KEY, String(Date.now() + tokens.refreshExpiresIn * 1000));
+}
+
 export function getToken(): string | null {
     return localStorage.getItem(TOKEN_KEY);
 }
 
+export function getRefreshToken(): string | null {
+    return localStorage.getItem(REFRESH_KEY);
+}
+
 export function getUser(): UserProfile | null {
     const data = localStorage.getItem(USER_KEY);
     if (!data) return null;
@@ -39,8 +57,17 @@ export function isTokenExpired(): boolean {
     return Date.now() > Number(exp);
 }
 
+/** The access token is short-lived; the session lasts as long as the refresh token. */
+export function isSessionExpired(): boolean {
+    const exp = localStorage.getItem(REFRESH_EXP_KEY);
+    if (!exp || !getRefreshToken()) return true;
+    return Date.now() > Number(exp);
+}
+
 export function clearSession() {
     localStorage.removeItem(TOKEN_KEY);
     localStorage.removeItem(EXP_KEY);
     localStorage.removeItem(USER_KEY);
+    localStorage.removeItem(REFRESH_KEY);
+    localStorage.removeItem(REFRESH_EXP_KEY);
 }
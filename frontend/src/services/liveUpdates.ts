@@ -0,0 +1,104 @@
+import { baseURL, freshAccessToken, renewSession } from "./api";
+
+export type LiveEvent = {
+    event: string;
+    data: unknown;
+};
+
+const RETRY_MS = 5000;
+const MAX_RETRY_MS = 60000;
+
+/**
+ * Follows the dashboard event stream until the returned function is called.
+ * EventSource cannot send the Authorization header, so the stream is read with fetch.
+ * The server ends it when the access token would expire and it is reopened with a
+ * fresh one; after any reconnect a "resync" event is emitted, since updates sent
+ * while disconnected are lost.
+ */
+export function subscribeDashboard(onEvent: (event: LiveEvent) => void): () => void {
+    const controller = new AbortController();
+    const { signal } = controller;
+
+    const run = async () => {
+        let retryMs = RETRY_MS;
+        let connectedBefore = false;
+        while (!signal.aborted) {
+            try {
+                const token = await freshAccessToken();
+                if (!token) {
+                    return;
+                }
+                const response = await fetch(`${baseURL}/live/dashboard`, {
+                    headers: { Authorization: `Bearer ${token}`, Accept: "text/event-stream" },
+                    signal
+                });
+                if (response.status === 401) {
+                    await renewSession();
+                    continue;
+                }
+                if (!response.ok || !response.body) {
+                    const retryAfter = Number(response.headers.get("Retry-After"));
+                    await sleep(retryAfter > 0 ? retryAfter * 1000 : retryMs, signal);
+                    retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+                    continue;
+                }
+                retryMs = RETRY_MS;
+                if (connectedBefore) {
+                    onEvent({ event: "resync", data: {} });
+                }
+                connectedBefore = true;
+                await readEvents(response.body, onEvent);
+            } catch {
+                if (signal.aborted) {
+                    return;
+                }
+                await sleep(retryMs, signal);
+                retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+            }
+        }
+    };
+
+    void run();
+    return () => controller.abort();
+}
+
+async function readEvents(body: ReadableStream<Uint8Array>, onEvent: (event: LiveEvent) => void) {
+    const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = "";
+    for (;;) {
+        const { value, done } = await reader.read();
+        if (done) {
+            return;
+        }
+        buffer += value.replace(/\r\n/g, "\n");
+        let end = buffer.indexOf("\n\n");
+        while (end >= 0) {
+            const block = buffer.slice(0, end);
+            buffer = buffer.slice(end + 2);
+            let event = "message";
+            const data: string[] = [];
+            for (const line of block.split("\n")) {
+                if (line.startsWith("event:")) {
+                    event = line.slice(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data.push(line.slice(5).replace(/^ /, ""));
+                }
+            }
+            // Comment-only blocks (heartbeats) carry no data.
+            if (data.length > 0) {
+                onEvent({ event, data: JSON.parse(data.join("\n")) });
+            }
+            end = buffer.indexOf("\n\n");
+        }
+    }
+}
+
+function sleep(ms: number, signal: AbortSignal) {
+    return new Promise<void>((resolve) => {
+        const timer = setTimeout(resolve, ms);
+        signal.addEventListener("abort", () => {
+            clearTimeout(timer);
+            resolve();
+        }, { once: true });
+    });
+}
@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Runs the load test. Without BASE_URL a fresh backend is started on an
+# in-memory H2 database and stopped afterwards; set BASE_URL to target a
+# running instance (e.g. the docker-compose stack on PostgreSQL).
+#
+#   ./loadtest/run.sh --users=50 --duration=2m
+#   VIRTUAL_THREADS_ENABLED=true ./loadtest/run.sh
+#   BASE_URL=http://localhost:8080 ./loadtest/run.sh --tenants=20
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+mvn -B -q -f loadtest/pom.xml package
+
+COMMIT="$(git rev-parse --short HEAD)"
+MODE="platform"
+[ "${VIRTUAL_THREADS_ENABLED:-false}" = "true" ] && MODE="virtual"
+REPORT="loadtest/reports/$(date +%Y%m%d-%H%M%S)-$COMMIT-$MODE.json"
+
+if [ -z "${BASE_URL:-}" ]; then
+    PORT="${PORT:-18080}"
+    BASE_URL="http://localhost:$PORT"
+    mvn -B -q -f backend/pom.xml package -DskipTests
+    SPRING_DATASOURCE_URL="jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1" \
+    SEARCH_INDEX_DIR="$(mktemp -d)" \
+    MAIL_USERNAME=loadtest MAIL_PASSWORD=loadtest \
+    VIRTUAL_THREADS_ENABLED="${VIRTUAL_THREADS_ENABLED:-false}" \
+    AUTH_RATE_LIMIT_ENABLED=false \
+        java ${BACKEND_JAVA_OPTS:-} -jar backend/target/backend-0.0.1-SNAPSHOT-exec.jar --server.port="$PORT" \
+        > loadtest/target/backend.log 2>&1 &
+    BACKEND_PID=$!
+    trap 'kill $BACKEND_PID 2>/dev/null || true' EXIT
+    for _ in $(seq 1 90); do
+        curl -sf "$BASE_URL/readyz" > /dev/null && break
+        sleep 1
+    done
+    curl -sf "$BASE_URL/readyz" > /dev/null || { echo "backend não subiu, veja loadtest/target/backend.log" >&2; exit 1; }
+fi
+
+java -Dstdout.encoding=UTF-8 -Dstderr.encoding=UTF-8 -jar loadtest/target/loadtest.jar --base-url="$BASE_URL" --report="$REPORT" "$@"
@@ -0,0 +1,119 @@
+package com.authapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Thin JSON client over {@link HttpClient}. Calls made with a label are
+ * timed into {@link EndpointStats}; the label should be the route template
+ * (e.g. {@code GET /api/finance/sales/{id}/pdf}) so ids don't explode the report.
+ */
+final class ApiClient {
+
+    static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final EndpointStats stats;
+
+    ApiClient(HttpClient http, URI baseUrl, EndpointStats stats) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    JsonNode get(String label, String path, String token) throws IOException, InterruptedException {
+        return parse(send(label, request(path, token).GET()));
+    }
+
+    byte[] download(String label, String path, String token) throws IOException, InterruptedException {
+        return send(label, request(path, token).GET()).body();
+    }
+
+    JsonNode post(String label, String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+        return parse(send(label, builder));
+    }
+
+    JsonNode upload(String label, String path, String token, String fileName, byte[] content)
+            throws IOException, InterruptedException {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/xml\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[head.length + content.length + tail.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(content, 0, body, head.length, content.length);
+        System.arraycopy(tail, 0, body, head.length + content.length, tail.length);
+
+        HttpRequest.Builder builder = request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        return parse(send(label, builder));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(String label, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpRequest request = builder.build();
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            if (label != null) {
+                stats.record(label, System.nanoTime() - start, false);
+            }
+            throw e;
+        }
+        boolean success = response.statusCode() < 400;
+        if (label != null) {
+            stats.record(label, System.nanoTime() - start, success);
+        }
+        if (!success) {
+            throw new ApiException(request.method() + " " + request.uri().getPath(), response.statusCode(),
+                    new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response;
+    }
+
+    private static JsonNode parse(HttpResponse<byte[]> response) throws IOException {
+        byte[] body = response.body();
+        return body.length == 0 ? JSON.nullNode() : JSON.readTree(body);
+    }
+
+    static final class ApiException extends IOException {
+
+        final int status;
+
+        ApiException(String request, int status, String body) {
+            super(request + " -> " + status + ": " + (body.length() > 200 ? body.substring(0, 200) : body));
+            this.status = status;
+        }
+    }
+}
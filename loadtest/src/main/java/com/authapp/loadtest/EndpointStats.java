@@ -0,0 +1,62 @@
+package com.authapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint label. Samples taken
+ * before {@link #startMeasuring()} (the warm-up) are dropped.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void startMeasuring() {
+        startedAt = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        stoppedAt = System.nanoTime();
+        measuring = false;
+    }
+
+    double measuredSeconds() {
+        long end = stoppedAt > 0 ? stoppedAt : System.nanoTime();
+        return (end - startedAt) / 1_000_000_000.0;
+    }
+
+    void record(String label, long elapsedNanos, boolean success) {
+        if (!measuring) {
+            return;
+        }
+        Endpoint endpoint = endpoints.computeIfAbsent(label, key -> new Endpoint());
+        endpoint.latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            endpoint.errors.increment();
+        }
+    }
+
+    /** Endpoints sorted by label. */
+    Map<String, Endpoint> snapshot() {
+        return new TreeMap<>(endpoints);
+    }
+
+    static final class Endpoint {
+
+        final Histogram latencyMicros = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,129 @@
+package com.authapp.loadtest;
+
+import com.authapp.loadtest.ApiClient.ApiException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds synthetic tenants and then drives a weighted mix of scenarios from
+ * {@code --users} concurrent virtual users for {@code --warmup} plus
+ * {@code --duration}. See {@code loadtest/README.md} for the options.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient http = ApiClient.newHttpClient();
+        EndpointStats stats = new EndpointStats();
+        ApiClient api = new ApiClient(http, options.baseUrl(), stats);
+
+        List<Tenant> tenants = seed(api, options);
+        run(api, tenants, stats, options);
+
+        Report.print(stats, System.out);
+        Report.write(stats, options, options.report());
+        System.out.println("Relatório salvo em " + options.report().toAbsolutePath());
+    }
+
+    private static List<Tenant> seed(ApiClient api, LoadTestOptions options) throws Exception {
+        long start = System.nanoTime();
+        System.out.printf("Preparando %d tenants em %s...%n", options.tenants(), options.baseUrl());
+        TenantDataGenerator generator = new TenantDataGenerator(api, options);
+        List<Tenant> tenants = new ArrayList<>(options.tenants());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Tenant>> futures = new ArrayList<>();
+            for (int i = 0; i < options.tenants(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> generator.seed(index)));
+            }
+            for (Future<Tenant> future : futures) {
+                tenants.add(future.get());
+            }
+        }
+        System.out.printf("Dados prontos em %.1fs%n", (System.nanoTime() - start) / 1e9);
+        return tenants;
+    }
+
+    private static void run(ApiClient api, List<Tenant> tenants, EndpointStats stats, LoadTestOptions options)
+            throws InterruptedException {
+        Scenario[] wheel = weightedWheel(options.mix());
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        AtomicLong failures = new AtomicLong();
+
+        System.out.printf("Aquecimento de %ds, medição de %ds com %d usuários...%n",
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.users());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                SplittableRandom random = new SplittableRandom(options.seed() * 31 + user);
+                Tenant tenant = tenants.get(user % tenants.size());
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        Scenario scenario = wheel[random.nextInt(wheel.length)];
+                        try {
+                            scenario.run(api, tenant, random);
+                        } catch (ApiException e) {
+                            if (failures.incrementAndGet() <= 10) {
+                                System.err.println(scenario.cliName() + ": " + e.getMessage());
+                            }
+                            if (e.status == 401) {
+                                relogin(api, tenant);
+                            }
+                        } catch (Exception e) {
+                            if (failures.incrementAndGet() <= 10) {
+                                System.err.println(scenario.cliName() + ": " + e);
+                            }
+                        }
+                        pause(options.thinkTime());
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(Math.max(0, (warmupEnd - System.nanoTime()) / 1_000_000));
+            stats.startMeasuring();
+            Thread.sleep(Math.max(0, (end - System.nanoTime()) / 1_000_000));
+            stats.stopMeasuring();
+        }
+    }
+
+    private static void relogin(ApiClient api, Tenant tenant) {
+        try {
+            Scenario.LOGIN.run(api, tenant, new SplittableRandom());
+        } catch (Exception ignored) {
+            // Next iteration retries; the failure is already counted in the stats.
+        }
+    }
+
+    private static Scenario[] weightedWheel(Map<Scenario, Integer> mix) {
+        List<Scenario> wheel = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        return wheel.toArray(Scenario[]::new);
+    }
+
+    private static void pause(Duration thinkTime) {
+        if (thinkTime.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(thinkTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
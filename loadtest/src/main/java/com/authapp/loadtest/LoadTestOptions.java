@@ -0,0 +1,104 @@
+package com.authapp.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, given as {@code --name=value}. Every option has a
+ * default, so a bare run seeds a small data set and drives a local backend.
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        int tenants,
+        int customers,
+        int catalogItems,
+        int sales,
+        int quotes,
+        int serviceOrders,
+        int entries,
+        int users,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        long seed,
+        Map<Scenario, Integer> mix,
+        Path report
+) {
+
+    private static final Set<String> KNOWN = Set.of(
+            "base-url", "tenants", "customers", "catalog-items", "sales", "quotes", "orders", "entries",
+            "users", "warmup", "duration", "think-time", "seed", "mix", "report");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                integer(values, "tenants", 5),
+                integer(values, "customers", 50),
+                integer(values, "catalog-items", 200),
+                integer(values, "sales", 100),
+                integer(values, "quotes", 30),
+                integer(values, "orders", 30),
+                integer(values, "entries", 300),
+                integer(values, "users", 20),
+                duration(values, "warmup", "10s"),
+                duration(values, "duration", "60s"),
+                duration(values, "think-time", "0ms"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                mix(values.getOrDefault("mix", "login:5,dashboard:40,scan-and-sell:40,nfe-import:5,pdf:10")),
+                Path.of(values.getOrDefault("report", "target/report-" + System.currentTimeMillis() + ".json"))
+        );
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Opções desconhecidas: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static int integer(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /** Accepts {@code 500ms}, {@code 30s} or {@code 5m}. */
+    private static Duration duration(Map<String, String> values, String name, String defaultValue) {
+        String value = values.getOrDefault(name, defaultValue).trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duração inválida para --" + name + ": " + value);
+        };
+    }
+
+    /** Parses {@code scenario:weight} pairs, e.g. {@code dashboard:60,pdf:40}. */
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix precisa de pelo menos um cenário com peso positivo");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,79 @@
+package com.authapp.loadtest;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Per-endpoint throughput and latency percentiles, printed as a table and
+ * written as JSON for comparison between runs.
+ */
+final class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private Report() {
+    }
+
+    static void print(EndpointStats stats, PrintStream out) {
+        double seconds = stats.measuredSeconds();
+        out.printf("%n%-48s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats.Endpoint> entry : stats.snapshot().entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros;
+            long errors = entry.getValue().errors.sum();
+            totalRequests += histogram.getTotalCount();
+            totalErrors += errors;
+            out.printf("%-48s %9d %7d %9.1f", entry.getKey(), histogram.getTotalCount(), errors,
+                    histogram.getTotalCount() / seconds);
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.1f", histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            out.printf(" %9.1f%n", histogram.getMaxValue() / 1000.0);
+        }
+        out.printf("%-48s %9d %7d %9.1f%n%n", "TOTAL", totalRequests, totalErrors, totalRequests / seconds);
+    }
+
+    static void write(EndpointStats stats, LoadTestOptions options, Path file) throws IOException {
+        ObjectNode root = ApiClient.JSON.createObjectNode();
+        root.put("finishedAt", Instant.now().toString());
+        root.put("baseUrl", options.baseUrl().toString());
+        root.put("users", options.users());
+        root.put("tenants", options.tenants());
+        root.put("measuredSeconds", stats.measuredSeconds());
+        ObjectNode mix = root.putObject("mix");
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.cliName(), weight));
+
+        ArrayNode endpoints = root.putArray("endpoints");
+        for (Map.Entry<String, EndpointStats.Endpoint> entry : stats.snapshot().entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros;
+            ObjectNode node = endpoints.addObject();
+            node.put("endpoint", entry.getKey());
+            node.put("requests", histogram.getTotalCount());
+            node.put("errors", entry.getValue().errors.sum());
+            node.put("throughput", histogram.getTotalCount() / stats.measuredSeconds());
+            ObjectNode latency = node.putObject("latencyMs");
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                        histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latency.put("max", histogram.getMaxValue() / 1000.0);
+            latency.put("mean", histogram.getMean() / 1000.0);
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ApiClient.JSON.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+}
@@ -0,0 +1,144 @@
+package com.authapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One user action as the frontend performs it. Each run issues the same
+ * requests, in the same order, as the corresponding page.
+ */
+enum Scenario {
+
+    LOGIN("login") {
+        @Override
+        void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException {
+            JsonNode response = api.post("POST /api/auth/login", "/api/auth/login", null,
+                    Map.of("email", tenant.email, "password", tenant.password));
+            tenant.token = response.path("token").asText();
+            api.get("GET /api/auth/me", "/api/auth/me", tenant.token);
+        }
+    },
+
+    /** One refresh of DashboardPage. */
+    DASHBOARD("dashboard") {
+        @Override
+        void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException {
+            api.get("GET /api/finance/summary", "/api/finance/summary", tenant.token);
+            api.get("GET /api/dashboard/sales-stats", "/api/dashboard/sales-stats", tenant.token);
+            api.get("GET /api/dashboard/sales-chart", "/api/dashboard/sales-chart", tenant.token);
+            api.get("GET /api/dashboard/top-products", "/api/dashboard/top-products", tenant.token);
+            api.get("GET /api/dashboard/recent-sales", "/api/dashboard/recent-sales", tenant.token);
+        }
+    },
+
+    /** PDVPage: scan a few codes, then close the sale. */
+    SCAN_AND_SELL("scan-and-sell") {
+        @Override
+        void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException {
+            List<Tenant.CatalogRef> basket = TenantDataGenerator.pick(tenant.catalog, random, 1 + random.nextInt(6));
+            List<Tenant.CatalogRef> scanned = new ArrayList<>(basket.size());
+            for (Tenant.CatalogRef item : basket) {
+                JsonNode found = api.get("GET /api/finance/catalog/qrcode/{qrCode}",
+                        "/api/finance/catalog/qrcode/" + item.code(), tenant.token);
+                scanned.add(new Tenant.CatalogRef(found.path("id").asLong(), item.code()));
+            }
+            api.post("POST /api/finance/sales", "/api/finance/sales", tenant.token,
+                    TenantDataGenerator.sale(scanned, random));
+        }
+    },
+
+    /** Stock entry from a supplier invoice, mixing known and new products. */
+    NFE_IMPORT("nfe-import") {
+        @Override
+        void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException {
+            byte[] xml = nfeXml(tenant, random, 5 + random.nextInt(20)).getBytes(StandardCharsets.UTF_8);
+            api.upload("POST /api/finance/nfe-import/upload", "/api/finance/nfe-import/upload", tenant.token,
+                    "nfe.xml", xml);
+        }
+    },
+
+    PDF("pdf") {
+        @Override
+        void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException {
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    if (!tenant.quoteIds.isEmpty()) {
+                        api.download("GET /api/finance/quotes/{id}/pdf",
+                                "/api/finance/quotes/" + any(tenant.quoteIds, random) + "/pdf", tenant.token);
+                    }
+                }
+                case 1 -> {
+                    if (!tenant.serviceOrderIds.isEmpty()) {
+                        api.download("GET /api/finance/service-orders/{id}/pdf",
+                                "/api/finance/service-orders/" + any(tenant.serviceOrderIds, random) + "/pdf", tenant.token);
+                    }
+                }
+                default -> {
+                    if (!tenant.saleIds.isEmpty()) {
+                        api.download("GET /api/finance/sales/{id}/pdf",
+                                "/api/finance/sales/" + any(tenant.saleIds, random) + "/pdf", tenant.token);
+                    }
+                }
+            }
+        }
+    };
+
+    private final String cliName;
+
+    Scenario(String cliName) {
+        this.cliName = cliName;
+    }
+
+    abstract void run(ApiClient api, Tenant tenant, SplittableRandom random) throws IOException, InterruptedException;
+
+    String cliName() {
+        return cliName;
+    }
+
+    static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.cliName.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Cenário desconhecido: " + name);
+    }
+
+    private static long any(List<Long> ids, SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static String nfeXml(Tenant tenant, SplittableRandom random, int itemCount) {
+        StringBuilder xml = new StringBuilder(512 + itemCount * 400)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<nfeProc xmlns=\"http://www.portalfiscal.inf.br/nfe\"><NFe><infNFe>")
+                .append("<ide><nNF>").append(random.nextInt(1_000_000)).append("</nNF></ide>")
+                .append("<emit><xNome>Fornecedor Load Test</xNome></emit>");
+        for (int i = 0; i < itemCount; i++) {
+            // Half of the lines hit existing catalog codes (stock update), half a bounded
+            // pool of supplier codes (created once, updated afterwards).
+            String ean = random.nextBoolean() && !tenant.catalog.isEmpty()
+                    ? tenant.catalog.get(random.nextInt(tenant.catalog.size())).code()
+                    : String.format("78%03d%08d", tenant.index % 1000, random.nextInt(200));
+            xml.append("<det><prod>")
+                    .append("<cProd>F").append(ean).append("</cProd>")
+                    .append("<cEAN>").append(ean).append("</cEAN>")
+                    .append("<xProd>Produto fornecedor ").append(ean).append("</xProd>")
+                    .append("<NCM>84713012</NCM><CFOP>1102</CFOP><uCom>UN</uCom>")
+                    .append("<qCom>").append(1 + random.nextInt(20)).append(".0000</qCom>")
+                    .append("<vUnCom>").append(BigDecimal.valueOf(100 + random.nextInt(20_000), 2)).append("</vUnCom>")
+                    .append("</prod></det>");
+        }
+        return xml.append("</infNFe></NFe><protNFe><infProt><chNFe>")
+                .append(String.format("%044d", random.nextLong(Long.MAX_VALUE)))
+                .append("</chNFe></infProt></protNFe></nfeProc>")
+                .toString();
+    }
+}
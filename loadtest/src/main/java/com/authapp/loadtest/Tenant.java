@@ -0,0 +1,34 @@
+package com.authapp.loadtest;
+
+import java.util.List;
+
+/**
+ * A seeded owner account and the ids the scenarios pick from. The token is
+ * replaced whenever a scenario logs in again.
+ */
+final class Tenant {
+
+    final int index;
+    final String email;
+    final String password;
+    final List<CatalogRef> catalog;
+    final List<Long> quoteIds;
+    final List<Long> serviceOrderIds;
+    final List<Long> saleIds;
+    volatile String token;
+
+    Tenant(int index, String email, String password, String token, List<CatalogRef> catalog,
+           List<Long> quoteIds, List<Long> serviceOrderIds, List<Long> saleIds) {
+        this.index = index;
+        this.email = email;
+        this.password = password;
+        this.token = token;
+        this.catalog = catalog;
+        this.quoteIds = quoteIds;
+        this.serviceOrderIds = serviceOrderIds;
+        this.saleIds = saleIds;
+    }
+
+    record CatalogRef(long id, String code) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.authapp.loadtest;
+
+import com.authapp.loadtest.ApiClient.ApiException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds one tenant through the public REST API, so every row goes through
+ * the same validation, listeners and side effects as production traffic.
+ *
+ * <p>Seeding is idempotent: accounts are reused and each entity type is only
+ * topped up to the requested count, so the same options can be run again
+ * against a persistent database without growing it.
+ */
+final class TenantDataGenerator {
+
+    static final String PASSWORD = "loadtest123";
+
+    private static final String[] CATEGORIES = {"Aluguel", "Fornecedores", "Serviços", "Vendas", "Impostos", "Folha"};
+    private static final String[] PAYMENT_METHODS = {"MONEY", "CREDIT_CARD", "DEBIT_CARD", "PIX"};
+
+    private final ApiClient api;
+    private final LoadTestOptions options;
+
+    TenantDataGenerator(ApiClient api, LoadTestOptions options) {
+        this.api = api;
+        this.options = options;
+    }
+
+    Tenant seed(int index) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed() + index);
+        String email = "loadtest-" + index + "@example.com";
+        String token = register(email);
+        LocalDate today = LocalDate.now();
+
+        JsonNode catalog = api.get(null, "/api/finance/catalog", token);
+        for (int i = catalog.size(); i < options.catalogItems(); i++) {
+            api.post(null, "/api/finance/catalog", token, catalogItem(index, i, random));
+        }
+
+        int customers = api.get(null, "/api/finance/customers", token).size();
+        for (int i = customers; i < options.customers(); i++) {
+            api.post(null, "/api/finance/customers", token, Map.of(
+                    "name", "Cliente " + i,
+                    "email", "cliente" + i + "@loadtest.example.com",
+                    "phone", String.format("(11) 9%04d-%04d", random.nextInt(10_000), random.nextInt(10_000))));
+        }
+
+        int entries = api.get(null, "/api/finance/entries", token).size();
+        for (int i = entries; i < options.entries(); i++) {
+            api.post(null, "/api/finance/entries", token, entry(i, today, random));
+        }
+
+        List<Tenant.CatalogRef> refs = catalogRefs(api.get(null, "/api/finance/catalog", token));
+
+        int quotes = api.get(null, "/api/finance/quotes", token).size();
+        for (int i = quotes; i < options.quotes(); i++) {
+            api.post(null, "/api/finance/quotes", token, quote(i, today, refs, random));
+        }
+
+        int orders = api.get(null, "/api/finance/service-orders?size=500", token).size();
+        for (int i = orders; i < Math.min(options.serviceOrders(), 500); i++) {
+            api.post(null, "/api/finance/service-orders", token, serviceOrder(i, today, random));
+        }
+
+        int sales = api.get(null, "/api/finance/sales", token).size();
+        for (int i = sales; i < options.sales(); i++) {
+            api.post(null, "/api/finance/sales", token, sale(pick(refs, random, 1 + random.nextInt(5)), random));
+        }
+
+        return new Tenant(index, email, PASSWORD, token, refs,
+                ids(api.get(null, "/api/finance/quotes", token)),
+                ids(api.get(null, "/api/finance/service-orders?size=500", token)),
+                ids(api.get(null, "/api/finance/sales", token)));
+    }
+
+    private String register(String email) throws IOException, InterruptedException {
+        try {
+            api.post(null, "/api/auth/register", null, Map.of(
+                    "name", "Load Test " + email, "email", email, "password", PASSWORD));
+        } catch (ApiException e) {
+            if (e.status != 400 && e.status != 409) {
+                throw e;
+            }
+        }
+        return api.post(null, "/api/auth/login", null, Map.of("email", email, "password", PASSWORD))
+                .path("token").asText();
+    }
+
+    static Map<String, Object> sale(List<Tenant.CatalogRef> items, SplittableRandom random) {
+        List<Map<String, Object>> saleItems = new ArrayList<>();
+        for (Tenant.CatalogRef item : items) {
+            saleItems.add(Map.of(
+                    "description", "Item " + item.code(),
+                    "quantity", 1 + random.nextInt(3),
+                    "unit", "UN",
+                    "unitPrice", money(random, 5, 300),
+                    "productId", item.id()));
+        }
+        return Map.of(
+                "customerName", "Venda PDV",
+                "status", "PAID",
+                "paymentMethod", PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)],
+                "items", saleItems,
+                "notes", "Venda gerada pelo load test");
+    }
+
+    static List<Tenant.CatalogRef> pick(List<Tenant.CatalogRef> refs, SplittableRandom random, int count) {
+        List<Tenant.CatalogRef> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !refs.isEmpty(); i++) {
+            picked.add(refs.get(random.nextInt(refs.size())));
+        }
+        return picked;
+    }
+
+    private static Map<String, Object> catalogItem(int tenant, int i, SplittableRandom random) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("name", "Produto " + i);
+        item.put("sku", "SKU-" + i);
+        item.put("qrCode", String.format("79%03d%08d", tenant % 1000, i));
+        item.put("type", i % 10 == 0 ? "SERVICE" : "PRODUCT");
+        item.put("unit", "UN");
+        item.put("unitPrice", money(random, 5, 500));
+        item.put("costPrice", money(random, 1, 250));
+        item.put("description", "Produto gerado pelo load test");
+        // Large stock so generated sales never hit the stock validation.
+        item.put("stockQuantity", 1_000_000);
+        item.put("minStock", random.nextInt(20));
+        return item;
+    }
+
+    private static Map<String, Object> entry(int i, LocalDate today, SplittableRandom random) {
+        LocalDate dueDate = today.minusDays(random.nextInt(365)).plusDays(30);
+        boolean paid = dueDate.isBefore(today) && random.nextInt(4) > 0;
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", random.nextBoolean() ? "INCOME" : "EXPENSE");
+        entry.put("status", paid ? "PAID" : "PENDING");
+        entry.put("amount", money(random, 10, 5000));
+        entry.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        entry.put("description", "Lançamento " + i);
+        entry.put("dueDate", dueDate.toString());
+        if (paid) {
+            entry.put("paidDate", dueDate.toString());
+        }
+        return entry;
+    }
+
+    private static Map<String, Object> quote(int i, LocalDate today, List<Tenant.CatalogRef> refs, SplittableRandom random) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Tenant.CatalogRef ref : pick(refs, random, 1 + random.nextInt(8))) {
+            items.add(Map.of(
+                    "catalogItemId", ref.id(),
+                    "description", "Item " + ref.code(),
+                    "unit", "UN",
+                    "quantity", 1 + random.nextInt(5),
+                    "unitPrice", money(random, 5, 500)));
+        }
+        String[] statuses = {"DRAFT", "SENT", "APPROVED", "REJECTED"};
+        return Map.of(
+                "customerName", "Cliente " + random.nextInt(Math.max(1, i + 1)),
+                "status", statuses[random.nextInt(statuses.length)],
+                "issueDate", today.toString(),
+                "validUntil", today.plusDays(15).toString(),
+                "notes", "Orçamento gerado pelo load test",
+                "items", items);
+    }
+
+    private static Map<String, Object> serviceOrder(int i, LocalDate today, SplittableRandom random) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int j = 0, n = 1 + random.nextInt(4); j < n; j++) {
+            items.add(Map.of(
+                    "itemName", "Peça " + j,
+                    "description", "Peça de reposição",
+                    "quantity", 1 + random.nextInt(3),
+                    "unitPrice", money(random, 10, 400),
+                    "isService", j == 0));
+        }
+        String[] statuses = {"PENDING", "IN_PROGRESS", "PAUSED", "COMPLETED"};
+        return Map.of(
+                "customerName", "Cliente " + i,
+                "customerPhone", "(11) 98888-0000",
+                "status", statuses[random.nextInt(statuses.length)],
+                "startDate", today.minusDays(random.nextInt(60)).toString(),
+                "estimatedEndDate", today.plusDays(random.nextInt(15)).toString(),
+                "description", "Manutenção de equipamento " + i,
+                "assignedTechnician", "Técnico " + random.nextInt(5),
+                "items", items);
+    }
+
+    private static List<Tenant.CatalogRef> catalogRefs(JsonNode catalog) {
+        List<Tenant.CatalogRef> refs = new ArrayList<>(catalog.size());
+        for (JsonNode item : catalog) {
+            String code = item.path("qrCode").asText("");
+            if (!code.isEmpty()) {
+                refs.add(new Tenant.CatalogRef(item.path("id").asLong(), code));
+            }
+        }
+        return refs;
+    }
+
+    private static List<Long> ids(JsonNode list) {
+        List<Long> ids = new ArrayList<>(list.size());
+        list.forEach(node -> ids.add(node.path("id").asLong()));
+        return ids;
+    }
+
+    private static BigDecimal money(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextLong((max - min) * 100L), 2);
+    }
+}